@@ -15,6 +15,7 @@
 package app;
 
 import app.modules.*;
+import java.io.UncheckedIOException;
 
 /**
  * Main class that serves as the entry point for the Xpense application.
@@ -38,14 +39,46 @@ public class Main {
      * After initialization, the CLI interface is launched to provide interactive
      * menu-driven access to all system features.
      * 
-     * @param args Command line arguments (currently unused)
+     * Non-interactive commands can be given as the first argument:
+     * - snapshot-export / snapshot-import / snapshot-bench: see {@link SnapshotTool}
+     * - import &lt;file&gt;: bulk import of expenditures, see {@link ImportTool}
+     * 
+     * Write-behind persistence is enabled with -Dxpense.writeBehind=true, tuned by
+     * -Dxpense.writeBehind.capacity (pending changes before callers block, default 1000)
+     * and -Dxpense.writeBehind.maxLagMillis (default 200). Pending writes are flushed
+     * when the menu exits and, on Ctrl+C, by a shutdown hook.
+     * 
+     * @param args Command line arguments (optional command)
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            if ("import".equals(args[0])) {
+                System.exit(new ImportTool().run(args.length > 1 ? args[1] : null));
+            }
+            System.exit(new SnapshotTool().run(args[0]));
+        }
+        
         // Initialize the core expense management system with alert thresholds
-        XpenseSystem system = new XpenseSystem(100.0, 5000.0);
+        XpenseSystem system;
+        try {
+            system = new XpenseSystem(100.0, 5000.0);
+        } catch (UncheckedIOException e) {
+            System.out.println(e.getMessage() + ": " + e.getCause().getMessage());
+            System.exit(2);
+            return;
+        }
+        if (Boolean.getBoolean("xpense.writeBehind")) {
+            system.enableWriteBehind(Integer.getInteger("xpense.writeBehind.capacity", 1000),
+                    Long.getLong("xpense.writeBehind.maxLagMillis", 200L));
+        }
+        // Make sure queued writes reach disk even if the menu is interrupted
+        Runtime.getRuntime().addShutdownHook(new Thread(system::close, "xpense-shutdown"));
         
         // Create and launch the command-line interface
         CLIHandler cli = new CLIHandler(system);
         cli.displayMenu();
+        
+        // Write anything still pending before exiting
+        system.close();
     }
 }
\ No newline at end of file
@@ -1,45 +1,59 @@
 package app.modules;
 
+import app.util.IndexedMinHeap;
 import app.util.MinHeap;
+import app.util.SimpleArrayList;
 
 public class AlertSystem {
     private static class Alert {
         String message;
         int priority;
+        long sequence;  // breaks priority ties so equal alerts come out oldest first
 
-        Alert(String message, int priority) {
+        Alert(String message, int priority, long sequence) {
             this.message  = message;
             this.priority = priority;
+            this.sequence = sequence;
         }
     }
 
-    private final MinHeap<Alert> heap;
+    private final IndexedMinHeap<Alert> heap;
+    private long nextSequence;
     private final double lowBalanceThreshold;
     private final double spendingLimitThreshold;
 
     public AlertSystem(double lowBalanceThreshold, double spendingLimitThreshold) {
         this.lowBalanceThreshold    = lowBalanceThreshold;
         this.spendingLimitThreshold = spendingLimitThreshold;
-        this.heap = new MinHeap<>(new MinHeap.PriorityComparator<Alert>() {
+        this.heap = new IndexedMinHeap<>(new MinHeap.PriorityComparator<Alert>() {
             public int compare(Alert a, Alert b) {
-                return a.priority - b.priority;
+                if (a.priority != b.priority) return Integer.compare(a.priority, b.priority);
+                return Long.compare(a.sequence, b.sequence);
             }
         });
     }
 
-    public void addAlert(String message, int priority) {
-        heap.insert(new Alert(message, priority));
+    public synchronized void addAlert(String message, int priority) {
+        heap.insert(new Alert(message, priority, nextSequence++));
     }
 
-    public String getNextAlert() {
+    public synchronized String getNextAlert() {
         Alert alert = heap.removeMin();
         return alert == null ? null : alert.message;
     }
 
-    public boolean hasAlerts() {
+    public synchronized boolean hasAlerts() {
         return !heap.isEmpty();
     }
 
+    public synchronized int getAlertCount() {
+        return heap.size();
+    }
+
+    public synchronized void clearAlerts() {
+        heap.clear();
+    }
+
     public boolean checkLowFunds(String accountId, double currentBalance) {
         if (currentBalance < lowBalanceThreshold) {
             addAlert("Account " + accountId + " is low on funds: GHc " + currentBalance, 1);
@@ -48,14 +62,34 @@ public class AlertSystem {
         return false;
     }
 
-    public void displayAllAlerts() {
-        if (!hasAlerts()) {
+    // Prints the active alerts by priority; they stay active until taken with getNextAlert or dismissed.
+    // Returns a mark to pass to dismissAlerts, so alerts raised after the display are kept
+    public long displayAllAlerts() {
+        SimpleArrayList<Alert> alerts;
+        long mark;
+        synchronized (this) {
+            alerts = heap.toSortedList();
+            mark = nextSequence;
+        }
+        if (alerts.size() == 0) {
             System.out.println("No active alerts.");
-            return;
+            return mark;
         }
         System.out.println("=== ALERTS ===");
-        while (hasAlerts()) {
-            System.out.println("• " + getNextAlert());
+        for (int i = 0; i < alerts.size(); i++) {
+            System.out.println("• " + alerts.get(i).message);
+        }
+        return mark;
+    }
+
+    // Removes the alerts raised before the mark returned by displayAllAlerts; returns how many were removed
+    public synchronized int dismissAlerts(long mark) {
+        SimpleArrayList<IndexedMinHeap.Handle<Alert>> handles = heap.handles();
+        int removed = 0;
+        for (int i = 0; i < handles.size(); i++) {
+            IndexedMinHeap.Handle<Alert> handle = handles.get(i);
+            if (handle.getValue().sequence < mark && heap.remove(handle)) removed++;
         }
+        return removed;
     }
 }
\ No newline at end of file
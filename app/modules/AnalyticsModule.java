@@ -4,37 +4,107 @@ import app.util.*;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.function.Function;
 
 public class AnalyticsModule {
+
+    /** Lists at least this long are aggregated with a parallel stream */
+    static final int PARALLEL_THRESHOLD = 20_000;
+
+    /**
+     * Count and total amount per group key, in order of first appearance.
+     *
+     * Amounts with at most two decimal places (the usual case) are summed as
+     * a long number of pesewas; any other amount, or a sum that would overflow,
+     * goes to a BigDecimal remainder. Totals are returned at the largest scale
+     * seen in the group, so they equal a plain BigDecimal sum exactly.
+     */
+    private static final class Tallies<K> {
+        private final ObjectIntHashMap<K> groups = new ObjectIntHashMap<>();
+        private final IntArrayList counts = new IntArrayList();
+        private final LongArrayList pesewas = new LongArrayList();
+        private final IntArrayList scales = new IntArrayList();
+        private final SimpleArrayList<BigDecimal> remainders = new SimpleArrayList<>();
+
+        void add(K key, BigDecimal amount) {
+            int g = group(key);
+            int scale = amount.scale();
+            counts.increment(g, 1);
+            if (scale > scales.get(g)) scales.set(g, scale);
+            // At most 15 integer digits, so the amount in pesewas fits a long with room to spare
+            if (scale >= 0 && scale <= 2 && amount.precision() - scale <= 15) {
+                long units = amount.unscaledValue().longValue() * (scale == 2 ? 1 : scale == 1 ? 10 : 100);
+                long before = pesewas.get(g);
+                long sum = before + units;
+                // Overflow only if both operands have the same sign and the result's sign differs
+                if (((before ^ sum) & (units ^ sum)) >= 0) {
+                    pesewas.set(g, sum);
+                    return;
+                }
+            }
+            BigDecimal rest = remainders.get(g);
+            remainders.set(g, rest == null ? amount : rest.add(amount));
+        }
+
+        void addAll(Tallies<K> other) {
+            for (int i = 0; i < other.size(); i++) {
+                int g = group(other.keyAt(i));
+                counts.increment(g, other.counts.get(i));
+                scales.set(g, Math.max(scales.get(g), other.scales.get(i)));
+                BigDecimal rest = remainders.get(g);
+                BigDecimal theirs = BigDecimal.valueOf(other.pesewas.get(i), 2);
+                if (other.remainders.get(i) != null) theirs = theirs.add(other.remainders.get(i));
+                remainders.set(g, rest == null ? theirs : rest.add(theirs));
+            }
+        }
+
+        private int group(K key) {
+            int g = groups.getOrDefault(key, -1);
+            if (g < 0) {
+                g = groups.size();
+                groups.put(key, g);
+                counts.add(0);
+                pesewas.add(0);
+                scales.add(Integer.MIN_VALUE);
+                remainders.add(null);
+            }
+            return g;
+        }
+
+        int size() { return groups.size(); }
+        K keyAt(int i) { return groups.getKeyAt(i); }
+        int count(int i) { return counts.get(i); }
+
+        BigDecimal total(int i) {
+            BigDecimal total = BigDecimal.valueOf(pesewas.get(i), 2);
+            if (remainders.get(i) != null) total = total.add(remainders.get(i));
+            return total.setScale(scales.get(i));
+        }
+
+        BigDecimal grandTotal() {
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i = 0; i < size(); i++) total = total.add(total(i));
+            return total;
+        }
+
+        int indexOf(K key) { return groups.getOrDefault(key, -1); }
+    }
     
     public BigDecimal calculateMonthlyBurn(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() == 0) return BigDecimal.ZERO;
-        BigDecimal total = BigDecimal.ZERO;
-        SimpleSet<String> months = new SimpleSet<>();
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
-            total = total.add(e.getAmount());
-            months.add(e.getDateTime().getYear() + "-" + e.getDateTime().getMonthValue());
-        }
+        Tallies<String> months = tallyBy(expenditures,
+                e -> e.getDateTime().getYear() + "-" + e.getDateTime().getMonthValue());
         int monthCount = months.size() == 0 ? 1 : months.size();
-        return total.divide(BigDecimal.valueOf(monthCount), 2, RoundingMode.HALF_UP);
+        return months.grandTotal().divide(BigDecimal.valueOf(monthCount), 2, RoundingMode.HALF_UP);
     }
 
     public String generateCostAnalysis(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() == 0) return "No expenditures to analyze.";
-        BigDecimal total = BigDecimal.ZERO;
-        SimpleMap<String, BigDecimal> categoryTotals = new SimpleMap<>();
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
-            total = total.add(e.getAmount());
-            String cat = e.getCategory().getName();
-            BigDecimal prev = categoryTotals.get(cat);
-            categoryTotals.put(cat, prev == null ? e.getAmount() : prev.add(e.getAmount()));
-        }
+        Tallies<String> categoryTotals = tallyBy(expenditures, e -> e.getCategory().getName());
         StringBuilder sb = new StringBuilder();
-        sb.append("Total Expenditure: GHc ").append(total).append("\nBy Category:\n");
+        sb.append("Total Expenditure: GHc ").append(categoryTotals.grandTotal()).append("\nBy Category:\n");
         for (int i = 0; i < categoryTotals.size(); i++) {
-            sb.append("  ").append(categoryTotals.getKeyAt(i)).append(": GHc ").append(categoryTotals.getAt(i)).append("\n");
+            sb.append("  ").append(categoryTotals.keyAt(i)).append(": GHc ").append(categoryTotals.total(i)).append("\n");
         }
         return sb.toString();
     }
@@ -42,19 +112,14 @@ public class AnalyticsModule {
     // Enhanced financial analysis methods
     public BigDecimal calculateWeeklyBurn(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() == 0) return BigDecimal.ZERO;
-        BigDecimal total = BigDecimal.ZERO;
-        SimpleSet<String> weeks = new SimpleSet<>();
-        
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
-            total = total.add(e.getAmount());
+        Tallies<String> weeks = tallyBy(expenditures, e -> {
             LocalDate date = e.getDateTime().toLocalDate();
             int weekOfYear = date.getDayOfYear() / 7;
-            weeks.add(date.getYear() + "-W" + weekOfYear);
-        }
+            return date.getYear() + "-W" + weekOfYear;
+        });
         
         int weekCount = weeks.size() == 0 ? 1 : weeks.size();
-        return total.divide(BigDecimal.valueOf(weekCount), 2, RoundingMode.HALF_UP);
+        return weeks.grandTotal().divide(BigDecimal.valueOf(weekCount), 2, RoundingMode.HALF_UP);
     }
     
     public String generateProfitabilityForecast(SimpleArrayList<Expenditure> expenditures, 
@@ -81,23 +146,19 @@ public class AnalyticsModule {
     
     public String analyzeBuildingMaterialCosts(SimpleArrayList<Expenditure> expenditures, 
                                              BigDecimal targetHousePrice) {
-        BigDecimal materialCosts = BigDecimal.ZERO;
-        int materialCount = 0;
-        
         // Calculate costs for construction-related categories
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
+        Tallies<Boolean> byMaterial = tallyBy(expenditures, e -> {
             String category = e.getCategory().getName().toLowerCase();
             String phase = e.getPhase().toLowerCase();
             
-            if (phase.contains("construction") || 
-                category.contains("cement") || category.contains("steel") || 
-                category.contains("brick") || category.contains("material") ||
-                category.contains("concrete") || category.contains("lumber")) {
-                materialCosts = materialCosts.add(e.getAmount());
-                materialCount++;
-            }
-        }
+            return phase.contains("construction") || 
+                   category.contains("cement") || category.contains("steel") || 
+                   category.contains("brick") || category.contains("material") ||
+                   category.contains("concrete") || category.contains("lumber");
+        });
+        int materials = byMaterial.indexOf(Boolean.TRUE);
+        BigDecimal materialCosts = materials < 0 ? BigDecimal.ZERO : byMaterial.total(materials);
+        int materialCount = materials < 0 ? 0 : byMaterial.count(materials);
         
         BigDecimal materialPercentage = BigDecimal.ZERO;
         if (targetHousePrice.compareTo(BigDecimal.ZERO) > 0) {
@@ -126,29 +187,37 @@ public class AnalyticsModule {
     public String generatePhaseAnalysis(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() == 0) return "No expenditures to analyze.";
         
-        SimpleMap<String, BigDecimal> phaseTotals = new SimpleMap<>();
-        SimpleMap<String, Integer> phaseCounts = new SimpleMap<>();
-        
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
-            String phase = e.getPhase();
-            
-            BigDecimal prevTotal = phaseTotals.get(phase);
-            Integer prevCount = phaseCounts.get(phase);
-            
-            phaseTotals.put(phase, prevTotal == null ? e.getAmount() : prevTotal.add(e.getAmount()));
-            phaseCounts.put(phase, prevCount == null ? 1 : prevCount + 1);
-        }
+        Tallies<String> phaseTotals = tallyBy(expenditures, Expenditure::getPhase);
         
         StringBuilder sb = new StringBuilder();
         sb.append("=== EXPENDITURE BY PHASE ===\n");
         for (int i = 0; i < phaseTotals.size(); i++) {
-            String phase = phaseTotals.getKeyAt(i);
-            BigDecimal total = phaseTotals.getAt(i);
-            Integer count = phaseCounts.get(phase);
-            sb.append(phase).append(": GHc ").append(total).append(" (").append(count).append(" expenses)\n");
+            String phase = phaseTotals.keyAt(i);
+            sb.append(phase).append(": GHc ").append(phaseTotals.total(i)).append(" (").append(phaseTotals.count(i)).append(" expenses)\n");
         }
         
         return sb.toString();
     }
+
+    /**
+     * Totals and counts the expenditures per key. Groups are in order of first
+     * appearance in the list. Large lists are split across cores; the partial
+     * results are merged left to right, so the outcome is the same as a
+     * sequential pass.
+     */
+    private static <K> Tallies<K> tallyBy(SimpleArrayList<Expenditure> expenditures,
+                                          Function<Expenditure, K> key) {
+        if (expenditures.size() < PARALLEL_THRESHOLD) {
+            Tallies<K> groups = new Tallies<>();
+            for (int i = 0; i < expenditures.size(); i++) {
+                Expenditure e = expenditures.get(i);
+                groups.add(key.apply(e), e.getAmount());
+            }
+            return groups;
+        }
+        return expenditures.parallelStream().collect(
+                Tallies::new,
+                (groups, e) -> groups.add(key.apply(e), e.getAmount()),
+                Tallies::addAll);
+    }
 }
\ No newline at end of file
@@ -51,6 +51,9 @@ public class BankAccount {
     /** List of all expenditures associated with this account */
     private final SimpleArrayList<Expenditure> expenditures = new SimpleArrayList<>();
 
+    /** Change counter, bumped whenever a field stored in accounts.txt changes */
+    private long version;
+
     /**
      * Creates a new BankAccount with zero initial balance.
      * 
@@ -102,16 +105,19 @@ public class BankAccount {
     /** @return List of all expenditures associated with this account */
     public SimpleArrayList<Expenditure> getExpenditures() { return expenditures; }
 
+    /** @return Change counter, bumped by every credit, debit or change to a stored field */
+    public long getVersion() { return version; }
+
     // Setter methods with documentation
     
     /** @param accountNumber The new account number to set */
-    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+    public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; version++; }
     
     /** @param accountName The new account name to set */
-    public void setAccountName(String accountName) { this.accountName = accountName; }
+    public void setAccountName(String accountName) { this.accountName = accountName; version++; }
     
     /** @param balance The new balance to set */
-    public void setBalance(BigDecimal balance) { this.balance = balance; }
+    public void setBalance(BigDecimal balance) { this.balance = balance; version++; }
     
     /** @param createdDate The new creation date to set */
     public void setCreatedDate(LocalDate createdDate) { this.createdDate = createdDate; }
@@ -137,6 +143,7 @@ public class BankAccount {
         
         // Perform the debit operation
         balance = balance.subtract(amount);
+        version++;
         return true;
     }
 
@@ -155,6 +162,7 @@ public class BankAccount {
         
         // Perform the credit operation
         balance = balance.add(amount);
+        version++;
         return true;
     }
 
@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 public class BankLedger {
     private final SimpleMap<String, BankAccount> accounts;
     private final AlertSystem alertSystem;
+    private long version; // Bumped whenever an account is added; balance changes are counted by the accounts
 
     public BankLedger(AlertSystem alertSystem) {
         this.accounts = new SimpleMap<>();
@@ -16,6 +17,7 @@ public class BankLedger {
         if (account == null || account.getAccountNumber() == null) return false;
         if (accounts.containsKey(account.getAccountNumber())) return false;
         accounts.put(account.getAccountNumber(), account);
+        version++;
         return true;
     }
 
@@ -40,4 +42,17 @@ public class BankLedger {
         }
         return debited;
     }
+
+    /**
+     * Includes the accounts' own counters, so credits and debits made directly
+     * on a BankAccount are noticed as well.
+     * @return change counter, bumped whenever accounts.txt would need rewriting
+     */
+    public long getVersion() {
+        long total = version;
+        for (int i = 0; i < accounts.size(); i++) {
+            total += accounts.getAt(i).getVersion();
+        }
+        return total;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/**
+ * BatchResult.java
+ *
+ * Per-row outcome of a bulk expenditure import in the Nkwa Real Estate
+ * Expenditure Management System.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.math.BigDecimal;
+
+/**
+ * BatchResult records, for every row of a batch passed to
+ * {@link XpenseSystem#addExpenditures(SimpleArrayList)}, whether it was added
+ * and why not if it was rejected, together with the batch totals.
+ */
+public class BatchResult {
+    /**
+     * The outcome of one row of the batch.
+     */
+    public static class Row {
+        private final int index;
+        private final String expenditureId;
+        private final boolean added;
+        private final String message;
+
+        Row(int index, String expenditureId, boolean added, String message) {
+            this.index = index;
+            this.expenditureId = expenditureId;
+            this.added = added;
+            this.message = message;
+        }
+
+        /** @return Position of the row in the batch (0-based) */
+        public int getIndex() { return index; }
+
+        /** @return ID of the expenditure (generated if the row had none), or null if unknown */
+        public String getExpenditureId() { return expenditureId; }
+
+        /** @return true if the row was added */
+        public boolean isAdded() { return added; }
+
+        /** @return "added", or the reason the row was rejected */
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return "row " + (index + 1) + ": " + (expenditureId != null ? expenditureId + " " : "") + message;
+        }
+    }
+
+    /** Outcome of every row, in batch order */
+    private final SimpleArrayList<Row> rows = new SimpleArrayList<>();
+
+    /** Number of rows added */
+    private int addedCount;
+
+    /** Sum of the amounts of the added rows */
+    private BigDecimal totalAdded = BigDecimal.ZERO;
+
+    /** Number of accounts debited */
+    private int accountsDebited;
+
+    void added(int index, Expenditure exp) {
+        rows.add(new Row(index, exp.getId(), true, "added"));
+        addedCount++;
+        totalAdded = totalAdded.add(exp.getAmount());
+    }
+
+    void rejected(int index, Expenditure exp, String reason) {
+        String id = exp != null && exp.getId() != null && !exp.getId().isBlank() ? exp.getId() : null;
+        rows.add(new Row(index, id, false, reason));
+    }
+
+    void setAccountsDebited(int accountsDebited) {
+        this.accountsDebited = accountsDebited;
+    }
+
+    /** @return The outcome of every row, in batch order */
+    public SimpleArrayList<Row> getRows() { return rows; }
+
+    /** @return Number of rows added */
+    public int getAddedCount() { return addedCount; }
+
+    /** @return Number of rows rejected */
+    public int getRejectedCount() { return rows.size() - addedCount; }
+
+    /** @return Sum of the amounts of the added rows */
+    public BigDecimal getTotalAdded() { return totalAdded; }
+
+    /** @return Number of bank accounts debited (one debit per account) */
+    public int getAccountsDebited() { return accountsDebited; }
+
+    /**
+     * @return e.g. "980 added, 20 rejected, GHc 152300.00 debited from 3 accounts"
+     */
+    public String getSummary() {
+        return addedCount + " added, " + getRejectedCount() + " rejected, GHc " + totalAdded
+                + " debited from " + accountsDebited + " account" + (accountsDebited == 1 ? "" : "s");
+    }
+}
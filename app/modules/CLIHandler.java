@@ -21,9 +21,14 @@ package app.modules;
 
 import app.util.*;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.util.Scanner;
+import java.util.function.Function;
 
 /**
  * CLIHandler manages the command-line user interface for the Xpense application.
@@ -68,6 +73,9 @@ public class CLIHandler {
     /** Scanner for reading user input from the command line */
     private final Scanner scanner;
 
+    /** Buffered output for tables, flushed once per page rather than once per row */
+    private final PrintWriter tableOut = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16), false);
+
     /**
      * Constructs a new CLIHandler with the specified XpenseSystem.
      * 
@@ -138,7 +146,7 @@ public class CLIHandler {
                 case "5": listBankAccounts(); break;
                 case "6": addCategory(); break;
                 case "7": listCategories(); break;
-                case "8": xpense.getAlertSystem().displayAllAlerts(); waitForKeyPress(); break;
+                case "8": viewAlerts(); waitForKeyPress(); break;
                 case "9": searchAndSortMenu(); break;
                 case "10": generateReportsMenu(); break;
                 case "11": bankOverviewMenu(); break;
@@ -218,14 +226,7 @@ public class CLIHandler {
             }
         }
         
-        Category category = null;
-        SimpleArrayList<Category> cats = xpense.getAllCategories();
-        for (int i = 0; i < cats.size(); i++) {
-            if (cats.get(i).getName().equalsIgnoreCase(categoryName)) {
-                category = cats.get(i);
-                break;
-            }
-        }
+        Category category = xpense.getCategoryManager().getCategory(categoryName);
         
         String phase = getInputWithCancel("Phase");
         if (phase == null) return;
@@ -276,27 +277,9 @@ public class CLIHandler {
     }
 
     private void listExpenditures() {
-        SimpleArrayList<Expenditure> exps = xpense.getAllExpenditures();
-        System.out.println("\n=== ALL EXPENDITURES ===");
-        if (exps.size() == 0) {
-            System.out.println("No expenditures found.");
-            waitForKeyPress();
-            return;
-        }
-        
-        System.out.println("ID | Description | Amount (GHc) | Category | Date | Phase | Account");
-        System.out.println("--------------------------------------------------------------------");
-        for (int i = 0; i < exps.size(); i++) {
-            Expenditure e = exps.get(i);
-            System.out.printf("%s | %s | GHc %.2f | %s | %s | %s | %s\n",
-                e.getId(), 
-                truncateString(e.getDescription(), 15), 
-                e.getAmount(),
-                e.getCategory().getName(), 
-                e.getDateTime().toLocalDate(), 
-                e.getPhase(), 
-                e.getBankAccountId() != null ? e.getBankAccountId() : "N/A");
-        }
+        ExpenditureManager manager = xpense.getExpenditureManager();
+        // Pages come from the manager, so records added meanwhile do not shift the listing
+        browsePages(token -> manager.getPage(token, Pager.DEFAULT_PAGE_SIZE), "ALL EXPENDITURES", false);
         waitForKeyPress();
     }
 
@@ -310,14 +293,11 @@ public class CLIHandler {
             return;
         }
         
-        SimpleArrayList<Expenditure> expenditures = xpense.getAllExpenditures();
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
-            if (exp.getId().equalsIgnoreCase(id)) {
-                displayExpenditureDetails(exp);
-                waitForKeyPress();
-                return;
-            }
+        Expenditure exp = xpense.getExpenditureManager().findById(id);
+        if (exp != null) {
+            displayExpenditureDetails(exp);
+            waitForKeyPress();
+            return;
         }
         System.out.println("Expenditure with ID '" + id + "' not found.");
         waitForKeyPress();
@@ -374,6 +354,18 @@ public class CLIHandler {
         }
     }
 
+    private void viewAlerts() {
+        AlertSystem alerts = xpense.getAlertSystem();
+        long shown = alerts.displayAllAlerts();
+        if (!alerts.hasAlerts()) return;
+        System.out.print("Dismiss these alerts? (y/n): ");
+        String choice = scanner.nextLine().trim();
+        if ("y".equalsIgnoreCase(choice) || "yes".equalsIgnoreCase(choice)) {
+            alerts.dismissAlerts(shown);
+            System.out.println("Alerts dismissed.");
+        }
+    }
+
     private void searchAndSortMenu() {
         boolean running = true;
         while (running) {
@@ -385,9 +377,14 @@ public class CLIHandler {
             System.out.println("5. Search by Cost Range");
             System.out.println("6. Search by Bank Account");
             System.out.println("7. Search by Phase");
+            System.out.println("8. Sort by Category, then Date");
+            System.out.println("9. Combined Search");
+            System.out.println("10. Search Descriptions & Receipts");
+            System.out.println("11. Fuzzy Search (tolerates misspellings)");
+            System.out.println("12. Largest / Smallest Expenditures");
             System.out.println("0. Back to Main Menu");
             System.out.println("----------------------------------------------");
-            System.out.print("Select an option (0-7): ");
+            System.out.print("Select an option (0-12): ");
             String input = scanner.nextLine().trim();
             switch (input) {
                 case "0": running = false; break;
@@ -398,8 +395,13 @@ public class CLIHandler {
                 case "5": searchByCostRange(); waitForKeyPress(); break;
                 case "6": searchByBankAccount(); waitForKeyPress(); break;
                 case "7": searchByPhase(); waitForKeyPress(); break;
+                case "8": sortByCategoryThenDate(); waitForKeyPress(); break;
+                case "9": combinedSearch(); waitForKeyPress(); break;
+                case "10": textSearch(); waitForKeyPress(); break;
+                case "11": fuzzySearch(); waitForKeyPress(); break;
+                case "12": topExpenditures(); waitForKeyPress(); break;
                 default: 
-                    displayMenuOptionHelp("0-7");
+                    displayMenuOptionHelp("0-12");
                     break;
             }
         }
@@ -496,6 +498,12 @@ public class CLIHandler {
         displayExpenditures(sorted, "SORTED BY DATE (CHRONOLOGICAL)");
     }
 
+    private void sortByCategoryThenDate() {
+        SimpleArrayList<Expenditure> sorted = xpense.getSearchSortModule()
+            .sortByCategoryThenDate(xpense.getAllExpenditures());
+        displayExpenditures(sorted, "SORTED BY CATEGORY, THEN DATE");
+    }
+
     private void searchByTimeRange() {
         try {
             System.out.print("Start date (YYYY-MM-DD): ");
@@ -556,23 +564,188 @@ public class CLIHandler {
         displayExpenditures(results, "SEARCH RESULTS: Phase '" + phase + "'");
     }
 
+    private void combinedSearch() {
+        System.out.println("Leave a field blank to ignore it.");
+        try {
+            ExpenditureQuery query = ExpenditureQuery.create()
+                .category(optionalInput("Category"))
+                .account(optionalInput("Bank account ID"))
+                .phase(optionalInput("Phase"));
+            String from = optionalInput("From date (YYYY-MM-DD)");
+            String to = optionalInput("To date (YYYY-MM-DD)");
+            query.dateRange(from == null ? null : LocalDate.parse(from), to == null ? null : LocalDate.parse(to));
+            String min = optionalInput("Minimum amount");
+            String max = optionalInput("Maximum amount");
+            query.amountRange(min == null ? null : new BigDecimal(min), max == null ? null : new BigDecimal(max));
+            String sort = optionalInput("Sort by (date/amount/category/category-date)");
+            if (sort != null) {
+                query.sortBy(ExpenditureQuery.Sort.valueOf(sort.toUpperCase().replace('-', '_')
+                    .replace("CATEGORY_DATE", "CATEGORY_THEN_DATE")));
+            }
+            String limit = optionalInput("Maximum results");
+            if (limit != null) query.limit(Integer.parseInt(limit));
+
+            SearchAndSortModule search = xpense.getSearchSortModule();
+            SimpleArrayList<Expenditure> results = search.query(xpense.getAllExpenditures(), query);
+            displayExpenditures(results, "SEARCH RESULTS: " + query);
+            System.out.println("Plan: " + search.explain(xpense.getAllExpenditures(), query));
+        } catch (java.time.format.DateTimeParseException e) {
+            displayDateFormatHelp();
+        } catch (NumberFormatException e) {
+            displayAmountFormatHelp();
+        } catch (IllegalArgumentException e) {
+            System.out.println("Unknown sort order. Use date, amount, category or category-date.");
+        }
+    }
+
+    private void textSearch() {
+        System.out.println("Words ending in * match any word starting with them (e.g. recei*).");
+        String text = optionalInput("Search for");
+        if (text == null) return;
+        String any = optionalInput("Match any word instead of all? (y/n)");
+        TextIndex.Mode mode = any != null && any.equalsIgnoreCase("y") ? TextIndex.Mode.ANY : TextIndex.Mode.ALL;
+        SimpleArrayList<Expenditure> results = xpense.getSearchSortModule()
+            .searchText(xpense.getAllExpenditures(), text, mode, 0);
+        displayExpenditures(results, "SEARCH RESULTS: '" + text + "' (" + (mode == TextIndex.Mode.ALL ? "all" : "any") + " words, best match first)");
+    }
+
+    private void fuzzySearch() {
+        System.out.println("Searches descriptions, receipts and category names, allowing for typos (e.g. cemment).");
+        String text = optionalInput("Search for");
+        if (text == null) return;
+        SimpleArrayList<Expenditure> results = xpense.getSearchSortModule()
+            .fuzzySearch(xpense.getAllExpenditures(), text, 0);
+        displayExpenditures(results, "FUZZY SEARCH RESULTS: '" + text + "' (best match first)");
+    }
+
+    private void topExpenditures() {
+        try {
+            String count = optionalInput("How many (default 10)");
+            int k = count == null ? 10 : Integer.parseInt(count);
+            String which = optionalInput("Largest or smallest? (l/s, default l)");
+            boolean smallest = which != null && which.equalsIgnoreCase("s");
+            String groupBy = optionalInput("Per category, per account, or overall? (c/a/o, default o)");
+            String from = optionalInput("From date (YYYY-MM-DD, blank for all)");
+            String to = optionalInput("To date (YYYY-MM-DD, blank for all)");
+
+            SearchAndSortModule search = xpense.getSearchSortModule();
+            SimpleArrayList<Expenditure> expenditures = xpense.getAllExpenditures();
+            if (from != null || to != null) {
+                expenditures = search.searchByTimeRange(expenditures,
+                    from == null ? LocalDate.MIN : LocalDate.parse(from), to == null ? LocalDate.MAX.minusDays(1) : LocalDate.parse(to));
+            }
+            String label = (smallest ? "SMALLEST " : "LARGEST ") + k;
+            if (groupBy == null || groupBy.equalsIgnoreCase("o")) {
+                displayExpenditures(smallest ? search.bottomK(expenditures, k, SearchAndSortModule.BY_AMOUNT)
+                                             : search.topK(expenditures, k, SearchAndSortModule.BY_AMOUNT), label);
+                return;
+            }
+            boolean byAccount = groupBy.equalsIgnoreCase("a");
+            Function<Expenditure, String> group = byAccount
+                ? Expenditure::getBankAccountId : exp -> exp.getCategory().getName();
+            SimpleMap<String, SimpleArrayList<Expenditure>> groups = smallest
+                ? search.bottomKByGroup(expenditures, k, SearchAndSortModule.BY_AMOUNT, group)
+                : search.topKByGroup(expenditures, k, SearchAndSortModule.BY_AMOUNT, group);
+            if (groups.size() == 0) System.out.println("No expenditures found.");
+            for (int i = 0; i < groups.size(); i++) {
+                displayExpenditures(groups.getAt(i), label + " - " + (byAccount ? "Account " : "Category ") + groups.getKeyAt(i));
+            }
+        } catch (java.time.format.DateTimeParseException e) {
+            displayDateFormatHelp();
+        } catch (NumberFormatException e) {
+            System.out.println("Please enter a whole number.");
+        }
+    }
+
+    // Prompts for a value; blank input means "not specified"
+    private String optionalInput(String prompt) {
+        System.out.print(prompt + ": ");
+        String value = scanner.nextLine().trim();
+        return value.isEmpty() ? null : value;
+    }
+
     private void displayExpenditures(SimpleArrayList<Expenditure> expenditures, String title) {
-        System.out.println("\n=== " + title + " ===");
-        if (expenditures.size() == 0) {
-            System.out.println("No expenditures found.");
+        Pager<Expenditure> pager = new Pager<>(expenditures, Pager.DEFAULT_PAGE_SIZE);
+        browsePages(pager::page, title, true);
+    }
+
+    /**
+     * Shows a listing a page at a time with next/previous/first/last/jump navigation.
+     *
+     * @param fetch Returns the page for a continuation token (null for the first page)
+     * @param title Heading of the listing
+     * @param detailed Whether to show full descriptions and receipts
+     */
+    private void browsePages(Function<String, Page<Expenditure>> fetch, String title, boolean detailed) {
+        Page<Expenditure> page = fetch.apply(null);
+        renderPage(page, title, detailed);
+        while (page.getPageCount() > 1) {
+            System.out.print("[n]ext, [p]revious, [f]irst, [l]ast, page number, or Enter to finish: ");
+            String input = scanner.nextLine().trim().toLowerCase();
+            String token;
+            if (input.isEmpty()) {
+                return;
+            } else if (input.equals("n")) {
+                token = page.hasNext() ? page.getNextToken() : page.getTokenForPage(page.getNumber());
+            } else if (input.equals("p")) {
+                token = page.hasPrevious() ? page.getPreviousToken() : page.getTokenForPage(0);
+            } else if (input.equals("f")) {
+                token = page.getTokenForPage(0);
+            } else if (input.equals("l")) {
+                token = page.getTokenForPage(page.getPageCount() - 1);
+            } else {
+                try {
+                    token = page.getTokenForPage(Integer.parseInt(input) - 1);
+                } catch (NumberFormatException e) {
+                    System.out.println(YELLOW + "Enter n, p, f, l or a page number from 1 to " + page.getPageCount() + RESET);
+                    continue;
+                }
+            }
+            page = fetch.apply(token);
+            renderPage(page, title, detailed);
+        }
+    }
+
+    // Writes a whole page to the buffered table writer and flushes it once
+    private void renderPage(Page<Expenditure> page, String title, boolean detailed) {
+        PrintWriter out = tableOut;
+        out.append('\n').append("=== ").append(title).append(" ===\n");
+        if (page.getTotal() == 0) {
+            out.append("No expenditures found.\n");
+            out.flush();
             return;
         }
-        System.out.println("ID | Description | Amount | Category | Date | Phase | Account | Receipt");
-        System.out.println("---|-------------|--------|----------|------|-------|---------|--------");
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure e = expenditures.get(i);
-            String receiptDisplay = (e.getReceiptInfo() != null && !e.getReceiptInfo().trim().isEmpty()) 
-                ? e.getReceiptInfo() : "No receipt";
-            System.out.printf("%s | %s | GHc%s | %s | %s | %s | %s | %s\n",
-                e.getId(), e.getDescription(), e.getAmount(),
-                e.getCategory().getName(), e.getDateTime().toLocalDate(), 
-                e.getPhase(), e.getBankAccountId(), receiptDisplay);
+        if (detailed) {
+            out.append("ID | Description | Amount | Category | Date | Phase | Account | Receipt\n");
+            out.append("---|-------------|--------|----------|------|-------|---------|--------\n");
+        } else {
+            out.append("ID | Description | Amount (GHc) | Category | Date | Phase | Account\n");
+            out.append("--------------------------------------------------------------------\n");
         }
+        SimpleArrayList<Expenditure> rows = page.getItems();
+        for (int i = 0; i < rows.size(); i++) {
+            Expenditure e = rows.get(i);
+            out.append(e.getId()).append(" | ");
+            if (detailed) {
+                String receiptDisplay = (e.getReceiptInfo() != null && !e.getReceiptInfo().trim().isEmpty())
+                    ? e.getReceiptInfo() : "No receipt";
+                out.append(e.getDescription()).append(" | GHc").append(String.valueOf(e.getAmount())).append(" | ")
+                   .append(e.getCategory().getName()).append(" | ").append(String.valueOf(e.getDateTime().toLocalDate())).append(" | ")
+                   .append(e.getPhase()).append(" | ").append(e.getBankAccountId()).append(" | ").append(receiptDisplay);
+            } else {
+                out.append(truncateString(e.getDescription(), 15))
+                   .append(" | GHc ").append(e.getAmount().setScale(2, RoundingMode.HALF_UP).toPlainString()).append(" | ")
+                   .append(e.getCategory().getName()).append(" | ").append(String.valueOf(e.getDateTime().toLocalDate())).append(" | ")
+                   .append(e.getPhase()).append(" | ").append(e.getBankAccountId() != null ? e.getBankAccountId() : "N/A");
+            }
+            out.append('\n');
+        }
+        if (page.getPageCount() > 1) {
+            out.append("-- Page ").append(String.valueOf(page.getNumber() + 1)).append(" of ").append(String.valueOf(page.getPageCount()))
+               .append(" (rows ").append(String.valueOf(page.getStart() + 1)).append('-')
+               .append(String.valueOf(page.getStart() + rows.size())).append(" of ").append(String.valueOf(page.getTotal())).append(") --\n");
+        }
+        out.flush();
     }
 
     /**
@@ -740,16 +913,10 @@ public class CLIHandler {
             return;
         }
         
-        SimpleArrayList<Expenditure> expenditures = xpense.getAllExpenditures();
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
-            if (exp.getId().equals(expId)) {
-                exp.setReceiptInfo(receiptPath);
-                // Save the updated data to file
-                xpense.saveAll();
-                System.out.println("Receipt linked to expenditure successfully and saved to file.");
-                return;
-            }
+        // Link and save; only the changed expenditure record is rewritten
+        if (xpense.linkReceipt(expId, receiptPath)) {
+            System.out.println("Receipt linked to expenditure successfully and saved to file.");
+            return;
         }
         System.out.println("Expenditure not found.");
     }
@@ -782,6 +949,10 @@ public class CLIHandler {
         System.out.println("Main Menu Option 7: Check Alerts");
         System.out.println("Main Menu Option 9: Generate Reports");
         System.out.println();
+        System.out.println("=== STARTUP ===");
+        System.out.println("Expenditures loaded: " + xpense.getExpenditureLoadStats());
+        System.out.print(xpense.getStartupReport());
+        System.out.println();
         System.out.println("For technical support, check the documentation.");
         waitForKeyPress();
     }
@@ -870,7 +1041,7 @@ public class CLIHandler {
             System.out.println("   - " + GREEN + "2" + RESET + " - List Expenditures");
             System.out.println("   - " + GREEN + "8" + RESET + " - View Alerts");
             System.out.println("   - " + GREEN + "0" + RESET + " - Exit");
-        } else if (validRange.contains("0-7")) {
+        } else if (validRange.contains("0-12")) {
             System.out.println("   - " + GREEN + "1" + RESET + " - Sort by Category");
             System.out.println("   - " + GREEN + "3" + RESET + " - Search by Time Range");
             System.out.println("   - " + GREEN + "0" + RESET + " - Back to Main Menu");
@@ -22,6 +22,8 @@
  */
 package app.modules;
 
+import app.util.CaseInsensitiveMap;
+
 /**
  * Category represents a classification for expenditures in the system.
  * 
@@ -146,16 +148,18 @@ public class Category {
     }
 
     /**
-     * Returns a hash code based on the lowercase category name.
+     * Returns a hash code based on the case-folded category name.
      * 
      * This ensures that categories with the same name (case-insensitive)
      * have the same hash code, which is required for proper behavior
-     * when using categories in hash-based data structures.
+     * when using categories in hash-based data structures such as SimpleSet.
+     * Each character is folded exactly as equalsIgnoreCase compares it, and
+     * no lower-cased copy of the name is created.
      * 
-     * @return The hash code of the lowercase category name
+     * @return The hash code of the case-folded category name
      */
     @Override
     public int hashCode() {
-        return name.toLowerCase().hashCode();
+        return CaseInsensitiveMap.hash(name);
     }
 }
\ No newline at end of file
@@ -2,38 +2,51 @@ package app.modules;
 
 import app.util.*;
 public class CategoryManager {
-    private final SimpleSet<Category> categories;
-    private final SimpleMap<String, SimpleArrayList<Expenditure>> categoryExpenditures;
+    private final SimpleArrayList<Category> categories;
+    private final CaseInsensitiveMap<Category> categoryIndex; // Case-folded name -> canonical Category
+    private final CaseInsensitiveMap<SimpleArrayList<Expenditure>> categoryExpenditures;
+    private long version; // Bumped whenever a category is added
 
     public CategoryManager() {
-        categories = new SimpleSet<>();
-        categoryExpenditures = new SimpleMap<>();
+        categories = new SimpleArrayList<>();
+        categoryIndex = new CaseInsensitiveMap<>();
+        categoryExpenditures = new CaseInsensitiveMap<>();
     }
 
     public boolean addCategory(Category category) {
         if (category == null || !category.isValid()) return false;
-        if (categories.contains(category)) return false;
+        // Names are unique ignoring case, the same rule as Category.equals
+        if (categoryIndex.containsKey(category.getName())) return false;
         categories.add(category);
+        categoryIndex.put(category.getName(), category);
         if (!categoryExpenditures.containsKey(category.getName())) {
             categoryExpenditures.put(category.getName(), new SimpleArrayList<>());
         }
+        version++;
         return true;
     }
 
     public boolean validateCategory(String categoryName) {
-        if (categoryName == null) return false;
-        for (Category c : categories) {
-            if (c.getName().equalsIgnoreCase(categoryName)) return true;
-        }
-        return false;
+        return categoryIndex.containsKey(categoryName);
+    }
+
+    /**
+     * Look up the registered category with the given name, ignoring case
+     * @param categoryName the category name
+     * @return the canonical Category instance, or null if no such category exists
+     */
+    public Category getCategory(String categoryName) {
+        return categoryIndex.get(categoryName);
     }
 
     public SimpleArrayList<Category> getAllCategories() {
-        return categories.toList();
+        SimpleArrayList<Category> list = new SimpleArrayList<>(categories.size());
+        list.addAll(categories);
+        return list;
     }
 
     public boolean addExpenditureToCategory(String categoryName, Expenditure expenditure) {
-        if (!validateCategory(categoryName) || expenditure == null) return false;
+        if (categoryName == null || expenditure == null) return false;
         SimpleArrayList<Expenditure> expenditures = categoryExpenditures.get(categoryName);
         if (expenditures != null) {
             expenditures.add(expenditure);
@@ -41,4 +54,11 @@ public class CategoryManager {
         }
         return false;
     }
+
+    /**
+     * @return change counter, bumped whenever categories.txt would need rewriting
+     */
+    public long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,392 @@
+/**
+ * ExpenditureIndex.java
+ *
+ * Secondary indexes over the expenditure list of the Nkwa Real Estate
+ * Expenditure Management System, kept up to date by
+ * {@link ExpenditureManager} so that searches do not scan every record.
+ *
+ * This implementation features:
+ * - Case-insensitive hash indexes by category, bank account and phase
+ * - Ordered indexes by date/time and by amount for range searches
+ * - A one-pass rebuild used when expenditures are loaded from file
+ * - A planner for composite {@link ExpenditureQuery} searches that drives
+ *   from the most selective index and intersects the next ones
+ * - Fuzzy category lookup through a {@link TrigramIndex} over the words of
+ *   category names
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+/**
+ * ExpenditureIndex maps category, account, phase, date and amount to
+ * positions in the indexed expenditure list.
+ *
+ * Every query returns its matches in list order, exactly as a linear scan
+ * would, in time proportional to the number of matches (plus a logarithmic
+ * search for the ordered indexes). Records are indexed by their values when
+ * added; the list is append-only, so positions never move.
+ *
+ * All methods are synchronized: queries may merge pending ordered-index
+ * entries, and the CLI reads while other threads add.
+ */
+public class ExpenditureIndex {
+    /**
+     * Another index is intersected with the candidates only if it has at most
+     * this many times as many entries; otherwise checking each candidate is cheaper.
+     */
+    private static final int INTERSECT_RATIO = 4;
+
+    /** The indexed list, owned by the expenditure manager */
+    private final SimpleArrayList<Expenditure> expenditures;
+
+    /** Positions by category name */
+    private CaseInsensitiveMap<IntArrayList> byCategory = new CaseInsensitiveMap<>();
+
+    /** Positions by bank account ID */
+    private CaseInsensitiveMap<IntArrayList> byAccount = new CaseInsensitiveMap<>();
+
+    /** Positions by phase */
+    private CaseInsensitiveMap<IntArrayList> byPhase = new CaseInsensitiveMap<>();
+
+    /** Positions ordered by date/time */
+    private final OrderedIndex<LocalDateTime> byDate = new OrderedIndex<>(Comparator.naturalOrder());
+
+    /** Positions ordered by amount */
+    private final OrderedIndex<BigDecimal> byAmount = new OrderedIndex<>(Comparator.naturalOrder());
+
+    /** Lower-case words of the category names, for fuzzy lookup */
+    private TrigramIndex categoryWords = new TrigramIndex();
+
+    /** Category names containing each word of categoryWords */
+    private SimpleMap<String, SimpleArrayList<String>> categoriesByWord = new SimpleMap<>();
+
+    /**
+     * Creates an empty index over a list.
+     *
+     * @param expenditures The list whose positions the index refers to
+     */
+    public ExpenditureIndex(SimpleArrayList<Expenditure> expenditures) {
+        this.expenditures = expenditures;
+    }
+
+    /**
+     * Indexes the expenditure at a position of the list.
+     *
+     * @param position Position of the expenditure in the list
+     */
+    public synchronized void add(int position) {
+        Expenditure e = expenditures.get(position);
+        if (e.getCategory() != null) {
+            String name = e.getCategory().getName();
+            if (!byCategory.containsKey(name)) addCategoryWords(name);
+            addTo(byCategory, name, position);
+        }
+        if (e.getBankAccountId() != null) addTo(byAccount, e.getBankAccountId(), position);
+        if (e.getPhase() != null) addTo(byPhase, e.getPhase(), position);
+        if (e.getDateTime() != null) byDate.add(e.getDateTime(), position);
+        if (e.getAmount() != null) byAmount.add(e.getAmount(), position);
+    }
+
+    /**
+     * Discards all entries and indexes the whole list in one pass.
+     */
+    public synchronized void rebuild() {
+        byCategory = new CaseInsensitiveMap<>();
+        byAccount = new CaseInsensitiveMap<>();
+        byPhase = new CaseInsensitiveMap<>();
+        categoryWords = new TrigramIndex();
+        categoriesByWord = new SimpleMap<>();
+        byDate.clear();
+        byAmount.clear();
+        for (int i = 0; i < expenditures.size(); i++) add(i);
+    }
+
+    /** @return Expenditures whose category name equals the given name, ignoring case */
+    public synchronized SimpleArrayList<Expenditure> findByCategory(String categoryName) {
+        return resolve(byCategory.get(categoryName));
+    }
+
+    /**
+     * Finds expenditures whose category name contains a word close to one of
+     * the given words, so "cemment" or "labor" still find their categories.
+     *
+     * @param text One or more words
+     * @return The matching expenditures in list order
+     */
+    public synchronized SimpleArrayList<Expenditure> findByCategoryFuzzy(String text) {
+        SimpleArrayList<String> words = TextIndex.tokenize(text);
+        SimpleSet<String> names = new SimpleSet<>();
+        IntArrayList positions = new IntArrayList();
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            SimpleArrayList<TrigramIndex.Match> similar = categoryWords.search(word, TrigramIndex.maxDistanceFor(word.length()));
+            for (int j = 0; j < similar.size(); j++) {
+                SimpleArrayList<String> categories = categoriesByWord.get(similar.get(j).getWord());
+                for (int k = 0; k < categories.size(); k++) {
+                    if (!names.add(categories.get(k))) continue;
+                    IntArrayList list = byCategory.get(categories.get(k));
+                    for (int p = 0; p < list.size(); p++) positions.add(list.get(p));
+                }
+            }
+        }
+        return resolveUnordered(positions);
+    }
+
+    /** @return Expenditures charged to the given bank account, ignoring case */
+    public synchronized SimpleArrayList<Expenditure> findByBankAccount(String bankAccountId) {
+        return resolve(byAccount.get(bankAccountId));
+    }
+
+    /** @return Expenditures in the given phase, ignoring case */
+    public synchronized SimpleArrayList<Expenditure> findByPhase(String phase) {
+        return resolve(byPhase.get(phase));
+    }
+
+    /** @return Expenditures dated on any day from startDate to endDate inclusive */
+    public synchronized SimpleArrayList<Expenditure> findByDateRange(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) return new SimpleArrayList<>();
+        return resolveUnordered(byDate.range(startDate.atStartOfDay(), true,
+                endDate.plusDays(1).atStartOfDay(), false));
+    }
+
+    /** @return Expenditures with an amount from minAmount to maxAmount inclusive */
+    public synchronized SimpleArrayList<Expenditure> findByAmountRange(BigDecimal minAmount, BigDecimal maxAmount) {
+        if (minAmount.compareTo(maxAmount) > 0) return new SimpleArrayList<>();
+        return resolveUnordered(byAmount.range(minAmount, true, maxAmount, true));
+    }
+
+    /**
+     * Runs a composite query.
+     *
+     * The planner estimates how many records each indexed criterion selects
+     * (exact for every index), starts from the smallest candidate set,
+     * intersects it with the next sets while they are not much larger, and
+     * checks the remaining criteria one candidate at a time. When the
+     * results are ordered by date or amount and that index drives the plan,
+     * candidates already arrive in order, so no sort is needed and a limit
+     * stops the search early.
+     *
+     * @param query The query
+     * @return The matching expenditures in the query's order
+     */
+    public synchronized SimpleArrayList<Expenditure> query(ExpenditureQuery query) {
+        Plan plan = plan(query);
+        if (plan.empty) return new SimpleArrayList<>();
+        ExpenditureQuery.Window window = new ExpenditureQuery.Window(query,
+                query.getSort() != ExpenditureQuery.Sort.NONE && !plan.inSortOrder);
+        int n = plan.positions == null ? expenditures.size() : plan.positions.size();
+        for (int i = 0; i < n && !window.isFull(); i++) {
+            Expenditure e = expenditures.get(plan.positions == null ? i : plan.positions.get(i));
+            if (query.matches(e, plan.satisfied)) window.offer(e);
+        }
+        return window.results();
+    }
+
+    /**
+     * Describes how {@link #query(ExpenditureQuery)} would run a query.
+     *
+     * @param query The query
+     * @return e.g. "category index (412) & account index (1093) -> 97 candidates; filter date; sort"
+     */
+    public synchronized String explain(ExpenditureQuery query) {
+        return plan(query).description.toString();
+    }
+
+    /**
+     * A way to fetch the candidate positions for one criterion.
+     */
+    private static final class Access {
+        final int criterion;
+        final String name;
+        final int estimate;
+        final boolean keyOrdered;  // positions come in key order, not list order
+        final Supplier<IntArrayList> positions;
+
+        Access(int criterion, String name, int estimate, boolean keyOrdered, Supplier<IntArrayList> positions) {
+            this.criterion = criterion;
+            this.name = name;
+            this.estimate = estimate;
+            this.keyOrdered = keyOrdered;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * The outcome of planning a query.
+     */
+    private static final class Plan {
+        boolean empty;
+        IntArrayList positions;  // null: scan the whole list
+        int satisfied;           // criteria guaranteed by the indexes used
+        boolean inSortOrder;     // positions are already in the query's sort order
+        final StringBuilder description = new StringBuilder();
+    }
+
+    private Plan plan(ExpenditureQuery query) {
+        Plan plan = new Plan();
+        if (query.isEmpty()) return emptyPlan(plan, "empty range");
+
+        SimpleArrayList<Access> accesses = new SimpleArrayList<>();
+        if (query.getCategory() != null && !addHashAccess(accesses, ExpenditureQuery.CATEGORY, "category", byCategory, query.getCategory())) {
+            return emptyPlan(plan, "no such category");
+        }
+        if (query.getAccount() != null && !addHashAccess(accesses, ExpenditureQuery.ACCOUNT, "account", byAccount, query.getAccount())) {
+            return emptyPlan(plan, "no such account");
+        }
+        if (query.getPhase() != null && !addHashAccess(accesses, ExpenditureQuery.PHASE, "phase", byPhase, query.getPhase())) {
+            return emptyPlan(plan, "no such phase");
+        }
+        Access dateAccess = null, amountAccess = null;
+        if (query.hasDateRange()) {
+            LocalDateTime from = query.getFromDate() == null ? null : query.getFromDate().atStartOfDay();
+            LocalDateTime to = query.getToDate() == null ? null : query.getToDate().plusDays(1).atStartOfDay();
+            dateAccess = new Access(ExpenditureQuery.DATE, "date", byDate.count(from, true, to, false), true,
+                    () -> byDate.range(from, true, to, false));
+            accesses.add(dateAccess);
+        }
+        if (query.hasAmountRange()) {
+            BigDecimal min = query.getMinAmount(), max = query.getMaxAmount();
+            amountAccess = new Access(ExpenditureQuery.AMOUNT, "amount", byAmount.count(min, true, max, true), true,
+                    () -> byAmount.range(min, true, max, true));
+            accesses.add(amountAccess);
+        }
+        accesses.sort((a, b) -> Integer.compare(a.estimate, b.estimate));
+
+        // Results ordered by date or amount: walk that index in key order if it is the best driver or the only option
+        Access ordered = null;
+        if (query.getSort() == ExpenditureQuery.Sort.DATE) {
+            ordered = dateAccess != null ? dateAccess
+                    : new Access(0, "date", byDate.size(), true, () -> byDate.range(null, true, null, true));
+        } else if (query.getSort() == ExpenditureQuery.Sort.AMOUNT) {
+            ordered = amountAccess != null ? amountAccess
+                    : new Access(0, "amount", byAmount.size(), true, () -> byAmount.range(null, true, null, true));
+        }
+        if (ordered != null && (accesses.size() == 0 || accesses.get(0) == ordered)) {
+            plan.positions = ordered.positions.get();
+            plan.satisfied = ordered.criterion;
+            plan.inSortOrder = true;
+            plan.description.append(ordered.name).append(" index in order (").append(ordered.estimate).append(')');
+            describeResidual(plan, query);
+            return plan;
+        }
+
+        if (accesses.size() == 0) {
+            plan.description.append("full scan (").append(expenditures.size()).append(')');
+            describeResidual(plan, query);
+            return plan;
+        }
+
+        Access driver = accesses.get(0);
+        plan.positions = positionsInListOrder(driver);
+        plan.satisfied = driver.criterion;
+        plan.description.append(driver.name).append(" index (").append(driver.estimate).append(')');
+        for (int i = 1; i < accesses.size() && plan.positions.size() > 0; i++) {
+            Access next = accesses.get(i);
+            if ((long) next.estimate > (long) INTERSECT_RATIO * plan.positions.size()) break;
+            plan.positions = intersect(plan.positions, positionsInListOrder(next));
+            plan.satisfied |= next.criterion;
+            plan.description.append(" & ").append(next.name).append(" index (").append(next.estimate).append(')');
+        }
+        if (accesses.size() > 1) plan.description.append(" -> ").append(plan.positions.size()).append(" candidates");
+        describeResidual(plan, query);
+        return plan;
+    }
+
+    private boolean addHashAccess(SimpleArrayList<Access> accesses, int criterion, String name,
+                                  CaseInsensitiveMap<IntArrayList> index, String key) {
+        IntArrayList positions = index.get(key);
+        if (positions == null) return false;
+        accesses.add(new Access(criterion, name, positions.size(), false, () -> positions));
+        return true;
+    }
+
+    private static Plan emptyPlan(Plan plan, String reason) {
+        plan.empty = true;
+        plan.description.append("no results (").append(reason).append(')');
+        return plan;
+    }
+
+    private static void describeResidual(Plan plan, ExpenditureQuery query) {
+        StringBuilder filters = new StringBuilder();
+        if (query.getCategory() != null && (plan.satisfied & ExpenditureQuery.CATEGORY) == 0) filters.append(", category");
+        if (query.getAccount() != null && (plan.satisfied & ExpenditureQuery.ACCOUNT) == 0) filters.append(", account");
+        if (query.getPhase() != null && (plan.satisfied & ExpenditureQuery.PHASE) == 0) filters.append(", phase");
+        if (query.hasDateRange() && (plan.satisfied & ExpenditureQuery.DATE) == 0) filters.append(", date");
+        if (query.hasAmountRange() && (plan.satisfied & ExpenditureQuery.AMOUNT) == 0) filters.append(", amount");
+        if (filters.length() > 0) plan.description.append("; filter ").append(filters.substring(2));
+        if (query.getSort() != ExpenditureQuery.Sort.NONE && !plan.inSortOrder) plan.description.append("; sort");
+    }
+
+    /** Fetches an access's positions, sorted into list order if they come in key order */
+    private static IntArrayList positionsInListOrder(Access access) {
+        IntArrayList positions = access.positions.get();
+        if (access.keyOrdered) positions.sort();
+        return positions;
+    }
+
+    /** Intersects two ascending position lists */
+    private static IntArrayList intersect(IntArrayList a, IntArrayList b) {
+        IntArrayList result = new IntArrayList(Math.min(a.size(), b.size()));
+        int i = 0, j = 0;
+        while (i < a.size() && j < b.size()) {
+            int x = a.get(i), y = b.get(j);
+            if (x < y) i++;
+            else if (x > y) j++;
+            else {
+                result.add(x);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private static void addTo(CaseInsensitiveMap<IntArrayList> index, String key, int position) {
+        IntArrayList positions = index.get(key);
+        if (positions == null) {
+            positions = new IntArrayList();
+            index.put(key, positions);
+        }
+        positions.add(position);
+    }
+
+    // Registers the words of a category name seen for the first time
+    private void addCategoryWords(String name) {
+        SimpleArrayList<String> words = TextIndex.tokenize(name);
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            categoryWords.add(word);
+            SimpleArrayList<String> names = categoriesByWord.get(word);
+            if (names == null) {
+                names = new SimpleArrayList<>();
+                categoriesByWord.put(word, names);
+            }
+            names.add(name); // Repeats within one name are skipped at lookup
+        }
+    }
+
+    /**
+     * Positions come out of a range query in key order; sort them back into list order.
+     */
+    private SimpleArrayList<Expenditure> resolveUnordered(IntArrayList positions) {
+        positions.sort();
+        return resolve(positions);
+    }
+
+    private SimpleArrayList<Expenditure> resolve(IntArrayList positions) {
+        if (positions == null) return new SimpleArrayList<>();
+        SimpleArrayList<Expenditure> results = new SimpleArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) results.add(expenditures.get(positions.get(i)));
+        return results;
+    }
+}
@@ -0,0 +1,273 @@
+/**
+ * ExpenditureJournal.java
+ *
+ * Append-only write-ahead journal for expenditures in the Nkwa Real Estate
+ * Expenditure Management System. Each new expenditure is appended as a single
+ * record instead of rewriting expenditures.txt and accounts.txt on every add.
+ * The full files are only rewritten at checkpoints, after which the journal
+ * is truncated.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ExpenditureJournal records expenditures added since the last checkpoint.
+ *
+ * Records use the same pipe-delimited format as expenditures.txt, one per line.
+ * On startup the journal tail is replayed on top of the checkpointed files.
+ * A record is only considered durable once its line terminator has been
+ * written, so a torn final line left by a crash is discarded during replay.
+ *
+ * Each journal starts with a generation header. A new generation begins
+ * whenever the journal is truncated, so a {@link Mark} written with the
+ * account balances identifies exactly which records those balances include.
+ */
+public class ExpenditureJournal {
+    /** First field of the header line that holds the journal generation */
+    private static final String GENERATION_HEADER = "#generation";
+
+    /**
+     * A position in the journal: the first records of one generation.
+     * Stored with the account balances to record which debits they include.
+     */
+    public static final class Mark {
+        private final long generation;
+        private final int records;
+
+        /**
+         * @param generation The journal generation
+         * @param records Number of records of that generation
+         */
+        public Mark(long generation, int records) {
+            this.generation = generation;
+            this.records = records;
+        }
+
+        /** @return The journal generation */
+        public long getGeneration() { return generation; }
+
+        /** @return Number of records of that generation */
+        public int getRecords() { return records; }
+    }
+
+    /** Formats and parses the journal records */
+    private final FileManager fileManager;
+
+    /** Path of the journal file */
+    private final Path path;
+
+    /** Whether each append is forced to the storage device before returning */
+    private boolean syncOnAppend;
+
+    /** Number of records written since the last checkpoint */
+    private int pendingRecords;
+
+    /** Open append stream, created lazily on first append */
+    private FileOutputStream out;
+
+    /** Generation of the records currently in the journal */
+    private long generation;
+
+    /**
+     * Creates a journal backed by the given file.
+     *
+     * @param fileManager Used to format and parse expenditure records
+     * @param filename Name of the journal file
+     */
+    public ExpenditureJournal(FileManager fileManager, String filename) {
+        this.fileManager = fileManager;
+        this.path = Paths.get(filename);
+        this.syncOnAppend = false;
+        this.pendingRecords = 0;
+        this.generation = nextGeneration(0);
+    }
+
+    /**
+     * Picks the generation for a new journal. Generations are taken from the
+     * clock, so a journal started after a lost or truncated one never reuses a
+     * generation recorded in an older mark.
+     */
+    private static long nextGeneration(long previous) {
+        return Math.max(System.currentTimeMillis(), previous + 1);
+    }
+
+    /**
+     * Appends one expenditure record to the journal.
+     *
+     * The record and its line terminator are written with a single write call.
+     * If sync-on-append is enabled, the write is forced to disk before returning.
+     *
+     * @param exp The expenditure to record
+     * @return true if the record was written, false on I/O failure
+     */
+    public synchronized boolean append(Expenditure exp) {
+        return appendRecords(fileManager.formatExpenditure(exp) + "\n", 1);
+    }
+
+    /**
+     * Appends a batch of expenditure records with a single write call
+     * (and a single sync, if sync-on-append is enabled).
+     *
+     * @param exps The expenditures to record, in order
+     * @return true if the records were written, false on I/O failure
+     */
+    public synchronized boolean appendAll(SimpleArrayList<Expenditure> exps) {
+        if (exps.size() == 0) return true;
+        StringBuilder sb = new StringBuilder(exps.size() * 96);
+        for (int i = 0; i < exps.size(); i++) {
+            sb.append(fileManager.formatExpenditure(exps.get(i))).append('\n');
+        }
+        return appendRecords(sb.toString(), exps.size());
+    }
+
+    private boolean appendRecords(String records, int count) {
+        try {
+            if (out == null) {
+                out = new FileOutputStream(path.toFile(), true);
+                // A new journal file starts with its generation
+                if (out.getChannel().size() == 0) records = GENERATION_HEADER + "|" + generation + "\n" + records;
+            }
+            out.write(records.getBytes(StandardCharsets.UTF_8));
+            if (syncOnAppend) out.getFD().sync();
+            pendingRecords += count;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Forces every record appended so far to the storage device.
+     *
+     * @return true if the records are durable, false on I/O failure
+     */
+    public synchronized boolean sync() {
+        if (out == null) return true;
+        try {
+            out.getFD().sync();
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads every complete record written since the last checkpoint.
+     *
+     * Any trailing partial record (no line terminator) is cut off the file so
+     * that later appends start on a clean line. Lines that fail to parse are skipped.
+     * The journal's generation is taken from its header; a journal written
+     * without one is given a header for a new generation.
+     *
+     * @return The journaled expenditures in the order they were written
+     * @throws IOException if the journal exists but cannot be read or repaired
+     */
+    public synchronized SimpleArrayList<Expenditure> replay() throws IOException {
+        SimpleArrayList<Expenditure> records = new SimpleArrayList<>();
+        pendingRecords = 0;
+        if (!Files.exists(path)) return records;
+        byte[] data = Files.readAllBytes(path);
+        FileManager.ParseContext ctx = FileManager.threadContext();
+        boolean hasHeader = false;
+        int lineStart = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] != '\n') continue;
+            ctx.fields().reset(data, lineStart, i, StandardCharsets.UTF_8);
+            if (lineStart == 0 && ctx.fields().fieldCount() == 2 && GENERATION_HEADER.equals(ctx.fields().string(0))) {
+                try {
+                    generation = Long.parseLong(ctx.fields().string(1));
+                    hasHeader = true;
+                } catch (NumberFormatException e) {
+                    // Damaged header; the journal gets a new generation below
+                }
+                lineStart = i + 1;
+                continue;
+            }
+            lineStart = i + 1;
+            Expenditure exp = fileManager.parseExpenditure(ctx);
+            if (exp != null) records.add(exp);
+        }
+        pendingRecords = records.size();
+        if (!hasHeader && lineStart > 0) {
+            // Journal from before generations were recorded: rewrite it under a header
+            byte[] header = (GENERATION_HEADER + "|" + generation + "\n").getBytes(StandardCharsets.UTF_8);
+            Path tmp = Paths.get(path + ".tmp");
+            try (FileOutputStream rewritten = new FileOutputStream(tmp.toFile())) {
+                rewritten.write(header);
+                rewritten.write(data, 0, lineStart);
+                rewritten.getFD().sync();
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+        } else if (lineStart < data.length) {
+            // Torn record from an interrupted append
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                ch.truncate(lineStart);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Empties the journal after a successful checkpoint.
+     *
+     * @return true if the journal was truncated, false on I/O failure
+     */
+    public synchronized boolean truncate() {
+        try {
+            close();
+            if (Files.exists(path)) {
+                try (FileChannel ch = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    ch.truncate(0);
+                    ch.force(true);
+                }
+            }
+            // Marks taken before the truncation no longer describe the journal
+            generation = nextGeneration(generation);
+            pendingRecords = 0;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the append stream. The journal reopens it on the next append.
+     */
+    public synchronized void close() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException e) {
+        } finally {
+            out = null;
+        }
+    }
+
+    /** @return Number of records written since the last checkpoint */
+    public synchronized int getPendingRecords() { return pendingRecords; }
+
+    /** @return Generation of the records currently in the journal */
+    public synchronized long getGeneration() { return generation; }
+
+    /** @return A mark covering every record written to the journal so far */
+    public synchronized Mark mark() { return new Mark(generation, pendingRecords); }
+
+    /** @return true if every append is forced to disk before returning */
+    public boolean isSyncOnAppend() { return syncOnAppend; }
+
+    /** @param syncOnAppend Whether to force each append to disk before returning */
+    public void setSyncOnAppend(boolean syncOnAppend) { this.syncOnAppend = syncOnAppend; }
+}
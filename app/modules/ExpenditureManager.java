@@ -3,51 +3,63 @@ package app.modules;
 import app.util.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ExpenditureManager {
     private final SimpleArrayList<Expenditure> expenditures;
-    private static int idCounter = 1000; // Start from 1000 for better-looking IDs
+    private final ExpenditureIndex index; // Secondary indexes for the searches, updated on every add
+    private final TextIndex textIndex; // Word index over descriptions and receipts, updated on every add
+    private final CaseInsensitiveMap<Integer> idPositions = new CaseInsensitiveMap<>(); // Position of each ID, for O(1) duplicate checks
+    private final AtomicInteger idCounter = new AtomicInteger(1000); // Start from 1000 for better-looking IDs
+    private long version; // Bumped on every change, so callers can tell whether a save is needed
+    private int persistedCount; // Leading records known to be in expenditures.txt, in file order
+    private SimpleSet<Integer> dirtyRecords = new SimpleSet<>(); // Persisted records changed since the last save
+    private int firstDirtyRecord = Integer.MAX_VALUE; // Lowest index in dirtyRecords
 
     public ExpenditureManager() {
         this.expenditures = new SimpleArrayList<>();
-        initializeIdCounter();
+        this.index = new ExpenditureIndex(expenditures);
+        this.textIndex = new TextIndex(expenditures);
     }
 
     /**
-     * Initialize the ID counter based on existing expenditure IDs
+     * Rebuild the ID index and re-seed the ID counter from all expenditures, in one pass.
+     * The first record with a given ID (ignoring case) is the one found by ID.
      */
-    private void initializeIdCounter() {
-        int maxId = 1000; // Default starting point
-        // System.out.println("DEBUG: initializeIdCounter called, expenditures.size() = " + expenditures.size());
-        for (Expenditure exp : expenditures) {
-            String id = exp.getId();
-            // System.out.println("DEBUG: Found expenditure with ID: " + id);
-            if (id != null && id.startsWith("EXP")) {
-                try {
-                    int numericPart = Integer.parseInt(id.substring(3));
-                    // System.out.println("DEBUG: Parsed numeric part: " + numericPart);
-                    if (numericPart >= maxId) {
-                        maxId = numericPart + 1;
-                    }
-                } catch (NumberFormatException e) {
-                    // System.out.println("DEBUG: Could not parse numeric part of ID: " + id);
-                    // Ignore non-numeric IDs
-                }
+    private void indexIds() {
+        idCounter.set(1000); // Default starting point
+        for (int i = 0; i < expenditures.size(); i++) {
+            String id = expenditures.get(i).getId();
+            if (id == null) continue;
+            if (!idPositions.containsKey(id)) idPositions.put(id, i);
+            noteExistingId(id);
+        }
+    }
+
+    /**
+     * Advance the ID counter past an existing EXPnnnn ID so generated IDs never collide with it
+     * @param id the existing expenditure ID
+     */
+    private void noteExistingId(String id) {
+        if (id != null && id.startsWith("EXP")) {
+            try {
+                int numericPart = Integer.parseInt(id.substring(3));
+                idCounter.accumulateAndGet(numericPart + 1, Math::max);
+            } catch (NumberFormatException e) {
+                // Ignore non-numeric IDs
             }
         }
-        idCounter = maxId;
-        // System.out.println("DEBUG: idCounter set to " + idCounter);
     }
 
     /**
-     * Generate a unique expenditure ID
+     * Generate a unique expenditure ID without locking
      * @return unique ID string
      */
-    private synchronized String generateUniqueId() {
-        return "EXP" + String.format("%04d", ++idCounter);
+    private String generateUniqueId() {
+        return "EXP" + String.format("%04d", idCounter.incrementAndGet());
     }
 
-    public boolean addExpenditure(Expenditure expenditure) {
+    public synchronized boolean addExpenditure(Expenditure expenditure) {
         // System.out.println("DEBUG: addExpenditure called");
         if (expenditure == null) {
             // System.out.println("DEBUG: expenditure is null");
@@ -71,18 +83,96 @@ public class ExpenditureManager {
             // System.out.println("DEBUG: Using existing ID: " + expenditure.getId());
         }
         
-        // Check for duplicate IDs
-        for (Expenditure e : expenditures) {
-            if (e.getId().equalsIgnoreCase(expenditure.getId())) {
-                // System.out.println("DEBUG: Duplicate ID found: " + expenditure.getId() + " already exists");
-                return false;
-            }
+        // Check for duplicate IDs (case-insensitive)
+        if (idPositions.containsKey(expenditure.getId())) {
+            return false;
         }
-        // System.out.println("DEBUG: No duplicate ID, adding expenditure with ID: " + expenditure.getId());
+        noteExistingId(expenditure.getId()); // IDs given explicitly (e.g. journal replay) must not be generated again
         expenditures.add(expenditure);
+        idPositions.put(expenditure.getId(), expenditures.size() - 1);
+        index.add(expenditures.size() - 1);
+        textIndex.add(expenditures.size() - 1);
+        version++;
         return true;
     }
 
+    /**
+     * Find an expenditure by ID
+     * @param id the expenditure ID (case-insensitive)
+     * @return the expenditure, or null if there is none with that ID
+     */
+    public synchronized Expenditure findById(String id) {
+        Integer position = idPositions.get(id);
+        return position == null ? null : expenditures.get(position);
+    }
+
+    /**
+     * Link a receipt to an existing expenditure and mark the record dirty
+     * @param id the expenditure ID (case-insensitive)
+     * @param receiptInfo the receipt file path
+     * @return true if the expenditure was found, false otherwise
+     */
+    public synchronized boolean updateReceiptInfo(String id, String receiptInfo) {
+        Integer position = idPositions.get(id);
+        if (position == null) return false;
+        expenditures.get(position).setReceiptInfo(receiptInfo);
+        textIndex.update(position);
+        markDirty(position);
+        return true;
+    }
+
+    /**
+     * Record that the expenditure at the given index was modified in place
+     * @param index position of the expenditure in the list
+     */
+    private synchronized void markDirty(int index) {
+        if (index < 0 || index >= expenditures.size()) return;
+        version++;
+        // Records past persistedCount are written as new records anyway
+        if (index >= persistedCount) return;
+        dirtyRecords.add(index);
+        if (index < firstDirtyRecord) firstDirtyRecord = index;
+    }
+
+    /**
+     * @return change counter, bumped on every add or in-place modification
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Index of the first record that differs from expenditures.txt. Records before
+     * it are unchanged on disk; everything from it onwards must be (re)written.
+     * @return the first dirty index, or size() if the file is up to date
+     */
+    public int getFirstDirtyIndex() {
+        return Math.min(Math.min(firstDirtyRecord, persistedCount), expenditures.size());
+    }
+
+    /**
+     * @return number of persisted records modified since the last save
+     */
+    public int getDirtyRecordCount() {
+        return dirtyRecords.size();
+    }
+
+    /**
+     * @return number of leading records known to be in expenditures.txt
+     */
+    public int getPersistedCount() {
+        return persistedCount;
+    }
+
+    /**
+     * Record that all current expenditures have been written to expenditures.txt
+     */
+    public synchronized void markPersisted() {
+        persistedCount = expenditures.size();
+        dirtyRecords = new SimpleSet<>();
+        firstDirtyRecord = Integer.MAX_VALUE;
+    }
+
     /**
      * Add expenditure with auto-generated ID
      * @param description expenditure description
@@ -115,6 +205,31 @@ public class ExpenditureManager {
         return expenditures;
     }
 
+    /**
+     * @return secondary indexes over getAllExpenditures(), by category, account, phase, date and amount
+     */
+    public ExpenditureIndex getIndex() {
+        return index;
+    }
+
+    /**
+     * @return word index over the descriptions and receipts of getAllExpenditures()
+     */
+    public TextIndex getTextIndex() {
+        return textIndex;
+    }
+
+    /**
+     * Get a page of expenditures in list order
+     * @param token continuation token from a previous page, or null for the first page
+     * @param pageSize rows per page
+     * @return the page; records added after the first page was taken do not shift later pages
+     * @throws IllegalArgumentException if the token is not from this list
+     */
+    public synchronized Page<Expenditure> getPage(String token, int pageSize) {
+        return new Pager<>(expenditures, pageSize).page(token);
+    }
+
     public BigDecimal getTotalAmount() {
         BigDecimal total = BigDecimal.ZERO;
         for (Expenditure exp : expenditures) {
@@ -138,12 +253,13 @@ public class ExpenditureManager {
      * Load expenditures from external source and update ID counter
      * @param loadedExpenditures list of expenditures to add
      */
-    public void loadExpenditures(SimpleArrayList<Expenditure> loadedExpenditures) {
+    public synchronized void loadExpenditures(SimpleArrayList<Expenditure> loadedExpenditures) {
         if (loadedExpenditures != null) {
-            for (int i = 0; i < loadedExpenditures.size(); i++) {
-                expenditures.add(loadedExpenditures.get(i));
-            }
-            initializeIdCounter(); // Update counter based on loaded data
+            expenditures.addAll(loadedExpenditures);
+            index.rebuild(); // One pass over all records
+            textIndex.rebuild();
+            indexIds(); // Seed the ID counter and ID index from the loaded data
+            markPersisted(); // Loaded records are what the file already holds
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,302 @@
+/**
+ * ExpenditureQuery.java
+ *
+ * A composite expenditure search for the Nkwa Real Estate Expenditure
+ * Management System. A query is a conjunction of optional criteria with an
+ * optional sort order and result window, built fluently:
+ *
+ *   ExpenditureQuery.create()
+ *       .category("Cement")
+ *       .dateRange(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31))
+ *       .amountRange(new BigDecimal("100"), null)
+ *       .sortBy(ExpenditureQuery.Sort.DATE)
+ *       .limit(20);
+ *
+ * Queries are run by {@link SearchAndSortModule#query(SimpleArrayList, ExpenditureQuery)},
+ * which lets the expenditure indexes plan them when possible.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * ExpenditureQuery holds the criteria of a search. All set criteria must
+ * match; criteria left unset match everything. Text criteria compare
+ * ignoring case, and range bounds are inclusive, as in the single-criterion
+ * searches of {@link SearchAndSortModule}.
+ */
+public class ExpenditureQuery {
+    /** Result orderings */
+    public enum Sort {
+        /** Order of the expenditure list */
+        NONE,
+        /** Date/time, oldest first */
+        DATE,
+        /** Amount, smallest first */
+        AMOUNT,
+        /** Category name, case-insensitive */
+        CATEGORY,
+        /** Category name, then date/time within each category */
+        CATEGORY_THEN_DATE
+    }
+
+    /** Bit for each criterion, used to track which ones an index already satisfied */
+    static final int CATEGORY = 1, ACCOUNT = 2, PHASE = 4, DATE = 8, AMOUNT = 16;
+
+    private String category;
+    private String account;
+    private String phase;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+    private Sort sort = Sort.NONE;
+    private int offset;
+    private int limit = Integer.MAX_VALUE;
+
+    private ExpenditureQuery() {}
+
+    /** @return A query with no criteria, matching every expenditure */
+    public static ExpenditureQuery create() {
+        return new ExpenditureQuery();
+    }
+
+    /** Only expenditures in this category (ignoring case and surrounding spaces) */
+    public ExpenditureQuery category(String name) {
+        this.category = name == null ? null : name.trim();
+        return this;
+    }
+
+    /** Only expenditures charged to this bank account (ignoring case) */
+    public ExpenditureQuery account(String accountId) {
+        this.account = accountId;
+        return this;
+    }
+
+    /** Only expenditures in this phase (ignoring case) */
+    public ExpenditureQuery phase(String phase) {
+        this.phase = phase;
+        return this;
+    }
+
+    /** Only expenditures dated from one day to another inclusive; either bound may be null */
+    public ExpenditureQuery dateRange(LocalDate from, LocalDate to) {
+        this.fromDate = from;
+        this.toDate = to;
+        return this;
+    }
+
+    /** Only expenditures with an amount in this range inclusive; either bound may be null */
+    public ExpenditureQuery amountRange(BigDecimal min, BigDecimal max) {
+        this.minAmount = min;
+        this.maxAmount = max;
+        return this;
+    }
+
+    /** Order of the results */
+    public ExpenditureQuery sortBy(Sort sort) {
+        this.sort = sort == null ? Sort.NONE : sort;
+        return this;
+    }
+
+    /** Number of leading results to skip */
+    public ExpenditureQuery offset(int offset) {
+        this.offset = Math.max(0, offset);
+        return this;
+    }
+
+    /** Maximum number of results to return */
+    public ExpenditureQuery limit(int limit) {
+        this.limit = Math.max(0, limit);
+        return this;
+    }
+
+    String getCategory() { return category; }
+    String getAccount() { return account; }
+    String getPhase() { return phase; }
+    LocalDate getFromDate() { return fromDate; }
+    LocalDate getToDate() { return toDate; }
+    BigDecimal getMinAmount() { return minAmount; }
+    BigDecimal getMaxAmount() { return maxAmount; }
+    Sort getSort() { return sort; }
+    int getOffset() { return offset; }
+    int getLimit() { return limit; }
+
+    boolean hasDateRange() { return fromDate != null || toDate != null; }
+    boolean hasAmountRange() { return minAmount != null || maxAmount != null; }
+
+    /**
+     * @return true if no expenditure can match, because a range is empty
+     */
+    boolean isEmpty() {
+        return (fromDate != null && toDate != null && toDate.isBefore(fromDate))
+            || (minAmount != null && maxAmount != null && minAmount.compareTo(maxAmount) > 0);
+    }
+
+    /**
+     * Tests the criteria not already guaranteed by an index.
+     *
+     * @param e The expenditure
+     * @param satisfied Bits of the criteria to skip
+     * @return true if the expenditure matches every other criterion
+     */
+    boolean matches(Expenditure e, int satisfied) {
+        if (category != null && (satisfied & CATEGORY) == 0
+                && (e.getCategory() == null || !e.getCategory().getName().equalsIgnoreCase(category))) return false;
+        if (account != null && (satisfied & ACCOUNT) == 0 && !account.equalsIgnoreCase(e.getBankAccountId())) return false;
+        if (phase != null && (satisfied & PHASE) == 0 && !phase.equalsIgnoreCase(e.getPhase())) return false;
+        if (hasDateRange() && (satisfied & DATE) == 0) {
+            if (e.getDateTime() == null) return false;
+            LocalDate d = e.getDateTime().toLocalDate();
+            if (fromDate != null && d.isBefore(fromDate)) return false;
+            if (toDate != null && d.isAfter(toDate)) return false;
+        }
+        if (hasAmountRange() && (satisfied & AMOUNT) == 0) {
+            if (e.getAmount() == null) return false;
+            if (minAmount != null && e.getAmount().compareTo(minAmount) < 0) return false;
+            if (maxAmount != null && e.getAmount().compareTo(maxAmount) > 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sorts matches into the query's order. The sort is stable, so ties keep list order.
+     */
+    void sort(SimpleArrayList<Expenditure> matches) {
+        switch (sort) {
+            case DATE:
+                SortEngine.sort(matches, (a, b) -> a.getDateTime().compareTo(b.getDateTime()));
+                break;
+            case AMOUNT:
+                SortEngine.sort(matches, (a, b) -> a.getAmount().compareTo(b.getAmount()));
+                break;
+            case CATEGORY:
+                SortEngine.sortByKey(matches, e -> e.getCategory().getName().toLowerCase(), Comparator.naturalOrder());
+                break;
+            case CATEGORY_THEN_DATE:
+                SortEngine.sortByKey(matches, e -> e.getCategory().getName().toLowerCase(), Comparator.naturalOrder(),
+                        (a, b) -> a.getDateTime().compareTo(b.getDateTime()));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return The query's order as a comparator, or null if results keep list order
+     */
+    Comparator<Expenditure> comparator() {
+        switch (sort) {
+            case DATE:
+                return (a, b) -> a.getDateTime().compareTo(b.getDateTime());
+            case AMOUNT:
+                return (a, b) -> a.getAmount().compareTo(b.getAmount());
+            case CATEGORY:
+                return (a, b) -> a.getCategory().getName().toLowerCase().compareTo(b.getCategory().getName().toLowerCase());
+            case CATEGORY_THEN_DATE:
+                return (a, b) -> {
+                    int c = a.getCategory().getName().toLowerCase().compareTo(b.getCategory().getName().toLowerCase());
+                    return c != 0 ? c : a.getDateTime().compareTo(b.getDateTime());
+                };
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Runs the query by scanning a list: lazily filters, then sorts and applies the window.
+     *
+     * @param expenditures The list to search
+     * @return The matching expenditures in the query's order
+     */
+    SimpleArrayList<Expenditure> scan(SimpleArrayList<Expenditure> expenditures) {
+        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
+        if (isEmpty()) return results;
+        Window window = new Window(this);
+        for (int i = 0; i < expenditures.size() && !window.isFull(); i++) {
+            Expenditure e = expenditures.get(i);
+            if (matches(e, 0)) window.offer(e);
+        }
+        return window.results();
+    }
+
+    /**
+     * Collects matches in candidate order and applies sort, offset and limit.
+     * Without a sort (or when candidates already arrive in sort order) only
+     * the window is kept and collection stops once it is full. A sorted
+     * query with a limit keeps only the first offset + limit matches in a
+     * bounded heap, in O(n log k) time and O(k) memory.
+     */
+    static final class Window {
+        private final ExpenditureQuery query;
+        private final boolean needsSort;
+        private final SimpleArrayList<Expenditure> kept = new SimpleArrayList<>();
+        private final TopK<Expenditure> first;
+        private int skipped;
+
+        Window(ExpenditureQuery query) {
+            this(query, query.sort != Sort.NONE);
+        }
+
+        Window(ExpenditureQuery query, boolean needsSort) {
+            this.query = query;
+            this.needsSort = needsSort;
+            long bound = (long) query.offset + query.limit;
+            // The smallest k in query order are the largest under the reversed order
+            this.first = needsSort && query.limit != Integer.MAX_VALUE && bound < Integer.MAX_VALUE
+                    ? new TopK<>((int) bound, query.comparator().reversed()) : null;
+        }
+
+        void offer(Expenditure e) {
+            if (first != null) {
+                first.offer(e);
+                return;
+            }
+            if (!needsSort && skipped < query.offset) {
+                skipped++;
+                return;
+            }
+            kept.add(e);
+        }
+
+        boolean isFull() {
+            return !needsSort && kept.size() >= query.limit;
+        }
+
+        SimpleArrayList<Expenditure> results() {
+            if (!needsSort) return kept;
+            if (first != null) {
+                kept.addAll(first.drain()); // Already in query order, ties in list order
+            } else {
+                query.sort(kept);
+            }
+            int from = Math.min(query.offset, kept.size());
+            int to = (int) Math.min((long) from + query.limit, kept.size());
+            if (from == 0 && to == kept.size()) return kept;
+            SimpleArrayList<Expenditure> page = new SimpleArrayList<>(to - from);
+            for (int i = from; i < to; i++) page.add(kept.get(i));
+            return page;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (category != null) sb.append(" category=").append(category);
+        if (account != null) sb.append(" account=").append(account);
+        if (phase != null) sb.append(" phase=").append(phase);
+        if (hasDateRange()) sb.append(" date=").append(fromDate == null ? "*" : fromDate).append("..").append(toDate == null ? "*" : toDate);
+        if (hasAmountRange()) sb.append(" amount=").append(minAmount == null ? "*" : minAmount).append("..").append(maxAmount == null ? "*" : maxAmount);
+        if (sort != Sort.NONE) sb.append(" sort=").append(sort);
+        if (offset > 0) sb.append(" offset=").append(offset);
+        if (limit != Integer.MAX_VALUE) sb.append(" limit=").append(limit);
+        return sb.length() == 0 ? "(all)" : sb.substring(1);
+    }
+}
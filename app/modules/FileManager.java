@@ -3,162 +3,445 @@ package app.modules;
 import app.util.*;
 import java.io.*;
 import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 
 public class FileManager {
     private final String dataDir = "";
 
+    /** First field of the comment line that records the journal mark in accounts.txt */
+    private static final String JOURNAL_MARK = "#journal";
+
+    /** Size of the char block the line scanner reads at a time */
+    private static final int READ_BLOCK = 64 * 1024;
+
     public FileManager() {}
 
-    public SimpleArrayList<Expenditure> loadExpenditures(String filename) {
-        SimpleArrayList<Expenditure> expenditures = new SimpleArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(dataDir + filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split("\\|");
-                if (parts.length < 5) continue; // Need at least 5 fields for basic expenditure
-                
-                String code = parts[0];
-                String description = parts[1];
-                BigDecimal amount = new BigDecimal(parts[2]);
-                LocalDateTime dateTime = LocalDateTime.parse(parts[3]);
-                
-                // Handle different file formats for backward compatibility
-                String categoryName, bankAccountId, phase = "active";
-                String receiptInfo = null;
-                
-                if (parts.length == 6) {
-                    // Old format: ID|description|amount|datetime|categoryName|bankAccountId
-                    categoryName = parts[4];
-                    bankAccountId = parts[5];
-                } else if (parts.length >= 7) {
-                    // New format: ID|description|amount|datetime|phase|categoryName|bankAccountId|receiptInfo
-                    phase = parts[4];
-                    categoryName = parts[5];
-                    bankAccountId = parts[6];
-                    if (parts.length >= 8) {
-                        receiptInfo = parts[7].trim().isEmpty() ? null : parts[7];
-                    }
-                } else {
-                    // Incomplete data, skip this line
-                    continue;
+    /**
+     * Resolves a data file name against the data directory.
+     *
+     * @param filename Name of a data file
+     * @return The path the file is read from and written to
+     */
+    public String resolve(String filename) {
+        return dataDir + filename;
+    }
+
+    /**
+     * Per-thread parsing state shared by all rows of one load: a reusable field
+     * tokenizer and intern tables for values that repeat across rows.
+     * Identical category names resolve to one temporary Category instance, and
+     * identical phases and account IDs to one String instance.
+     */
+    public static final class ParseContext {
+        final FieldTokenizer fields = new FieldTokenizer('|');
+        final InternTable<Category> categories = new InternTable<>(
+                name -> new Category("TEMP_" + name, name, "Loaded category", "blue"));
+        final InternTable<String> phases = new InternTable<>(text -> text);
+        final InternTable<String> accountIds = new InternTable<>(text -> text);
+
+        /** @return The tokenizer to reset onto each record before parsing */
+        public FieldTokenizer fields() { return fields; }
+    }
+
+    /** Context reused by single-record parsing, one per thread */
+    private static final ThreadLocal<ParseContext> THREAD_CONTEXT = ThreadLocal.withInitial(ParseContext::new);
+
+    /**
+     * Returns the calling thread's parsing context, so parsing records one at
+     * a time does not build a tokenizer and intern tables per record.
+     * The context must not be used by two parses at once.
+     *
+     * @return The context of the calling thread
+     */
+    public static ParseContext threadContext() {
+        return THREAD_CONTEXT.get();
+    }
+
+    /**
+     * Receives each line of a file as a range of a shared char buffer.
+     */
+    private interface LineVisitor {
+        void visit(char[] buf, int from, int to);
+    }
+
+    /**
+     * Reads a file in large blocks and hands each line to the visitor without
+     * creating a String per line. Line terminators (\n or \r\n) are excluded.
+     */
+    private void scanLines(String filename, LineVisitor visitor) throws IOException {
+        try (Reader reader = new InputStreamReader(new FileInputStream(dataDir + filename))) {
+            char[] buf = new char[READ_BLOCK];
+            int filled = 0;
+            int read;
+            while ((read = reader.read(buf, filled, buf.length - filled)) != -1) {
+                filled += read;
+                int lineStart = 0;
+                for (int i = 0; i < filled; i++) {
+                    if (buf[i] != '\n') continue;
+                    visitor.visit(buf, lineStart, i > lineStart && buf[i - 1] == '\r' ? i - 1 : i);
+                    lineStart = i + 1;
                 }
-                
-                // Create a temporary category - the actual category will be resolved later
-                Category category = new Category("TEMP_" + categoryName, categoryName, "Loaded category", "blue");
-                
-                Expenditure exp = new Expenditure(code, description, amount, category, dateTime, phase, bankAccountId);
-                if (receiptInfo != null) {
-                    exp.setReceiptInfo(receiptInfo);
+                // Keep the incomplete last line, growing the buffer if one line fills it
+                filled -= lineStart;
+                System.arraycopy(buf, lineStart, buf, 0, filled);
+                if (filled == buf.length) {
+                    char[] bigger = new char[buf.length * 2];
+                    System.arraycopy(buf, 0, bigger, 0, filled);
+                    buf = bigger;
                 }
-                expenditures.add(exp);
             }
+            if (filled > 0) visitor.visit(buf, 0, buf[filled - 1] == '\r' ? filled - 1 : filled);
+        }
+    }
+
+    public SimpleArrayList<Expenditure> loadExpenditures(String filename) {
+        SimpleArrayList<Expenditure> expenditures = new SimpleArrayList<>();
+        ParseContext ctx = new ParseContext();
+        try {
+            scanLines(filename, (buf, from, to) -> {
+                ctx.fields.reset(buf, from, to);
+                Expenditure exp = parseExpenditure(ctx);
+                if (exp != null) expenditures.add(exp);
+            });
         } catch (IOException e) {}
         return expenditures;
     }
 
+    /**
+     * Parses a single expenditure record in the expenditures.txt format.
+     *
+     * @param line pipe-delimited expenditure record
+     * @return the parsed expenditure with a temporary category, or null if the line is incomplete or malformed
+     */
+    public Expenditure parseExpenditure(String line) {
+        ParseContext ctx = threadContext();
+        char[] chars = line.toCharArray();
+        ctx.fields.reset(chars, 0, chars.length);
+        return parseExpenditure(ctx);
+    }
+
+    /**
+     * Parses the expenditure record the context's tokenizer is currently reset onto.
+     * Shared by the sequential loader, the parallel loader and the journal replay.
+     *
+     * @param ctx parsing state holding the tokenized record
+     * @return the parsed expenditure with a temporary category, or null if the record is incomplete or malformed
+     */
+    public Expenditure parseExpenditure(ParseContext ctx) {
+        FieldTokenizer f = ctx.fields;
+        int fieldCount = f.fieldCount();
+        if (fieldCount < 5) return null; // Need at least 5 fields for basic expenditure
+
+        try {
+            // Handle different file formats for backward compatibility
+            int phaseField = -1, categoryField, accountField, receiptField = -1;
+            if (fieldCount == 6) {
+                // Old format: ID|description|amount|datetime|categoryName|bankAccountId
+                categoryField = 4;
+                accountField = 5;
+            } else if (fieldCount >= 7) {
+                // New format: ID|description|amount|datetime|phase|categoryName|bankAccountId|receiptInfo
+                phaseField = 4;
+                categoryField = 5;
+                accountField = 6;
+                if (fieldCount >= 8 && !f.isBlank(7)) receiptField = 7;
+            } else {
+                // Incomplete data, skip this line
+                return null;
+            }
+
+            BigDecimal amount = f.decimal(2);
+            LocalDateTime dateTime = f.dateTime(3);
+            String phase = phaseField >= 0 ? f.intern(phaseField, ctx.phases) : "active";
+
+            // Temporary category shared by all rows with this name - the actual category is resolved later
+            Category category = f.intern(categoryField, ctx.categories);
+
+            Expenditure exp = new Expenditure(f.string(0), f.string(1), amount, category, dateTime, phase,
+                    f.intern(accountField, ctx.accountIds));
+            if (receiptField >= 0) {
+                exp.setReceiptInfo(f.string(receiptField));
+            }
+            return exp;
+        } catch (RuntimeException e) {
+            // Malformed amount or timestamp
+            return null;
+        }
+    }
+
+    /**
+     * Formats an expenditure as a single pipe-delimited record (without line terminator).
+     *
+     * @param exp the expenditure to format
+     * @return the record in the expenditures.txt format
+     */
+    public String formatExpenditure(Expenditure exp) {
+        return String.join("|",
+                exp.getId(),
+                exp.getDescription(),
+                exp.getAmount().toString(),
+                exp.getDateTime().toString(),
+                exp.getPhase() != null ? exp.getPhase() : "active", // Include phase field
+                exp.getCategory().getName(),
+                exp.getBankAccountId() != null ? exp.getBankAccountId() : "",
+                exp.getReceiptInfo() != null ? exp.getReceiptInfo() : ""
+        );
+    }
+
+    /**
+     * Writes the body of a data file.
+     */
+    private interface RecordWriter {
+        void write(BufferedWriter bw) throws IOException;
+    }
+
+    /**
+     * Replaces a data file without ever leaving it half written.
+     *
+     * The new contents go to filename.tmp, which is forced to disk and then
+     * renamed over the original in one atomic step, so after a crash the file
+     * holds either the old or the new contents. The first keepBytes bytes of
+     * the current file are copied unchanged ahead of the body.
+     *
+     * @param filename The file to replace
+     * @param keepBytes Number of leading bytes of the current file to keep
+     * @param body Writes the rest of the new contents
+     * @return true if the file was replaced
+     */
+    private boolean writeAtomically(String filename, long keepBytes, RecordWriter body) {
+        File target = new File(dataDir + filename);
+        File tmp = new File(dataDir + filename + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(tmp)) {
+            if (keepBytes > 0) {
+                try (FileInputStream in = new FileInputStream(target)) {
+                    FileChannel src = in.getChannel();
+                    long copied = 0;
+                    while (copied < keepBytes) {
+                        long n = src.transferTo(copied, keepBytes - copied, out.getChannel());
+                        if (n <= 0) throw new EOFException(filename + " is shorter than expected");
+                        copied += n;
+                    }
+                }
+            }
+            // Same charset as the FileWriter the files were always written with
+            BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()));
+            body.write(bw);
+            bw.flush();
+            out.getFD().sync();
+        } catch (IOException e) {
+            tmp.delete();
+            return false;
+        }
+        try {
+            try {
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            tmp.delete();
+            return false;
+        }
+        syncDirectory(target);
+        return true;
+    }
+
+    /**
+     * Forces the directory entry of a renamed file to disk where the platform allows it.
+     */
+    private static void syncDirectory(File file) {
+        File dir = file.getAbsoluteFile().getParentFile();
+        try (FileChannel ch = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException e) {
+            // Not supported on every platform (e.g. Windows); the rename itself is still atomic
+        }
+    }
+
     public boolean saveExpenditures(SimpleArrayList<Expenditure> expenditures, String filename) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(dataDir + filename))) {
+        return writeAtomically(filename, 0, bw -> {
             for (int i = 0; i < expenditures.size(); i++) {
-                Expenditure exp = expenditures.get(i);
-                String line = String.join("|",
-                        exp.getId(),
-                        exp.getDescription(),
-                        exp.getAmount().toString(),
-                        exp.getDateTime().toString(),
-                        exp.getPhase() != null ? exp.getPhase() : "active", // Include phase field
-                        exp.getCategory().getName(),
-                        exp.getBankAccountId() != null ? exp.getBankAccountId() : "",
-                        exp.getReceiptInfo() != null ? exp.getReceiptInfo() : ""
-                );
-                bw.write(line);
+                bw.write(formatExpenditure(expenditures.get(i)));
                 bw.newLine();
             }
-            return true;
+        });
+    }
+
+    /**
+     * Rewrites only the tail of an expenditures file: lines before fromIndex are
+     * kept as they are, the rest of the file is replaced by expenditures[fromIndex..].
+     * The unchanged prefix is copied byte for byte into the new file, so only the
+     * records from fromIndex on are formatted again.
+     *
+     * The file must hold exactly persistedCount complete lines, one per record;
+     * otherwise (missing file, blank or malformed lines, torn last line) nothing
+     * is written and false is returned, and the caller should save the whole file.
+     *
+     * @param expenditures All expenditures, in file order
+     * @param fromIndex Index of the first record to write
+     * @param persistedCount Number of records the file is expected to hold
+     * @param filename The expenditures file
+     * @return true if the file was patched
+     */
+    public boolean patchExpenditures(SimpleArrayList<Expenditure> expenditures, int fromIndex, int persistedCount, String filename) {
+        File file = new File(dataDir + filename);
+        if (fromIndex > persistedCount || !file.isFile()) return false;
+        long offset = -1;
+        try (InputStream in = new FileInputStream(file)) {
+            // Count lines and find where line fromIndex starts
+            byte[] block = new byte[READ_BLOCK];
+            long pos = 0;
+            int lines = 0;
+            boolean endsWithNewline = true;
+            if (fromIndex == 0) offset = 0;
+            int n;
+            while ((n = in.read(block)) > 0) {
+                for (int i = 0; i < n; i++) {
+                    if (block[i] != '\n') continue;
+                    lines++;
+                    if (lines == fromIndex) offset = pos + i + 1;
+                }
+                endsWithNewline = block[n - 1] == '\n';
+                pos += n;
+            }
+            if (lines != persistedCount || !endsWithNewline || offset < 0) return false;
         } catch (IOException e) { return false; }
+
+        return writeAtomically(filename, offset, bw -> {
+            for (int i = fromIndex; i < expenditures.size(); i++) {
+                bw.write(formatExpenditure(expenditures.get(i)));
+                bw.newLine();
+            }
+        });
     }
 
     public SimpleArrayList<Category> loadCategories(String filename) {
         SimpleArrayList<Category> categories = new SimpleArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(dataDir + filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split("\\|");
-                if (parts.length < 3) continue;
-                categories.add(new Category("CAT" + System.currentTimeMillis(), parts[0], parts[1], parts[2]));
-            }
+        FieldTokenizer f = new FieldTokenizer('|');
+        try {
+            scanLines(filename, (buf, from, to) -> {
+                if (f.reset(buf, from, to) < 3) return;
+                categories.add(new Category("CAT" + System.currentTimeMillis(), f.string(0), f.string(1), f.string(2)));
+            });
         } catch (IOException e) {}
         return categories;
     }
 
     public boolean saveCategories(SimpleArrayList<Category> categories, String filename) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(dataDir + filename))) {
+        return writeAtomically(filename, 0, bw -> {
             for (int i = 0; i < categories.size(); i++) {
                 Category cat = categories.get(i);
                 String line = String.join("|", cat.getName(), cat.getDescription(), cat.getColor());
                 bw.write(line);
                 bw.newLine();
             }
-            return true;
-        } catch (IOException e) { return false; }
+        });
     }
 
     public SimpleArrayList<BankAccount> loadAccounts(String filename) {
         SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(dataDir + filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.startsWith("#") || line.trim().isEmpty()) continue;
-                String[] parts = line.split("\\|");
-                if (parts.length < 3) continue;
-                String id = parts[0];
-                String name = parts[1];
-                BigDecimal balance = new BigDecimal(parts[2]);
-                BankAccount account = new BankAccount(id, name, balance);
-                accounts.add(account);
-            }
+        FieldTokenizer f = new FieldTokenizer('|');
+        try {
+            scanLines(filename, (buf, from, to) -> {
+                f.reset(buf, from, to);
+                if (f.startsWith('#') || f.isBlankRecord()) return;
+                if (f.fieldCount() < 3) return;
+                try {
+                    accounts.add(new BankAccount(f.string(0), f.string(1), f.decimal(2)));
+                } catch (NumberFormatException e) {
+                    // Skip rows with a malformed balance
+                }
+            });
         } catch (IOException e) {}
         return accounts;
     }
 
     public boolean saveAccounts(SimpleArrayList<BankAccount> accounts, String filename) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(dataDir + filename))) {
+        return saveAccounts(accounts, null, filename);
+    }
+
+    /**
+     * Writes the accounts file together with the journal mark its balances match.
+     *
+     * The mark is written as a leading comment line ("#journal|generation|records"),
+     * which {@link #loadAccounts(String)} skips.
+     *
+     * @param accounts The accounts to write
+     * @param mark The journal records whose debits the balances include, or null for none
+     * @param filename The accounts file
+     * @return true if the file was written
+     */
+    public boolean saveAccounts(SimpleArrayList<BankAccount> accounts, ExpenditureJournal.Mark mark, String filename) {
+        return writeAtomically(filename, 0, bw -> {
+            if (mark != null) {
+                bw.write(JOURNAL_MARK + "|" + mark.getGeneration() + "|" + mark.getRecords());
+                bw.newLine();
+            }
             for (int i = 0; i < accounts.size(); i++) {
                 BankAccount acc = accounts.get(i);
                 String line = String.join("|", acc.getAccountNumber(), acc.getAccountName(), acc.getBalance().toString());
                 bw.write(line);
                 bw.newLine();
             }
-            return true;
-        } catch (IOException e) { return false; }
+        });
+    }
+
+    /**
+     * Reads the journal mark written at the top of an accounts file.
+     *
+     * @param filename The accounts file
+     * @return The mark, or null if the file is missing or was written without one
+     * @throws IOException if the file exists but cannot be read; treating it as
+     *         unmarked could debit journaled expenditures a second time
+     */
+    public ExpenditureJournal.Mark loadJournalMark(String filename) throws IOException {
+        if (!new File(dataDir + filename).exists()) return null;
+        ExpenditureJournal.Mark[] mark = new ExpenditureJournal.Mark[1];
+        int[] lines = new int[1];
+        FieldTokenizer f = new FieldTokenizer('|');
+        scanLines(filename, (buf, from, to) -> {
+            // Only the first line can hold the mark
+            if (lines[0]++ > 0) return;
+            if (f.reset(buf, from, to) != 3 || !JOURNAL_MARK.equals(f.string(0))) return;
+            try {
+                mark[0] = new ExpenditureJournal.Mark(Long.parseLong(f.string(1)), Integer.parseInt(f.string(2)));
+            } catch (NumberFormatException e) {
+                // A malformed mark counts as no mark
+            }
+        });
+        return mark[0];
     }
 
     public SimpleArrayList<Receipt> loadReceipts(String filename) {
         SimpleArrayList<Receipt> receipts = new SimpleArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(dataDir + filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split("\\|");
-                if (parts.length < 4) continue;
-                String receiptId = parts[0];
-                String expenseCode = parts[1];
-                String filePath = parts[2];
-                String timestampStr = parts[3];
-                receipts.add(new Receipt(receiptId, expenseCode, filePath, LocalDateTime.parse(timestampStr)));
-            }
+        FieldTokenizer f = new FieldTokenizer('|');
+        try {
+            scanLines(filename, (buf, from, to) -> {
+                if (f.reset(buf, from, to) < 4) return;
+                try {
+                    receipts.add(new Receipt(f.string(0), f.string(1), f.string(2), f.dateTime(3)));
+                } catch (RuntimeException e) {
+                    // Skip rows with a malformed timestamp
+                }
+            });
         } catch (IOException e) {}
         return receipts;
     }
 
     public boolean saveReceipts(SimpleArrayList<Receipt> receipts, String filename) {
-        try (BufferedWriter bw = new BufferedWriter(new FileWriter(dataDir + filename))) {
+        return writeAtomically(filename, 0, bw -> {
             for (int i = 0; i < receipts.size(); i++) {
                 Receipt r = receipts.get(i);
                 String line = String.join("|", r.getReceiptId(), r.getExpenseCode(), r.getFilePath(), r.getTimestamp().toString());
                 bw.write(line);
                 bw.newLine();
             }
-            return true;
-        } catch (IOException e) { return false; }
+        });
     }
 }
\ No newline at end of file
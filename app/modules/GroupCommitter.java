@@ -0,0 +1,146 @@
+/**
+ * GroupCommitter.java
+ *
+ * Group commit for the Nkwa Real Estate Expenditure Management System. Save
+ * requests that arrive from several threads within a short window are served
+ * by a single durable write instead of one write each.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * GroupCommitter coalesces concurrent save requests into shared flushes.
+ *
+ * Each call to {@link #commit()} takes a ticket. The first caller that finds no
+ * flush running becomes the leader: it waits for the commit window so that more
+ * requests can join, then runs the flush once on behalf of every ticket issued
+ * so far. Callers whose ticket arrived while a flush was already running are
+ * served by the next flush. Every caller returns only after a flush that
+ * started after its request has finished.
+ *
+ * Because each flush writes the complete current state, a caller is also
+ * satisfied by any later successful flush, even if the flush that covered its
+ * own ticket failed.
+ */
+public class GroupCommitter {
+    /** Writes the current state durably; returns true on success */
+    private final BooleanSupplier flush;
+
+    /** How long a leader waits for more requests before flushing, in milliseconds */
+    private final long windowMillis;
+
+    /** Number of tickets issued */
+    private long requested;
+
+    /** Highest ticket covered by a completed flush */
+    private long flushedThrough;
+
+    /** Highest ticket covered by a successful flush */
+    private long durableThrough;
+
+    /** Whether a leader is currently collecting or flushing */
+    private boolean flushing;
+
+    /** Number of flushes run */
+    private long flushCount;
+
+    /** Number of requests absorbed by the last flush */
+    private int lastBatchSize;
+
+    /** Largest number of requests absorbed by one flush */
+    private int maxBatchSize;
+
+    /**
+     * Creates a group committer.
+     *
+     * @param flush Writes the current state durably, returning true on success
+     * @param windowMillis How long to collect requests before flushing (0 to flush at once)
+     */
+    public GroupCommitter(BooleanSupplier flush, long windowMillis) {
+        this.flush = flush;
+        this.windowMillis = Math.max(0, windowMillis);
+    }
+
+    /**
+     * Requests a durable save and waits until one has completed.
+     *
+     * Must not be called while holding a lock that the flush itself takes,
+     * since the flush may run on another caller's thread.
+     *
+     * @return true if a flush started after this request succeeded
+     */
+    public boolean commit() {
+        long ticket;
+        long batchEnd;
+        synchronized (this) {
+            ticket = ++requested;
+            while (flushing && flushedThrough < ticket) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            if (flushedThrough >= ticket) return durableThrough >= ticket;
+
+            // No flush running: lead one, collecting requests for the commit window
+            flushing = true;
+            long deadline = System.currentTimeMillis() + windowMillis;
+            for (long remaining = windowMillis; remaining > 0; remaining = deadline - System.currentTimeMillis()) {
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            batchEnd = requested;
+        }
+
+        // The flush runs without the monitor so new requests can queue for the next one
+        boolean ok = false;
+        try {
+            ok = flush.getAsBoolean();
+        } finally {
+            synchronized (this) {
+                int batch = (int) (batchEnd - flushedThrough);
+                flushedThrough = batchEnd;
+                if (ok) durableThrough = batchEnd;
+                flushCount++;
+                lastBatchSize = batch;
+                maxBatchSize = Math.max(maxBatchSize, batch);
+                flushing = false;
+                notifyAll();
+            }
+        }
+        synchronized (this) {
+            return durableThrough >= ticket;
+        }
+    }
+
+    /** @return Number of flushes run */
+    public synchronized long getFlushCount() { return flushCount; }
+
+    /** @return Number of save requests made */
+    public synchronized long getRequestCount() { return requested; }
+
+    /** @return Number of requests the last flush absorbed */
+    public synchronized int getLastBatchSize() { return lastBatchSize; }
+
+    /** @return Largest number of requests absorbed by a single flush */
+    public synchronized int getMaxBatchSize() { return maxBatchSize; }
+
+    /** @return Average number of requests absorbed per flush */
+    public synchronized double getAverageBatchSize() {
+        return flushCount == 0 ? 0 : (double) flushedThrough / flushCount;
+    }
+
+    /** @return The commit window in milliseconds */
+    public long getWindowMillis() { return windowMillis; }
+}
@@ -0,0 +1,106 @@
+/**
+ * ImportTool.java
+ *
+ * Command-line bulk import of expenditures into the Nkwa Real Estate Expenditure
+ * Management System, for the month-end files sent in by site managers.
+ *
+ * Usage (from the data directory):
+ *   java app.Main import <file>
+ *
+ * The file uses the expenditures.txt format, one expenditure per line:
+ *   ID|description|amount|datetime|phase|category|bankAccountId|receiptInfo
+ * The ID may be left empty to have one generated. Blank lines and lines
+ * starting with '#' are ignored.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * ImportTool reads a pipe-delimited file, adds its rows in one batch through
+ * {@link XpenseSystem#addExpenditures(SimpleArrayList)} and prints a per-row
+ * report of the rows that could not be imported.
+ */
+public class ImportTool {
+    /**
+     * Imports the given file.
+     *
+     * @param filename The file to import
+     * @return Process exit code: 0 if every row was added, 1 if some rows were rejected, 2 on usage or I/O errors
+     */
+    public int run(String filename) {
+        if (filename == null) {
+            System.out.println("Usage: java app.Main import <file>");
+            return 2;
+        }
+
+        // Parse the file, remembering the line number of every row
+        FileManager fileManager = new FileManager();
+        SimpleArrayList<Expenditure> batch = new SimpleArrayList<>();
+        SimpleArrayList<Integer> lineNumbers = new SimpleArrayList<>();
+        SimpleArrayList<Integer> malformedLines = new SimpleArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(filename), Charset.defaultCharset())) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) continue;
+                Expenditure exp = fileManager.parseExpenditure(line);
+                if (exp == null) {
+                    malformedLines.add(lineNumber);
+                    continue;
+                }
+                batch.add(exp);
+                lineNumbers.add(lineNumber);
+            }
+        } catch (IOException e) {
+            System.out.println("Cannot read " + filename + ": " + e.getMessage());
+            return 2;
+        }
+
+        XpenseSystem system;
+        try {
+            system = new XpenseSystem(100.0, 5000.0);
+        } catch (UncheckedIOException e) {
+            System.out.println(e.getMessage() + ": " + e.getCause().getMessage());
+            return 2;
+        }
+        BatchResult result = system.addExpenditures(batch);
+        // Write the batch to the data files now; below the checkpoint interval it is only journaled
+        boolean saved = system.checkpoint();
+        saved = system.close() && saved;
+
+        // Report rejected rows and malformed lines together, in line order
+        SimpleArrayList<BatchResult.Row> rows = result.getRows();
+        int m = 0;
+        for (int i = 0; i <= rows.size(); i++) {
+            int lineNumber = i < rows.size() ? lineNumbers.get(rows.get(i).getIndex()) : Integer.MAX_VALUE;
+            for (; m < malformedLines.size() && malformedLines.get(m) < lineNumber; m++) {
+                System.out.println("line " + malformedLines.get(m) + ": rejected - malformed line");
+            }
+            if (i == rows.size() || rows.get(i).isAdded()) continue;
+            BatchResult.Row row = rows.get(i);
+            System.out.println("line " + lineNumber + ": "
+                    + (row.getExpenditureId() != null ? row.getExpenditureId() + " " : "")
+                    + "rejected - " + row.getMessage());
+        }
+        int malformed = malformedLines.size();
+        System.out.println("Imported " + filename + ": " + result.getSummary()
+                + (malformed > 0 ? ", " + malformed + " malformed lines skipped" : ""));
+        if (!saved) {
+            System.out.println("Failed to save the imported expenditures");
+            return 2;
+        }
+        return result.getRejectedCount() + malformed == 0 ? 0 : 1;
+    }
+}
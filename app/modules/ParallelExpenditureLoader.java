@@ -0,0 +1,230 @@
+/**
+ * ParallelExpenditureLoader.java
+ *
+ * Multi-threaded loader for expenditures.txt in the Nkwa Real Estate Expenditure
+ * Management System. The file is memory-mapped, split into newline-aligned chunks
+ * and the chunks are parsed in parallel on a ForkJoin pool. Parsed chunks are merged
+ * back in file order so the result is identical to the sequential loader.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelExpenditureLoader loads expenditures using all available cores.
+ *
+ * Loading works in three steps:
+ * 1. The file is mapped read-only with {@link FileChannel#map}
+ * 2. The mapping is cut into chunks whose boundaries fall just after a newline
+ * 3. Each chunk is tokenized in place by a ForkJoin task into its own list,
+ *    and the lists are concatenated in chunk order
+ *
+ * Files that are too small to benefit, or too large to map in one region,
+ * are loaded with the sequential {@link FileManager#loadExpenditures(String)}.
+ * Throughput of the last load is kept for startup reporting.
+ */
+public class ParallelExpenditureLoader {
+    /** Smallest chunk worth handing to a separate task */
+    private static final int MIN_CHUNK_BYTES = 64 * 1024;
+
+    /** Parses individual records and provides the sequential fallback */
+    private final FileManager fileManager;
+
+    /** Pool the chunk tasks run on */
+    private final ForkJoinPool pool;
+
+    /** Rows parsed by the last load */
+    private int lastRows;
+
+    /** Bytes read by the last load */
+    private long lastBytes;
+
+    /** Number of chunks used by the last load */
+    private int lastChunks;
+
+    /** Wall time of the last load in nanoseconds */
+    private long lastNanos;
+
+    /**
+     * Creates a loader that runs on the common ForkJoin pool.
+     *
+     * @param fileManager Used to parse records and as the sequential fallback
+     */
+    public ParallelExpenditureLoader(FileManager fileManager) {
+        this(fileManager, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a loader that runs on the given pool.
+     *
+     * @param fileManager Used to parse records and as the sequential fallback
+     * @param pool The pool to run chunk parsing tasks on
+     */
+    public ParallelExpenditureLoader(FileManager fileManager, ForkJoinPool pool) {
+        this.fileManager = fileManager;
+        this.pool = pool;
+    }
+
+    /**
+     * Loads all expenditures from the given file in file order.
+     *
+     * @param filename The expenditures file
+     * @return The parsed expenditures (empty if the file is missing or unreadable)
+     */
+    public SimpleArrayList<Expenditure> load(String filename) {
+        long start = System.nanoTime();
+        SimpleArrayList<Expenditure> result;
+        Path path = Paths.get(fileManager.resolve(filename));
+        long size = 0;
+        int chunks = 1;
+        try {
+            size = Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {}
+
+        if (size < 2L * MIN_CHUNK_BYTES || size > Integer.MAX_VALUE) {
+            result = fileManager.loadExpenditures(filename);
+        } else {
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                int[] bounds = chunkBounds(buf, (int) size);
+                chunks = bounds.length - 1;
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                SimpleArrayList<Expenditure>[] parts = new SimpleArrayList[chunks];
+                pool.invoke(new ChunkTask(buf, bounds, parts, 0, chunks));
+
+                int total = 0;
+                for (int i = 0; i < chunks; i++) total += parts[i].size();
+                result = new SimpleArrayList<>(total);
+                for (int i = 0; i < chunks; i++) result.addAll(parts[i]);
+            } catch (IOException e) {
+                result = fileManager.loadExpenditures(filename);
+            }
+        }
+
+        lastRows = result.size();
+        lastBytes = size;
+        lastChunks = chunks;
+        lastNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Computes newline-aligned chunk boundaries for the mapped file.
+     *
+     * @param buf The mapped file
+     * @param size The file size in bytes
+     * @return Boundary offsets; chunk i spans [bounds[i], bounds[i + 1])
+     */
+    private int[] chunkBounds(MappedByteBuffer buf, int size) {
+        int target = Math.max(MIN_CHUNK_BYTES, size / (pool.getParallelism() * 4));
+        int maxChunks = (size + target - 1) / target;
+        int[] bounds = new int[maxChunks + 1];
+        int n = 0;
+        int pos = 0;
+        bounds[n++] = 0;
+        while (pos < size) {
+            int next = Math.min(size, pos + target);
+            // Move the boundary just past the next newline so no record is split
+            while (next < size && buf.get(next - 1) != '\n') next++;
+            bounds[n++] = next;
+            pos = next;
+        }
+        int[] trimmed = new int[n];
+        System.arraycopy(bounds, 0, trimmed, 0, n);
+        return trimmed;
+    }
+
+    /**
+     * Parses one chunk of the mapped file into expenditures.
+     */
+    private SimpleArrayList<Expenditure> parseChunk(MappedByteBuffer buf, int from, int to) {
+        // Decode with the same charset FileManager writes the file with
+        Charset charset = Charset.defaultCharset();
+        byte[] bytes = new byte[to - from];
+        buf.get(from, bytes);
+        SimpleArrayList<Expenditure> parsed = new SimpleArrayList<>();
+        // Each task tokenizes its chunk in place with its own tokenizer and intern tables
+        FileManager.ParseContext ctx = new FileManager.ParseContext();
+        int lineStart = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i < bytes.length && bytes[i] != '\n') continue;
+            int lineEnd = i;
+            if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') lineEnd--;
+            if (lineEnd > lineStart) {
+                ctx.fields().reset(bytes, lineStart, lineEnd, charset);
+                Expenditure exp = fileManager.parseExpenditure(ctx);
+                if (exp != null) parsed.add(exp);
+            }
+            lineStart = i + 1;
+        }
+        return parsed;
+    }
+
+    /**
+     * ForkJoin task that splits a range of chunks in half until a single
+     * chunk remains, then parses it into its slot of the result array.
+     */
+    private class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedByteBuffer buf;
+        private final int[] bounds;
+        private final SimpleArrayList<Expenditure>[] parts;
+        private final int lo;
+        private final int hi;
+
+        ChunkTask(MappedByteBuffer buf, int[] bounds, SimpleArrayList<Expenditure>[] parts, int lo, int hi) {
+            this.buf = buf;
+            this.bounds = bounds;
+            this.parts = parts;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                parts[lo] = parseChunk(buf, bounds[lo], bounds[lo + 1]);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ChunkTask(buf, bounds, parts, lo, mid),
+                      new ChunkTask(buf, bounds, parts, mid, hi));
+        }
+    }
+
+    /** @return Rows parsed by the last load */
+    public int getLastRows() { return lastRows; }
+
+    /** @return Wall time of the last load in milliseconds */
+    public double getLastMillis() { return lastNanos / 1_000_000.0; }
+
+    /** @return Parse throughput of the last load in rows per second */
+    public double getLastRowsPerSecond() {
+        return lastNanos == 0 ? 0 : lastRows * 1_000_000_000.0 / lastNanos;
+    }
+
+    /**
+     * Summarizes the last load for startup reporting.
+     *
+     * @return e.g. "12000 rows (1048576 bytes, 8 chunks) in 35.2 ms = 340909 rows/sec"
+     */
+    public String getLastLoadSummary() {
+        return String.format("%d rows (%d bytes, %d chunks) in %.1f ms = %.0f rows/sec",
+                lastRows, lastBytes, lastChunks, getLastMillis(), getLastRowsPerSecond());
+    }
+}
@@ -0,0 +1,295 @@
+/**
+ * PersistenceWorker.java
+ *
+ * Write-behind persistence for the Nkwa Real Estate Expenditure Management
+ * System. Store flushes are queued by the caller and performed by a dedicated
+ * background thread, so mutating operations return as soon as the in-memory
+ * state is updated.
+ *
+ * This implementation features:
+ * - A bounded number of pending changes with blocking backpressure when full
+ * - Coalescing of queued flushes for the same store
+ * - A configurable maximum lag before queued flushes are written
+ * - flush() and close() for guaranteed durability at shutdown
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * PersistenceWorker runs store flushes on a background thread.
+ *
+ * Tasks are run in the order they were submitted. A task submitted with a key
+ * (for example "accounts") is absorbed by a queued task with the same key,
+ * because a store flush always writes the latest state and the queued one
+ * will include the new change.
+ *
+ * The worker waits up to the configured maximum lag after the oldest queued
+ * task before writing, so that bursts of changes share one write. Every
+ * submission counts as one pending change, including absorbed ones; when the
+ * number of pending changes reaches the capacity, {@link #submit(String, BooleanSupplier)}
+ * blocks until the worker has caught up.
+ *
+ * A task fails if it returns false or throws; failures are reported by
+ * {@link #flush()} and {@link #close()}.
+ */
+public class PersistenceWorker {
+    /**
+     * A queued flush.
+     */
+    private static class Task {
+        final String key;
+        final BooleanSupplier action;
+        final long enqueuedAt;
+        int changes = 1;
+
+        Task(String key, BooleanSupplier action, long enqueuedAt) {
+            this.key = key;
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /** Pending tasks in submission order */
+    private final SimpleQueue<Task> queue = new SimpleQueue<>();
+
+    /** Keyed tasks waiting in the queue */
+    private SimpleMap<String, Task> queuedByKey = new SimpleMap<>();
+
+    /** Changes submitted but not yet picked up by the worker */
+    private int pendingChanges;
+
+    /** Maximum number of pending changes before submit blocks */
+    private final int capacity;
+
+    /** Longest time a queued task waits before the worker writes it, in milliseconds */
+    private final long maxLagMillis;
+
+    /** The background thread */
+    private final Thread thread;
+
+    /** Number of tasks accepted into the queue */
+    private long submitted;
+
+    /** Number of accepted tasks that have finished running */
+    private long completed;
+
+    /** Number of submissions absorbed by an already queued task */
+    private long coalesced;
+
+    /** Number of submissions that had to wait for queue space */
+    private long blockedSubmits;
+
+    /** Number of tasks that returned false or threw an exception */
+    private long failures;
+
+    /** Failures already reported by flush() */
+    private long reportedFailures;
+
+    /** Threads waiting in flush(); while non-zero the worker does not wait out the lag */
+    private int flushWaiters;
+
+    /** Set once close() has been called */
+    private boolean closed;
+
+    /**
+     * Creates and starts a persistence worker.
+     *
+     * @param name Name of the background thread
+     * @param capacity Maximum number of pending changes (at least 1)
+     * @param maxLagMillis Longest time to hold queued tasks before writing them (0 to write at once)
+     */
+    public PersistenceWorker(String name, int capacity, long maxLagMillis) {
+        this.capacity = Math.max(1, capacity);
+        this.maxLagMillis = Math.max(0, maxLagMillis);
+        this.thread = new Thread(this::runLoop, name);
+        // Daemon so a missing close() cannot keep the JVM alive; close() still drains the queue
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a task for the background thread.
+     *
+     * Blocks while the number of pending changes is at capacity. Tasks submitted after {@link #close()}
+     * are run on the calling thread so that no change is silently dropped.
+     *
+     * @param key Store the task flushes, or null for a task that must always run
+     * @param action The flush to perform, returning true on success
+     */
+    public void submit(String key, BooleanSupplier action) {
+        synchronized (this) {
+            if (!closed && pendingChanges >= capacity) {
+                blockedSubmits++;
+                notifyAll();
+                while (pendingChanges >= capacity && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            if (!closed && pendingChanges < capacity) {
+                Task queued = key != null ? queuedByKey.get(key) : null;
+                if (queued != null) {
+                    queued.changes++;
+                    coalesced++;
+                } else {
+                    Task task = new Task(key, action, System.currentTimeMillis());
+                    queue.offer(task);
+                    if (key != null) queuedByKey.put(key, task);
+                    submitted++;
+                }
+                pendingChanges++;
+                notifyAll();
+                return;
+            }
+        }
+        if (!run(action)) {
+            synchronized (this) {
+                failures++;
+            }
+        }
+    }
+
+    /**
+     * Runs a task, treating an exception like a false result.
+     *
+     * @return true if the task succeeded
+     */
+    private static boolean run(BooleanSupplier action) {
+        try {
+            return action.getAsBoolean();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes everything queued so far and waits until it is done.
+     *
+     * @return true if all tasks completed and no task has failed since the last flush
+     */
+    public boolean flush() {
+        synchronized (this) {
+            long target = submitted;
+            flushWaiters++;
+            notifyAll();
+            try {
+                while (completed < target && thread.isAlive()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }
+            } finally {
+                flushWaiters--;
+            }
+            // Report every failure since the last flush, including tasks that ran before this call
+            boolean ok = failures == reportedFailures && completed >= target;
+            reportedFailures = failures;
+            return ok;
+        }
+    }
+
+    /**
+     * Writes everything queued, then stops the background thread.
+     * Safe to call more than once.
+     *
+     * @return true if all queued tasks completed and succeeded
+     */
+    public boolean close() {
+        boolean flushed = flush();
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return flushed;
+    }
+
+    /**
+     * Background loop: waits for tasks, holds them for up to the maximum lag,
+     * then runs every queued task in order.
+     */
+    private void runLoop() {
+        while (true) {
+            SimpleArrayList<Task> batch = new SimpleArrayList<>();
+            synchronized (this) {
+                while (queue.isEmpty() && !closed) {
+                    waitQuietly(0);
+                }
+                if (queue.isEmpty()) return;
+                // Let more changes arrive unless someone is waiting or the queue is full
+                long deadline = queue.peek().enqueuedAt + maxLagMillis;
+                long now;
+                while (!closed && flushWaiters == 0 && pendingChanges < capacity
+                        && (now = System.currentTimeMillis()) < deadline) {
+                    waitQuietly(deadline - now);
+                }
+                queue.drainTo(batch);
+                queuedByKey = new SimpleMap<>();
+                pendingChanges = 0;
+                // Room for blocked submitters again
+                notifyAll();
+            }
+
+            int failed = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                if (!run(batch.get(i).action)) failed++;
+            }
+
+            synchronized (this) {
+                completed += batch.size();
+                failures += failed;
+                notifyAll();
+            }
+        }
+    }
+
+    private void waitQuietly(long millis) {
+        try {
+            wait(millis);
+        } catch (InterruptedException e) {
+            // The worker only stops through close(), which drains the queue first
+        }
+    }
+
+    /** @return Number of tasks waiting in the queue */
+    public synchronized int getQueueSize() { return queue.size(); }
+
+    /** @return Number of changes waiting to be written */
+    public synchronized int getPendingChanges() { return pendingChanges; }
+
+    /** @return Number of tasks accepted into the queue */
+    public synchronized long getSubmittedCount() { return submitted; }
+
+    /** @return Number of submissions absorbed by an already queued flush of the same store */
+    public synchronized long getCoalescedCount() { return coalesced; }
+
+    /** @return Number of submissions that blocked because the queue was full */
+    public synchronized long getBlockedSubmitCount() { return blockedSubmits; }
+
+    /** @return Number of tasks that returned false or threw an exception */
+    public synchronized long getFailureCount() { return failures; }
+
+    /** @return Maximum number of pending changes before submit blocks */
+    public int getCapacity() { return capacity; }
+
+    /** @return Longest time queued tasks are held before writing, in milliseconds */
+    public long getMaxLagMillis() { return maxLagMillis; }
+}
@@ -34,6 +34,21 @@ public class ReceiptHandler {
         return receipt;
     }
 
+    /**
+     * Processes every receipt in the processing queue in FIFO order,
+     * moving them all to the processed stack.
+     * 
+     * @return The number of receipts processed
+     */
+    public int processAllReceipts() {
+        SimpleArrayList<Receipt> batch = new SimpleArrayList<>();
+        int count = processingQueue.drainTo(batch);
+        for (int i = 0; i < count; i++) {
+            processedStack.push(batch.get(i));
+        }
+        return count;
+    }
+
     /**
      * Gets the most recently processed receipt without removing it from the stack.
      * 
@@ -3,132 +3,239 @@ package app.modules;
 import app.util.*;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class SearchAndSortModule {
+
+    /** Lists at least this long are scanned with a parallel stream */
+    static final int PARALLEL_THRESHOLD = 20_000;
+
+    // Searches over this manager's own list are answered from its indexes
+    private final ExpenditureManager indexed;
+
+    public SearchAndSortModule() {
+        this(null);
+    }
+
+    public SearchAndSortModule(ExpenditureManager indexed) {
+        this.indexed = indexed;
+    }
     
-    // Sort expenditures alphabetically by category
+    // Sort expenditures alphabetically by category (case-insensitive, stable)
     public SimpleArrayList<Expenditure> sortByCategoryAlphabetical(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() <= 1) return expenditures;
         
-        SimpleArrayList<Expenditure> sorted = new SimpleArrayList<>();
-        for (int i = 0; i < expenditures.size(); i++) {
-            sorted.add(expenditures.get(i));
-        }
-        
-        // Simple bubble sort by category name
-        for (int i = 0; i < sorted.size() - 1; i++) {
-            for (int j = 0; j < sorted.size() - 1 - i; j++) {
-                String cat1 = sorted.get(j).getCategory().getName().toLowerCase();
-                String cat2 = sorted.get(j + 1).getCategory().getName().toLowerCase();
-                if (cat1.compareTo(cat2) > 0) {
-                    Expenditure temp = sorted.get(j);
-                    sorted.set(j, sorted.get(j + 1));
-                    sorted.set(j + 1, temp);
-                }
-            }
-        }
+        SimpleArrayList<Expenditure> sorted = copy(expenditures);
+        // Lower-case each category name once rather than on every comparison
+        SortEngine.sortByKey(sorted, SearchAndSortModule::categoryKey, Comparator.naturalOrder());
         return sorted;
     }
     
-    // Sort expenditures chronologically
+    // Sort expenditures chronologically (stable)
     public SimpleArrayList<Expenditure> sortByDateChronological(SimpleArrayList<Expenditure> expenditures) {
         if (expenditures == null || expenditures.size() <= 1) return expenditures;
         
-        SimpleArrayList<Expenditure> sorted = new SimpleArrayList<>();
-        for (int i = 0; i < expenditures.size(); i++) {
-            sorted.add(expenditures.get(i));
-        }
+        SimpleArrayList<Expenditure> sorted = copy(expenditures);
+        SortEngine.sort(sorted, BY_DATE);
+        return sorted;
+    }
+    
+    // Sort expenditures by category, then chronologically within each category
+    public SimpleArrayList<Expenditure> sortByCategoryThenDate(SimpleArrayList<Expenditure> expenditures) {
+        if (expenditures == null || expenditures.size() <= 1) return expenditures;
         
-        // Simple bubble sort by date
-        for (int i = 0; i < sorted.size() - 1; i++) {
-            for (int j = 0; j < sorted.size() - 1 - i; j++) {
-                LocalDateTime date1 = sorted.get(j).getDateTime();
-                LocalDateTime date2 = sorted.get(j + 1).getDateTime();
-                if (date1.isAfter(date2)) {
-                    Expenditure temp = sorted.get(j);
-                    sorted.set(j, sorted.get(j + 1));
-                    sorted.set(j + 1, temp);
-                }
-            }
-        }
+        SimpleArrayList<Expenditure> sorted = copy(expenditures);
+        SortEngine.sortByKey(sorted, SearchAndSortModule::categoryKey, Comparator.naturalOrder(), BY_DATE);
         return sorted;
     }
     
     // Search by time range
     public SimpleArrayList<Expenditure> searchByTimeRange(SimpleArrayList<Expenditure> expenditures, 
                                                          LocalDate startDate, LocalDate endDate) {
-        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
-        if (expenditures == null || startDate == null || endDate == null) return results;
+        if (expenditures == null || startDate == null || endDate == null) return new SimpleArrayList<>();
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) return index.findByDateRange(startDate, endDate);
         
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
+        return filter(expenditures, exp -> {
             LocalDate expDate = exp.getDateTime().toLocalDate();
-            if ((expDate.isEqual(startDate) || expDate.isAfter(startDate)) && 
-                (expDate.isEqual(endDate) || expDate.isBefore(endDate))) {
-                results.add(exp);
-            }
-        }
-        return results;
+            return (expDate.isEqual(startDate) || expDate.isAfter(startDate)) && 
+                   (expDate.isEqual(endDate) || expDate.isBefore(endDate));
+        });
     }
     
     // Search by category
     public SimpleArrayList<Expenditure> searchByCategory(SimpleArrayList<Expenditure> expenditures, 
                                                         String categoryName) {
-        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
-        if (expenditures == null || categoryName == null) return results;
+        if (expenditures == null || categoryName == null) return new SimpleArrayList<>();
         
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
-            if (exp.getCategory().getName().equalsIgnoreCase(categoryName.trim())) {
-                results.add(exp);
-            }
-        }
-        return results;
+        String name = categoryName.trim();
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) return index.findByCategory(name);
+        return filter(expenditures, exp -> exp.getCategory().getName().equalsIgnoreCase(name));
     }
     
     // Search by cost range
     public SimpleArrayList<Expenditure> searchByCostRange(SimpleArrayList<Expenditure> expenditures, 
                                                          BigDecimal minAmount, BigDecimal maxAmount) {
-        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
-        if (expenditures == null || minAmount == null || maxAmount == null) return results;
+        if (expenditures == null || minAmount == null || maxAmount == null) return new SimpleArrayList<>();
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) return index.findByAmountRange(minAmount, maxAmount);
         
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
+        return filter(expenditures, exp -> {
             BigDecimal amount = exp.getAmount();
-            if (amount.compareTo(minAmount) >= 0 && amount.compareTo(maxAmount) <= 0) {
-                results.add(exp);
-            }
-        }
-        return results;
+            return amount.compareTo(minAmount) >= 0 && amount.compareTo(maxAmount) <= 0;
+        });
     }
     
     // Search by bank account
     public SimpleArrayList<Expenditure> searchByBankAccount(SimpleArrayList<Expenditure> expenditures, 
                                                            String bankAccountId) {
-        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
-        if (expenditures == null || bankAccountId == null) return results;
+        if (expenditures == null || bankAccountId == null) return new SimpleArrayList<>();
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) return index.findByBankAccount(bankAccountId);
         
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
-            if (bankAccountId.equalsIgnoreCase(exp.getBankAccountId())) {
-                results.add(exp);
-            }
-        }
-        return results;
+        return filter(expenditures, exp -> bankAccountId.equalsIgnoreCase(exp.getBankAccountId()));
     }
     
     // Search by phase
     public SimpleArrayList<Expenditure> searchByPhase(SimpleArrayList<Expenditure> expenditures, 
                                                      String phase) {
-        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
-        if (expenditures == null || phase == null) return results;
+        if (expenditures == null || phase == null) return new SimpleArrayList<>();
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) return index.findByPhase(phase);
         
+        return filter(expenditures, exp -> phase.equalsIgnoreCase(exp.getPhase()));
+    }
+
+    // Search by any combination of criteria, with optional sort, offset and limit
+    public SimpleArrayList<Expenditure> query(SimpleArrayList<Expenditure> expenditures, ExpenditureQuery query) {
+        if (expenditures == null || query == null) return new SimpleArrayList<>();
+        ExpenditureIndex index = indexFor(expenditures);
+        return index != null ? index.query(query) : query.scan(expenditures);
+    }
+
+    // Describe how a query would be run against the given list
+    public String explain(SimpleArrayList<Expenditure> expenditures, ExpenditureQuery query) {
+        ExpenditureIndex index = indexFor(expenditures);
+        return index != null ? index.explain(query) : "full scan (" + (expenditures == null ? 0 : expenditures.size()) + ")";
+    }
+
+    // Search descriptions and receipts for words, most relevant first; limit 0 returns every match
+    public SimpleArrayList<Expenditure> searchText(SimpleArrayList<Expenditure> expenditures, String text,
+                                                   TextIndex.Mode mode, int limit) {
+        if (expenditures == null || text == null) return new SimpleArrayList<>();
+        TextIndex.Mode m = mode == null ? TextIndex.Mode.ALL : mode;
+        if (indexed != null && expenditures == indexed.getAllExpenditures()) {
+            return indexed.getTextIndex().search(text, m, limit);
+        }
+        // Other lists get a throwaway index, which costs the same as one scan
+        TextIndex index = new TextIndex(expenditures);
+        index.rebuild();
+        return index.search(text, m, limit);
+    }
+
+    // Search descriptions, receipts and category names allowing for misspellings:
+    // description and receipt matches come first by relevance, then category-only matches in list order
+    public SimpleArrayList<Expenditure> fuzzySearch(SimpleArrayList<Expenditure> expenditures, String text, int limit) {
+        if (expenditures == null || text == null) return new SimpleArrayList<>();
+        TextIndex textIndex;
+        ExpenditureIndex index = indexFor(expenditures);
+        if (index != null) {
+            textIndex = indexed.getTextIndex();
+        } else {
+            textIndex = new TextIndex(expenditures);
+            textIndex.rebuild();
+            index = new ExpenditureIndex(expenditures);
+            index.rebuild();
+        }
+        SimpleArrayList<Expenditure> results = textIndex.fuzzySearch(text, limit);
+        if (limit > 0 && results.size() >= limit) return results;
+        SimpleSet<Expenditure> seen = new SimpleSet<>();
+        for (int i = 0; i < results.size(); i++) seen.add(results.get(i));
+        SimpleArrayList<Expenditure> byCategory = index.findByCategoryFuzzy(text);
+        for (int i = 0; i < byCategory.size() && (limit <= 0 || results.size() < limit); i++) {
+            if (seen.add(byCategory.get(i))) results.add(byCategory.get(i));
+        }
+        return results;
+    }
+
+    // The k expenditures ranked highest by an order, highest first; ties keep list order.
+    // Uses a bounded heap: O(n log k) time and O(k) memory instead of a full sort
+    public SimpleArrayList<Expenditure> topK(SimpleArrayList<Expenditure> expenditures, int k,
+                                             Comparator<Expenditure> order) {
+        if (expenditures == null || k <= 0) return new SimpleArrayList<>();
+        TopK<Expenditure> top = new TopK<>(k, order);
+        for (int i = 0; i < expenditures.size(); i++) top.offer(expenditures.get(i));
+        return top.drain();
+    }
+
+    // The k expenditures ranked lowest by an order, lowest first; ties keep list order
+    public SimpleArrayList<Expenditure> bottomK(SimpleArrayList<Expenditure> expenditures, int k,
+                                                Comparator<Expenditure> order) {
+        return topK(expenditures, k, order.reversed());
+    }
+
+    // topK within each group, in one pass; groups compare ignoring case and appear in list order
+    public SimpleMap<String, SimpleArrayList<Expenditure>> topKByGroup(SimpleArrayList<Expenditure> expenditures, int k,
+                                                                       Comparator<Expenditure> order,
+                                                                       Function<Expenditure, String> group) {
+        SimpleMap<String, SimpleArrayList<Expenditure>> results = new SimpleMap<>();
+        if (expenditures == null || k <= 0) return results;
+        // Keyed ignoring case without lower-casing each name; the first spelling seen is kept
+        CaseInsensitiveMap<TopK<Expenditure>> tops = new CaseInsensitiveMap<>();
         for (int i = 0; i < expenditures.size(); i++) {
             Expenditure exp = expenditures.get(i);
-            if (phase.equalsIgnoreCase(exp.getPhase())) {
-                results.add(exp);
+            String name = group.apply(exp);
+            if (name == null) name = "(none)";
+            TopK<Expenditure> top = tops.get(name);
+            if (top == null) {
+                top = new TopK<>(k, order);
+                tops.put(name, top);
             }
+            top.offer(exp);
+        }
+        for (int g = 0; g < tops.size(); g++) results.put(tops.getKeyAt(g), tops.getAt(g).drain());
+        return results;
+    }
+
+    // bottomK within each group, in one pass
+    public SimpleMap<String, SimpleArrayList<Expenditure>> bottomKByGroup(SimpleArrayList<Expenditure> expenditures, int k,
+                                                                          Comparator<Expenditure> order,
+                                                                          Function<Expenditure, String> group) {
+        return topKByGroup(expenditures, k, order.reversed(), group);
+    }
+
+    public static final Comparator<Expenditure> BY_AMOUNT = (a, b) -> a.getAmount().compareTo(b.getAmount());
+
+    private static final Comparator<Expenditure> BY_DATE = (a, b) -> a.getDateTime().compareTo(b.getDateTime());
+
+    private static String categoryKey(Expenditure e) {
+        return e.getCategory().getName().toLowerCase();
+    }
+
+    private static SimpleArrayList<Expenditure> copy(SimpleArrayList<Expenditure> expenditures) {
+        SimpleArrayList<Expenditure> copy = new SimpleArrayList<>(expenditures.size());
+        copy.addAll(expenditures);
+        return copy;
+    }
+
+    // The indexes only describe the manager's own list; any other list is scanned
+    private ExpenditureIndex indexFor(SimpleArrayList<Expenditure> expenditures) {
+        return indexed != null && expenditures == indexed.getAllExpenditures() ? indexed.getIndex() : null;
+    }
+
+    // Keep the matching expenditures in list order, fanning out across cores for large lists
+    private static SimpleArrayList<Expenditure> filter(SimpleArrayList<Expenditure> expenditures,
+                                                       Predicate<Expenditure> match) {
+        if (expenditures.size() >= PARALLEL_THRESHOLD) {
+            return expenditures.parallelStream().filter(match).collect(SimpleArrayList.collector());
+        }
+        SimpleArrayList<Expenditure> results = new SimpleArrayList<>();
+        for (int i = 0; i < expenditures.size(); i++) {
+            Expenditure exp = expenditures.get(i);
+            if (match.test(exp)) results.add(exp);
         }
         return results;
     }
@@ -0,0 +1,397 @@
+/**
+ * SnapshotStore.java
+ *
+ * Versioned binary snapshot of all data files for the Nkwa Real Estate Expenditure
+ * Management System. The pipe-delimited text files remain the interchange format;
+ * the snapshot is a derived copy that can be loaded without re-parsing decimals and
+ * ISO timestamps on every startup.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * SnapshotStore reads and writes the binary snapshot file.
+ *
+ * Layout (all integers big-endian):
+ * - Header: magic "XPNS", format version, and the size and modification time of
+ *   each source text file at the time the snapshot was written
+ * - String heap: string count, end offset of each string, then the UTF-8 bytes
+ *   of all strings back to back. Every text value is an index into the heap
+ *   (-1 for null).
+ * - Categories: count, then name, description and color heap indices per row
+ * - Accounts: count, then ID and name heap indices and the balance per row
+ * - Expenditures, stored column by column: IDs, descriptions, amounts as
+ *   unscaled longs plus a scale byte, timestamps as UTC epoch seconds plus nanos,
+ *   category/phase/account as indices into per-column dictionaries (-1 for a
+ *   missing account), and receipt info
+ * - Receipts: count, then ID, expense code and file path heap indices and the timestamp
+ *
+ * Amounts whose unscaled value does not fit in a long are stored as a heap string
+ * with the scale byte set to {@link #DECIMAL_AS_STRING}.
+ *
+ * A snapshot is only used when it is up to date, i.e. every recorded source file
+ * still has the same size and modification time.
+ */
+public class SnapshotStore {
+    /** File magic: "XPNS" */
+    private static final int MAGIC = 0x58504E53;
+
+    /** Current snapshot format version */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Scale marker for amounts stored as heap strings */
+    private static final byte DECIMAL_AS_STRING = Byte.MIN_VALUE;
+
+    /** Path of the snapshot file */
+    private final Path path;
+
+    /** Text files the snapshot is derived from, in header order */
+    private final String[] sourceFiles;
+
+    /**
+     * The four data sets held in a snapshot.
+     */
+    public static class Contents {
+        public final SimpleArrayList<Category> categories;
+        public final SimpleArrayList<BankAccount> accounts;
+        public final SimpleArrayList<Expenditure> expenditures;
+        public final SimpleArrayList<Receipt> receipts;
+
+        public Contents(SimpleArrayList<Category> categories, SimpleArrayList<BankAccount> accounts,
+                        SimpleArrayList<Expenditure> expenditures, SimpleArrayList<Receipt> receipts) {
+            this.categories = categories;
+            this.accounts = accounts;
+            this.expenditures = expenditures;
+            this.receipts = receipts;
+        }
+    }
+
+    /**
+     * Creates a snapshot store.
+     *
+     * @param filename Name of the snapshot file
+     * @param sourceFiles Text files the snapshot is checked against
+     */
+    public SnapshotStore(String filename, String... sourceFiles) {
+        this.path = Paths.get(filename);
+        this.sourceFiles = sourceFiles;
+    }
+
+    /** @return true if a snapshot file exists */
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Checks whether the snapshot exists, has the current format version and
+     * matches the size and modification time of every source file.
+     *
+     * @return true if the snapshot can be loaded instead of the text files
+     */
+    public boolean isUpToDate() {
+        if (!exists()) return false;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return false;
+            int files = in.readInt();
+            if (files != sourceFiles.length) return false;
+            for (int i = 0; i < files; i++) {
+                long[] current = fingerprint(sourceFiles[i]);
+                if (in.readLong() != current[0] || in.readLong() != current[1]) return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {size, lastModified} of a file, or {-1, -1} if it does not exist.
+     */
+    private static long[] fingerprint(String filename) throws IOException {
+        Path p = Paths.get(filename);
+        if (!Files.exists(p)) return new long[] { -1, -1 };
+        return new long[] { Files.size(p), Files.getLastModifiedTime(p).toMillis() };
+    }
+
+    /**
+     * Writes a snapshot of the given data, recording the current state of the
+     * source files. Call this after the text files have been written.
+     *
+     * @param contents The data to store
+     * @return true if the snapshot was written, false on I/O failure
+     */
+    public boolean write(Contents contents) {
+        StringHeap heap = new StringHeap();
+        SimpleArrayList<Expenditure> exps = contents.expenditures;
+        int n = exps.size();
+
+        // Dictionary-encode category, phase and account columns
+        ObjectIntHashMap<String> categoryDict = new ObjectIntHashMap<>();
+        ObjectIntHashMap<String> phaseDict = new ObjectIntHashMap<>();
+        ObjectIntHashMap<String> accountDict = new ObjectIntHashMap<>();
+        int[] categoryCol = new int[n];
+        int[] phaseCol = new int[n];
+        int[] accountCol = new int[n];
+        for (int i = 0; i < n; i++) {
+            Expenditure e = exps.get(i);
+            categoryCol[i] = dictCode(categoryDict, e.getCategory().getName());
+            phaseCol[i] = dictCode(phaseDict, e.getPhase() != null ? e.getPhase() : "active");
+            accountCol[i] = e.getBankAccountId() == null ? -1 : dictCode(accountDict, e.getBankAccountId());
+        }
+
+        Path tmp = Paths.get(path + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(sourceFiles.length);
+            for (int i = 0; i < sourceFiles.length; i++) {
+                long[] fp = fingerprint(sourceFiles[i]);
+                out.writeLong(fp[0]);
+                out.writeLong(fp[1]);
+            }
+
+            // Encode all rows against the heap first, then write the heap before them
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream b = new DataOutputStream(body);
+
+            b.writeInt(contents.categories.size());
+            for (int i = 0; i < contents.categories.size(); i++) {
+                Category c = contents.categories.get(i);
+                b.writeInt(heap.add(c.getName()));
+                b.writeInt(heap.add(c.getDescription()));
+                b.writeInt(heap.add(c.getColor()));
+            }
+
+            b.writeInt(contents.accounts.size());
+            for (int i = 0; i < contents.accounts.size(); i++) {
+                BankAccount a = contents.accounts.get(i);
+                b.writeInt(heap.add(a.getAccountNumber()));
+                b.writeInt(heap.add(a.getAccountName()));
+                writeDecimal(b, heap, a.getBalance());
+            }
+
+            b.writeInt(n);
+            writeDictionary(b, heap, categoryDict);
+            writeDictionary(b, heap, phaseDict);
+            writeDictionary(b, heap, accountDict);
+            for (int i = 0; i < n; i++) b.writeInt(heap.add(exps.get(i).getId()));
+            for (int i = 0; i < n; i++) b.writeInt(heap.add(exps.get(i).getDescription()));
+            for (int i = 0; i < n; i++) writeDecimal(b, heap, exps.get(i).getAmount());
+            for (int i = 0; i < n; i++) b.writeLong(exps.get(i).getDateTime().toEpochSecond(ZoneOffset.UTC));
+            for (int i = 0; i < n; i++) b.writeInt(exps.get(i).getDateTime().getNano());
+            for (int i = 0; i < n; i++) b.writeInt(categoryCol[i]);
+            for (int i = 0; i < n; i++) b.writeInt(phaseCol[i]);
+            for (int i = 0; i < n; i++) b.writeInt(accountCol[i]);
+            for (int i = 0; i < n; i++) {
+                String receipt = exps.get(i).getReceiptInfo();
+                b.writeInt(receipt == null || receipt.trim().isEmpty() ? -1 : heap.add(receipt));
+            }
+
+            b.writeInt(contents.receipts.size());
+            for (int i = 0; i < contents.receipts.size(); i++) {
+                Receipt r = contents.receipts.get(i);
+                b.writeInt(heap.add(r.getReceiptId()));
+                b.writeInt(heap.add(r.getExpenseCode()));
+                b.writeInt(heap.add(r.getFilePath()));
+                b.writeLong(r.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+                b.writeInt(r.getTimestamp().getNano());
+            }
+            b.flush();
+
+            heap.writeTo(out);
+            body.writeTo(out);
+        } catch (IOException e) {
+            return false;
+        }
+        try {
+            Files.move(tmp, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads the snapshot.
+     *
+     * Expenditures reference temporary categories (one per distinct name) that are
+     * resolved against the loaded categories by the caller, as with the text loader.
+     *
+     * @return The stored data, or null if the snapshot is missing, of another version, or corrupt
+     */
+    public Contents read() {
+        if (!exists()) return null;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            if (buf.getInt() != MAGIC || buf.getInt() != FORMAT_VERSION) return null;
+            int files = buf.getInt();
+            buf.position(buf.position() + files * 16);
+
+            // String heap
+            int stringCount = buf.getInt();
+            int[] ends = new int[stringCount];
+            for (int i = 0; i < stringCount; i++) ends[i] = buf.getInt();
+            byte[] blob = new byte[stringCount == 0 ? 0 : ends[stringCount - 1]];
+            buf.get(blob);
+
+            SimpleArrayList<Category> categories = new SimpleArrayList<>();
+            int categoryCount = buf.getInt();
+            for (int i = 0; i < categoryCount; i++) {
+                String name = str(buf.getInt(), ends, blob);
+                String description = str(buf.getInt(), ends, blob);
+                String color = str(buf.getInt(), ends, blob);
+                categories.add(new Category("CAT" + System.currentTimeMillis(), name, description, color));
+            }
+
+            SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
+            int accountCount = buf.getInt();
+            for (int i = 0; i < accountCount; i++) {
+                String id = str(buf.getInt(), ends, blob);
+                String name = str(buf.getInt(), ends, blob);
+                accounts.add(new BankAccount(id, name, readDecimal(buf, ends, blob)));
+            }
+
+            int n = buf.getInt();
+            String[] categoryNames = readDictionary(buf, ends, blob);
+            String[] phases = readDictionary(buf, ends, blob);
+            String[] accountIds = readDictionary(buf, ends, blob);
+            Category[] tempCategories = new Category[categoryNames.length];
+            for (int i = 0; i < categoryNames.length; i++) {
+                tempCategories[i] = new Category("TEMP_" + categoryNames[i], categoryNames[i], "Loaded category", "blue");
+            }
+
+            String[] ids = new String[n];
+            String[] descriptions = new String[n];
+            BigDecimal[] amounts = new BigDecimal[n];
+            long[] seconds = new long[n];
+            for (int i = 0; i < n; i++) ids[i] = str(buf.getInt(), ends, blob);
+            for (int i = 0; i < n; i++) descriptions[i] = str(buf.getInt(), ends, blob);
+            for (int i = 0; i < n; i++) amounts[i] = readDecimal(buf, ends, blob);
+            for (int i = 0; i < n; i++) seconds[i] = buf.getLong();
+            LocalDateTime[] times = new LocalDateTime[n];
+            for (int i = 0; i < n; i++) times[i] = LocalDateTime.ofEpochSecond(seconds[i], buf.getInt(), ZoneOffset.UTC);
+            int[] categoryCol = readInts(buf, n);
+            int[] phaseCol = readInts(buf, n);
+            int[] accountCol = readInts(buf, n);
+
+            SimpleArrayList<Expenditure> expenditures = new SimpleArrayList<>();
+            for (int i = 0; i < n; i++) {
+                Expenditure exp = new Expenditure(ids[i], descriptions[i], amounts[i], tempCategories[categoryCol[i]],
+                        times[i], phases[phaseCol[i]], accountCol[i] < 0 ? null : accountIds[accountCol[i]]);
+                int receipt = buf.getInt();
+                if (receipt >= 0) exp.setReceiptInfo(str(receipt, ends, blob));
+                expenditures.add(exp);
+            }
+
+            SimpleArrayList<Receipt> receipts = new SimpleArrayList<>();
+            int receiptCount = buf.getInt();
+            for (int i = 0; i < receiptCount; i++) {
+                String id = str(buf.getInt(), ends, blob);
+                String code = str(buf.getInt(), ends, blob);
+                String filePath = str(buf.getInt(), ends, blob);
+                long second = buf.getLong();
+                receipts.add(new Receipt(id, code, filePath, LocalDateTime.ofEpochSecond(second, buf.getInt(), ZoneOffset.UTC)));
+            }
+            return new Contents(categories, accounts, expenditures, receipts);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int dictCode(ObjectIntHashMap<String> dict, String value) {
+        int code = dict.getOrDefault(value, -1);
+        if (code < 0) {
+            code = dict.size();
+            dict.put(value, code);
+        }
+        return code;
+    }
+
+    private static void writeDictionary(DataOutputStream b, StringHeap heap, ObjectIntHashMap<String> dict) throws IOException {
+        b.writeInt(dict.size());
+        for (int i = 0; i < dict.size(); i++) b.writeInt(heap.add(dict.getKeyAt(i)));
+    }
+
+    private static String[] readDictionary(ByteBuffer buf, int[] ends, byte[] blob) {
+        String[] dict = new String[buf.getInt()];
+        for (int i = 0; i < dict.length; i++) dict[i] = str(buf.getInt(), ends, blob);
+        return dict;
+    }
+
+    private static int[] readInts(ByteBuffer buf, int n) {
+        int[] values = new int[n];
+        buf.asIntBuffer().get(values);
+        buf.position(buf.position() + n * 4);
+        return values;
+    }
+
+    private static void writeDecimal(DataOutputStream b, StringHeap heap, BigDecimal value) throws IOException {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() < 64 && value.scale() > DECIMAL_AS_STRING && value.scale() <= Byte.MAX_VALUE) {
+            b.writeLong(unscaled.longValue());
+            b.writeByte(value.scale());
+        } else {
+            b.writeLong(heap.add(value.toString()));
+            b.writeByte(DECIMAL_AS_STRING);
+        }
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buf, int[] ends, byte[] blob) {
+        long unscaled = buf.getLong();
+        byte scale = buf.get();
+        if (scale == DECIMAL_AS_STRING) return new BigDecimal(str((int) unscaled, ends, blob));
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static String str(int index, int[] ends, byte[] blob) {
+        if (index < 0) return null;
+        int start = index == 0 ? 0 : ends[index - 1];
+        return new String(blob, start, ends[index] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Collects strings into one UTF-8 blob while the snapshot is encoded.
+     * Repeated values are deduplicated through the column dictionaries, not here.
+     */
+    private static class StringHeap {
+        private final ByteArrayOutputStream blob = new ByteArrayOutputStream();
+        private int[] ends = new int[1024];
+        private int count;
+
+        int add(String s) {
+            if (s == null) return -1;
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            blob.write(bytes, 0, bytes.length);
+            if (count == ends.length) {
+                int[] bigger = new int[count * 2];
+                System.arraycopy(ends, 0, bigger, 0, count);
+                ends = bigger;
+            }
+            ends[count] = blob.size();
+            return count++;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) out.writeInt(ends[i]);
+            blob.writeTo(out);
+        }
+    }
+}
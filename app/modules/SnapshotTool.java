@@ -0,0 +1,117 @@
+/**
+ * SnapshotTool.java
+ *
+ * Command-line tool for converting between the pipe-delimited text files and the
+ * binary snapshot of the Nkwa Real Estate Expenditure Management System, and for
+ * comparing how long each takes to load.
+ *
+ * Usage (from the data directory):
+ *   java app.Main snapshot-export   Write xpense.snapshot from the text files
+ *   java app.Main snapshot-import   Rewrite the text files from xpense.snapshot
+ *   java app.Main snapshot-bench    Time loading the text files against the snapshot
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+
+/**
+ * SnapshotTool implements the snapshot export, import and benchmark commands.
+ *
+ * The snapshot always mirrors the text files, so export reads only the text
+ * files (not the expenditure journal), and import writes a fresh snapshot
+ * after rewriting the text files so the two stay in step.
+ */
+public class SnapshotTool {
+    private final FileManager fileManager;
+    private final SnapshotStore store;
+
+    public SnapshotTool() {
+        this.fileManager = new FileManager();
+        this.store = XpenseSystem.newSnapshotStore();
+    }
+
+    /**
+     * Runs a snapshot command.
+     *
+     * @param command One of snapshot-export, snapshot-import, snapshot-bench
+     * @return Process exit code (0 on success)
+     */
+    public int run(String command) {
+        switch (command) {
+            case "snapshot-export": return exportSnapshot();
+            case "snapshot-import": return importSnapshot();
+            case "snapshot-bench": return bench();
+            default:
+                System.out.println("Unknown snapshot command: " + command);
+                return 2;
+        }
+    }
+
+    private SnapshotStore.Contents loadText() {
+        return new SnapshotStore.Contents(
+                fileManager.loadCategories("categories.txt"),
+                fileManager.loadAccounts("accounts.txt"),
+                new ParallelExpenditureLoader(fileManager).load("expenditures.txt"),
+                fileManager.loadReceipts("receipts.txt"));
+    }
+
+    private int exportSnapshot() {
+        SnapshotStore.Contents contents = loadText();
+        if (!store.write(contents)) {
+            System.out.println("Failed to write xpense.snapshot");
+            return 1;
+        }
+        System.out.println("Exported " + describe(contents) + " to xpense.snapshot");
+        return 0;
+    }
+
+    private int importSnapshot() {
+        SnapshotStore.Contents contents = store.read();
+        if (contents == null) {
+            System.out.println("xpense.snapshot is missing or not readable (format version " + SnapshotStore.FORMAT_VERSION + ")");
+            return 1;
+        }
+        boolean saved = fileManager.saveCategories(contents.categories, "categories.txt")
+                & fileManager.saveAccounts(contents.accounts, "accounts.txt")
+                & fileManager.saveExpenditures(contents.expenditures, "expenditures.txt")
+                & fileManager.saveReceipts(contents.receipts, "receipts.txt");
+        // Re-stamp the snapshot with the fingerprints of the rewritten text files
+        if (!saved || !store.write(contents)) {
+            System.out.println("Failed to write the text files");
+            return 1;
+        }
+        System.out.println("Imported " + describe(contents) + " from xpense.snapshot");
+        return 0;
+    }
+
+    private int bench() {
+        long start = System.nanoTime();
+        SnapshotStore.Contents text = loadText();
+        long textNanos = System.nanoTime() - start;
+        System.out.printf("Text files:  %s in %.1f ms%n", describe(text), textNanos / 1e6);
+
+        if (!store.exists()) {
+            System.out.println("Snapshot:    xpense.snapshot not found (run snapshot-export first)");
+            return 1;
+        }
+        start = System.nanoTime();
+        SnapshotStore.Contents snapshot = store.read();
+        long snapshotNanos = System.nanoTime() - start;
+        if (snapshot == null) {
+            System.out.println("Snapshot:    xpense.snapshot is not readable");
+            return 1;
+        }
+        System.out.printf("Snapshot:    %s in %.1f ms%s%n", describe(snapshot), snapshotNanos / 1e6,
+                store.isUpToDate() ? "" : " (stale: text files changed since export)");
+        return 0;
+    }
+
+    private static String describe(SnapshotStore.Contents c) {
+        return c.expenditures.size() + " expenditures, " + c.accounts.size() + " accounts, "
+                + c.categories.size() + " categories, " + c.receipts.size() + " receipts";
+    }
+}
@@ -0,0 +1,451 @@
+/**
+ * TextIndex.java
+ *
+ * A full-text index over expenditure descriptions and receipt information
+ * for the Nkwa Real Estate Expenditure Management System, kept up to date by
+ * {@link ExpenditureManager} so that word searches do not scan every record.
+ *
+ * This implementation features:
+ * - A tokenizer that lower-cases text and splits it on anything that is
+ *   not a letter or digit ("Cement_bags-50kg.pdf" gives cement, bags, 50kg, pdf)
+ * - An inverted index from each word to a compressed {@link PostingList}
+ * - Queries matching all words (AND) or any word (OR), with "word*" prefix terms
+ * - Results ranked by BM25 relevance, most relevant first
+ * - Fuzzy searches that also match misspelled words, through a
+ *   {@link TrigramIndex} over the indexed words
+ * - Incremental indexing on every add and a one-pass rebuild on load
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.*;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * TextIndex maps words to the positions of the expenditures whose
+ * description or receipt information contains them.
+ *
+ * Postings are stored as varint-encoded gaps, usually two bytes per
+ * (expenditure, word) pair, so even a million short descriptions need only
+ * a few tens of megabytes.
+ *
+ * Posting lists are append-only, so a record whose receipt changes after it
+ * was indexed is not re-encoded. It is instead remembered as changed and
+ * matched against its current text at query time; once there are many such
+ * records the index is rebuilt.
+ *
+ * All methods are synchronized, as in {@link ExpenditureIndex}.
+ */
+public class TextIndex {
+    /** How the words of a query are combined */
+    public enum Mode {
+        /** Every word must match */
+        ALL,
+        /** At least one word must match; more matches rank higher */
+        ANY
+    }
+
+    /** BM25 term-frequency saturation */
+    private static final double K1 = 1.2;
+
+    /** BM25 document-length normalization */
+    private static final double B = 0.75;
+
+    /** The index is rebuilt once more records than this (or 1/16 of all records) have changed */
+    private static final int MIN_REBUILD_CHANGES = 64;
+
+    /** The indexed list, owned by the expenditure manager */
+    private final SimpleArrayList<Expenditure> expenditures;
+
+    /** Posting list of each word */
+    private SimpleMap<String, PostingList> postings = new SimpleMap<>();
+
+    /** Number of words in each indexed record, by position */
+    private final IntArrayList lengths = new IntArrayList();
+
+    /** Sum of lengths */
+    private long totalLength;
+
+    /** Records whose text changed after they were indexed */
+    private SimpleSet<Integer> changed = new SimpleSet<>();
+
+    /** All words in sorted order for prefix searches, or null if words were added since */
+    private String[] sortedTerms;
+
+    /** All words, for fuzzy searches */
+    private TrigramIndex vocabulary = new TrigramIndex();
+
+    /**
+     * Creates an empty index over a list.
+     *
+     * @param expenditures The list whose positions the index refers to
+     */
+    public TextIndex(SimpleArrayList<Expenditure> expenditures) {
+        this.expenditures = expenditures;
+    }
+
+    /**
+     * Indexes the expenditure at a position of the list, and any earlier
+     * positions not indexed yet.
+     *
+     * @param position Position of the expenditure in the list
+     */
+    public synchronized void add(int position) {
+        while (lengths.size() <= position) index(lengths.size());
+    }
+
+    /**
+     * Records that the text of an indexed expenditure changed.
+     *
+     * @param position Position of the expenditure in the list
+     */
+    public synchronized void update(int position) {
+        if (position >= lengths.size()) {
+            add(position);
+            return;
+        }
+        changed.add(position);
+        if (changed.size() > Math.max(MIN_REBUILD_CHANGES, lengths.size() / 16)) rebuild();
+    }
+
+    /**
+     * Discards all entries and indexes the whole list in one pass.
+     */
+    public synchronized void rebuild() {
+        postings = new SimpleMap<>();
+        lengths.clear();
+        totalLength = 0;
+        changed = new SimpleSet<>();
+        sortedTerms = null;
+        vocabulary = new TrigramIndex();
+        for (int i = 0; i < expenditures.size(); i++) index(i);
+    }
+
+    /**
+     * Searches descriptions and receipt information.
+     *
+     * The query is split into words like the indexed text; a word ending in
+     * '*' matches every word starting with it. Ties in relevance keep list order.
+     *
+     * @param text The query, e.g. "cement delivery" or "invoice* march"
+     * @param mode Whether all words or any word must match
+     * @param limit Maximum number of results, or 0 for all
+     * @return The matching expenditures, most relevant first
+     */
+    public synchronized SimpleArrayList<Expenditure> search(String text, Mode mode, int limit) {
+        SimpleArrayList<Term> terms = parse(text);
+        if (terms.size() == 0) return new SimpleArrayList<>();
+        Matches result = null;
+        for (int i = 0; i < terms.size(); i++) {
+            Matches m = evaluate(terms.get(i));
+            result = result == null ? m : mode == Mode.ALL ? intersect(result, m) : union(result, m);
+            if (mode == Mode.ALL && result.size == 0) break;
+        }
+        return rank(result, limit);
+    }
+
+    /**
+     * Searches descriptions and receipt information, tolerating misspellings.
+     *
+     * Each query word matches the indexed words within a few edits of it
+     * (see {@link TrigramIndex#maxDistanceFor(int)}); a record matches if any
+     * query word does. Closer spellings and more matched words rank higher.
+     *
+     * @param text The query, e.g. "dangote cment"
+     * @param limit Maximum number of results, or 0 for all
+     * @return The matching expenditures, most relevant first
+     */
+    public synchronized SimpleArrayList<Expenditure> fuzzySearch(String text, int limit) {
+        SimpleArrayList<String> words = tokenize(text);
+        SimpleArrayList<Matches> parts = new SimpleArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            SimpleArrayList<TrigramIndex.Match> similar = vocabulary.search(word, TrigramIndex.maxDistanceFor(word.length()));
+            for (int j = 0; j < similar.size(); j++) {
+                Matches m = evaluate(new Term(similar.get(j).getWord(), false));
+                // Each edit away from the query halves the weight of a word
+                scale(m, 1.0 / (1 << similar.get(j).getDistance()));
+                parts.add(m);
+            }
+        }
+        return rank(unionAll(parts), limit);
+    }
+
+    /** @return Number of distinct words indexed */
+    public synchronized int getTermCount() {
+        return postings.size();
+    }
+
+    /** @return Bytes used by the encoded posting lists */
+    public synchronized long getPostingBytes() {
+        long bytes = 0;
+        for (int i = 0; i < postings.size(); i++) bytes += postings.getAt(i).byteSize();
+        return bytes;
+    }
+
+    /**
+     * Splits text into lower-case words of letters and digits.
+     *
+     * @param text The text, or null
+     * @return The words in order, with repeats
+     */
+    public static SimpleArrayList<String> tokenize(String text) {
+        SimpleArrayList<String> tokens = new SimpleArrayList<>();
+        if (text == null) return tokens;
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                tokens.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    private void index(int position) {
+        ObjectIntHashMap<String> counts = wordCounts(expenditures.get(position));
+        int length = 0;
+        for (int i = 0; i < counts.size(); i++) {
+            String term = counts.getKeyAt(i);
+            PostingList list = postings.get(term);
+            if (list == null) {
+                list = new PostingList();
+                postings.put(term, list);
+                sortedTerms = null;
+                vocabulary.add(term);
+            }
+            list.add(position, counts.getValueAt(i));
+            length += counts.getValueAt(i);
+        }
+        lengths.add(length);
+        totalLength += length;
+    }
+
+    // Occurrences of each word in the searchable text of an expenditure
+    private static ObjectIntHashMap<String> wordCounts(Expenditure e) {
+        ObjectIntHashMap<String> counts = new ObjectIntHashMap<>();
+        SimpleArrayList<String> words = tokenize(e.getDescription());
+        words.addAll(tokenize(e.getReceiptInfo()));
+        for (int i = 0; i < words.size(); i++) counts.addTo(words.get(i), 1);
+        return counts;
+    }
+
+    /** A query word, optionally a prefix */
+    private static final class Term {
+        final String word;
+        final boolean prefix;
+
+        Term(String word, boolean prefix) {
+            this.word = word;
+            this.prefix = prefix;
+        }
+
+        boolean matches(String term) {
+            return prefix ? term.startsWith(word) : term.equals(word);
+        }
+    }
+
+    /** Positions in ascending order with a relevance score for each */
+    private static final class Matches {
+        int[] positions;
+        double[] scores;
+        int size;
+
+        Matches(int capacity) {
+            positions = new int[Math.max(capacity, 4)];
+            scores = new double[positions.length];
+        }
+
+        void add(int position, double score) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            positions[size] = position;
+            scores[size++] = score;
+        }
+    }
+
+    /** A ranked result */
+    private static final class Hit {
+        final int position;
+        final double score;
+
+        Hit(int position, double score) {
+            this.position = position;
+            this.score = score;
+        }
+    }
+
+    private static SimpleArrayList<Term> parse(String text) {
+        SimpleArrayList<Term> terms = new SimpleArrayList<>();
+        if (text == null) return terms;
+        String[] parts = text.trim().split("\\s+");
+        for (String part : parts) {
+            boolean prefix = part.endsWith("*");
+            SimpleArrayList<String> words = tokenize(part);
+            // In "bag-cem*" only the last word is a prefix
+            for (int i = 0; i < words.size(); i++) {
+                terms.add(new Term(words.get(i), prefix && i == words.size() - 1));
+            }
+        }
+        return terms;
+    }
+
+    // Scores every record matching one query word (or any word it is a prefix of)
+    private Matches evaluate(Term term) {
+        SimpleArrayList<Matches> parts = new SimpleArrayList<>();
+        if (term.prefix) {
+            String[] terms = sortedTerms();
+            for (int i = lowerBound(terms, term.word); i < terms.length && terms[i].startsWith(term.word); i++) {
+                parts.add(score(terms[i]));
+            }
+        } else if (postings.containsKey(term.word)) {
+            parts.add(score(term.word));
+        }
+        if (changed.size() > 0) parts.add(scoreChanged(term));
+        return unionAll(parts);
+    }
+
+    // Merges in pairs, so k sets cost O(n log k)
+    private static Matches unionAll(SimpleArrayList<Matches> parts) {
+        if (parts.size() == 0) return new Matches(0);
+        while (parts.size() > 1) {
+            SimpleArrayList<Matches> merged = new SimpleArrayList<>((parts.size() + 1) / 2);
+            for (int i = 0; i < parts.size(); i += 2) {
+                merged.add(i + 1 < parts.size() ? union(parts.get(i), parts.get(i + 1)) : parts.get(i));
+            }
+            parts = merged;
+        }
+        return parts.get(0);
+    }
+
+    // Scores the records containing a word, skipping changed records
+    private Matches score(String term) {
+        PostingList list = postings.get(term);
+        Matches m = new Matches(list.size());
+        double idf = idf(list.size());
+        double averageLength = averageLength();
+        boolean skipChanged = changed.size() > 0;
+        PostingList.Cursor c = list.cursor();
+        while (c.next()) {
+            int position = c.document();
+            if (skipChanged && changed.contains(position)) continue;
+            m.add(position, bm25(c.frequency(), lengths.get(position), idf, averageLength));
+        }
+        return m;
+    }
+
+    // Scores changed records against their current text
+    private Matches scoreChanged(Term term) {
+        IntArrayList positions = new IntArrayList(changed.size());
+        for (Integer position : changed) positions.add(position);
+        positions.sort();
+        Matches m = new Matches(0);
+        double averageLength = averageLength();
+        for (int i = 0; i < positions.size(); i++) {
+            int position = positions.get(i);
+            ObjectIntHashMap<String> counts = wordCounts(expenditures.get(position));
+            int length = 0;
+            for (int j = 0; j < counts.size(); j++) length += counts.getValueAt(j);
+            double score = 0;
+            boolean found = false;
+            for (int j = 0; j < counts.size(); j++) {
+                String word = counts.getKeyAt(j);
+                if (!term.matches(word)) continue;
+                PostingList list = postings.get(word);
+                score += bm25(counts.getValueAt(j), length, idf(list == null ? 1 : list.size()), averageLength);
+                found = true;
+            }
+            if (found) m.add(position, score);
+        }
+        return m;
+    }
+
+    private double idf(int documentFrequency) {
+        int n = lengths.size();
+        int df = Math.min(documentFrequency, n);
+        return Math.log(1 + (n - df + 0.5) / (df + 0.5));
+    }
+
+    private double averageLength() {
+        return lengths.size() == 0 || totalLength == 0 ? 1 : (double) totalLength / lengths.size();
+    }
+
+    private static double bm25(int frequency, int length, double idf, double averageLength) {
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    private String[] sortedTerms() {
+        if (sortedTerms == null) {
+            SimpleArrayList<String> terms = new SimpleArrayList<>(postings.size());
+            for (int i = 0; i < postings.size(); i++) terms.add(postings.getKeyAt(i));
+            SortEngine.sort(terms, Comparator.naturalOrder());
+            sortedTerms = terms.toArray(new String[0]);
+        }
+        return sortedTerms;
+    }
+
+    // Index of the first word that is >= key
+    private static int lowerBound(String[] terms, String key) {
+        int lo = 0, hi = terms.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (terms[mid].compareTo(key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Records in either set, with scores added where both match
+    private static Matches union(Matches a, Matches b) {
+        if (a.size == 0) return b;
+        if (b.size == 0) return a;
+        Matches r = new Matches(a.size + b.size);
+        int i = 0, j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.positions[i] < b.positions[j])) {
+                r.add(a.positions[i], a.scores[i++]);
+            } else if (i >= a.size || b.positions[j] < a.positions[i]) {
+                r.add(b.positions[j], b.scores[j++]);
+            } else {
+                r.add(a.positions[i], a.scores[i++] + b.scores[j++]);
+            }
+        }
+        return r;
+    }
+
+    private static void scale(Matches m, double factor) {
+        for (int i = 0; i < m.size; i++) m.scores[i] *= factor;
+    }
+
+    // Records in both sets, with scores added
+    private static Matches intersect(Matches a, Matches b) {
+        Matches r = new Matches(Math.min(a.size, b.size));
+        int i = 0, j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.positions[i] < b.positions[j]) i++;
+            else if (b.positions[j] < a.positions[i]) j++;
+            else r.add(a.positions[i], a.scores[i++] + b.scores[j++]);
+        }
+        return r;
+    }
+
+    // Orders matches by score, highest first; the stable sort keeps list order for ties
+    private SimpleArrayList<Expenditure> rank(Matches matches, int limit) {
+        SimpleArrayList<Hit> hits = new SimpleArrayList<>(matches.size);
+        for (int i = 0; i < matches.size; i++) hits.add(new Hit(matches.positions[i], matches.scores[i]));
+        SortEngine.sort(hits, (x, y) -> Double.compare(y.score, x.score));
+        int n = limit > 0 ? Math.min(limit, hits.size()) : hits.size();
+        SimpleArrayList<Expenditure> results = new SimpleArrayList<>(n);
+        for (int i = 0; i < n; i++) results.add(expenditures.get(hits.get(i).position));
+        return results;
+    }
+}
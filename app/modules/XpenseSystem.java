@@ -16,6 +16,15 @@
 package app.modules;
 
 import app.util.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 /**
  * XpenseSystem is the central orchestrator for the expenditure management application.
@@ -32,6 +41,13 @@ import app.util.*;
  * 
  * The system ensures atomicity in operations - expenditures are only added if
  * all validations pass and account balances can be properly debited.
+ * Mutating methods are synchronized on the system, so one instance can be
+ * shared by several threads.
+ * 
+ * In the optional write-behind mode the file writes that follow each mutation
+ * are handed to a background {@link PersistenceWorker}, so mutations return as
+ * soon as the in-memory state is updated. {@link #close()} writes everything
+ * still pending.
  */
 public class XpenseSystem {
     /** Handles all file I/O operations for data persistence */
@@ -58,6 +74,48 @@ public class XpenseSystem {
     /** Enables search and sorting operations on data */
     private final SearchAndSortModule searchSortModule;
 
+    /** Parallel memory-mapped loader for expenditures.txt */
+    private final ParallelExpenditureLoader expenditureLoader;
+
+    /** Write-ahead journal of expenditures added since the last checkpoint */
+    private final ExpenditureJournal journal;
+
+    /** Binary snapshot of the text files, used for fast startup when up to date */
+    private final SnapshotStore snapshotStore;
+
+    /** Number of journaled expenditures after which a checkpoint is taken */
+    private int checkpointInterval;
+
+    /** Default number of journaled expenditures between checkpoints */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 500;
+
+    /** Expenditure manager version last written to expenditures.txt */
+    private long savedExpenditureVersion;
+
+    /** Bank ledger version last written to accounts.txt */
+    private long savedAccountVersion;
+
+    /** Category manager version last written to categories.txt */
+    private long savedCategoryVersion;
+
+    /** Whether a text file was written since the snapshot was last refreshed */
+    private boolean snapshotStale;
+
+    /** Coalesces concurrent saveAll calls into shared writes, or null to save on every call */
+    private volatile GroupCommitter groupCommitter;
+
+    /** Background thread that performs store flushes in write-behind mode, or null */
+    private volatile PersistenceWorker writeBehind;
+
+    /** Wall time of each startup stage in milliseconds, in completion order */
+    private final SimpleMap<String, Double> startupStages = new SimpleMap<>();
+
+    /** Whether a flush run on the calling thread failed since the last flush() */
+    private volatile boolean persistFailed;
+
+    /** Expenditures added but not yet appended to the journal */
+    private SimpleArrayList<Expenditure> unjournaled = new SimpleArrayList<>();
+
     /**
      * Constructs a new XpenseSystem with specified alert thresholds.
      * 
@@ -81,7 +139,11 @@ public class XpenseSystem {
         this.expenditureManager = new ExpenditureManager();
         this.receiptHandler = new ReceiptHandler();
         this.analyticsModule = new AnalyticsModule();
-        this.searchSortModule = new SearchAndSortModule();
+        this.searchSortModule = new SearchAndSortModule(expenditureManager);
+        this.expenditureLoader = new ParallelExpenditureLoader(fileManager);
+        this.journal = new ExpenditureJournal(fileManager, "expenditures.journal");
+        this.checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        this.snapshotStore = newSnapshotStore();
         
         // Load all existing data from persistence files
         loadAllData();
@@ -90,48 +152,131 @@ public class XpenseSystem {
     /**
      * Loads all data from persistence files and establishes proper relationships.
      * 
-     * This method performs a multi-stage loading process:
-     * 1. Loads categories and adds them to the category manager
-     * 2. Loads bank accounts and adds them to the bank ledger
-     * 3. Loads expenditures and resolves their category references
-     * 4. Associates expenditures with their bank accounts and categories
-     * 5. Loads receipts and adds them to the receipt handler
+     * If an up-to-date binary snapshot exists it is loaded in place of the text
+     * files. Otherwise the four text files are read and parsed concurrently, and
+     * each later stage starts as soon as the stages it depends on are done:
+     * 1. Categories, accounts, expenditures and receipts are loaded in parallel
+     * 2. Categories and accounts are registered with their managers as they arrive
+     * 3. Expenditure categories are resolved once categories are registered
+     * 4. Expenditures are associated with their bank accounts and categories
+     *    once they are resolved and accounts are registered
+     * 5. Receipts are registered with the receipt handler as they arrive
+     * 6. Expenditures journaled since the last checkpoint are replayed
      * 
      * The loading process ensures data integrity by validating that expenditures
      * reference valid bank accounts and categories before associating them.
+     * Each stage is timed for {@link #getStartupReport()}.
      */
     private void loadAllData() {
-        // Load categories from file and register them with the category manager
-        SimpleArrayList<Category> categories = fileManager.loadCategories("categories.txt");
-        for (int i = 0; i < categories.size(); i++) categoryManager.addCategory(categories.get(i));
+        long start = System.nanoTime();
+        // Use the binary snapshot instead of the text files when it matches them
+        SnapshotStore.Contents snapshot = snapshotStore.isUpToDate() ? snapshotStore.read() : null;
+        if (snapshot != null) recordStage("snapshot read", start);
 
-        // Load bank accounts from file and register them with the bank ledger
-        SimpleArrayList<BankAccount> accounts = fileManager.loadAccounts("accounts.txt");
-        for (int i = 0; i < accounts.size(); i++) bankLedger.addAccount(accounts.get(i));
+        ExecutorService loaders = Executors.newFixedThreadPool(4, r -> {
+            Thread t = new Thread(r, "xpense-startup");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            CompletableFuture<SimpleArrayList<Category>> categories = load(loaders, "categories load",
+                    () -> snapshot != null ? snapshot.categories : fileManager.loadCategories("categories.txt"));
+            CompletableFuture<SimpleArrayList<BankAccount>> accounts = load(loaders, "accounts load",
+                    () -> snapshot != null ? snapshot.accounts : fileManager.loadAccounts("accounts.txt"));
+            CompletableFuture<SimpleArrayList<Expenditure>> expenditures = load(loaders, "expenditures load",
+                    () -> snapshot != null ? snapshot.expenditures : expenditureLoader.load("expenditures.txt"));
+            CompletableFuture<SimpleArrayList<Receipt>> receipts = load(loaders, "receipts load",
+                    () -> snapshot != null ? snapshot.receipts : fileManager.loadReceipts("receipts.txt"));
 
-        // Load expenditures and resolve their category references
-        SimpleArrayList<Expenditure> expenditures = fileManager.loadExpenditures("expenditures.txt");
-        
-        // Resolve category references for loaded expenditures
-        // This ensures that expenditures reference actual category objects rather than temporary ones
-        for (int i = 0; i < expenditures.size(); i++) {
-            Expenditure exp = expenditures.get(i);
-            // Find the actual category object by name from the loaded categories
-            String categoryName = exp.getCategory().getName();
-            Category actualCategory = null;
-            SimpleArrayList<Category> allCategories = categoryManager.getAllCategories();
-            for (int j = 0; j < allCategories.size(); j++) {
-                if (allCategories.get(j).getName().equalsIgnoreCase(categoryName)) {
-                    actualCategory = allCategories.get(j);
-                    break;
-                }
-            }
-            // Update expenditure to reference the actual category object
-            if (actualCategory != null) {
-                exp.setCategory(actualCategory);
+            // Register categories and accounts with their managers as soon as they are parsed
+            CompletableFuture<Void> categoriesReady = categories.thenAccept(list -> timeStage("categories register", () -> {
+                for (int i = 0; i < list.size(); i++) categoryManager.addCategory(list.get(i));
+            }));
+            CompletableFuture<Void> accountsReady = accounts.thenAccept(list -> timeStage("accounts register", () -> {
+                for (int i = 0; i < list.size(); i++) bankLedger.addAccount(list.get(i));
+            }));
+
+            // Resolve category references once the categories are registered.
+            // This ensures that expenditures reference actual category objects rather than temporary ones
+            CompletableFuture<SimpleArrayList<Expenditure>> resolved = expenditures.thenCombine(categoriesReady,
+                    (list, ignored) -> {
+                        timeStage("category resolution", () -> {
+                            for (int i = 0; i < list.size(); i++) resolveCategory(list.get(i));
+                        });
+                        return list;
+                    });
+
+            // Link expenditures once they are resolved and the accounts are registered
+            CompletableFuture<Void> linked = resolved.thenAcceptBoth(accountsReady,
+                    (list, ignored) -> timeStage("account linking", () -> linkExpenditures(list)));
+
+            CompletableFuture<Void> receiptsReady = receipts.thenAccept(list -> timeStage("receipts register", () -> {
+                for (int i = 0; i < list.size(); i++) receiptHandler.addReceipt(list.get(i));
+            }));
+
+            CompletableFuture.allOf(linked, receiptsReady).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        } finally {
+            loaders.shutdown();
+        }
+
+        // Everything loaded so far matches the files; only later changes are dirty
+        savedExpenditureVersion = expenditureManager.getVersion();
+        savedAccountVersion = bankLedger.getVersion();
+        savedCategoryVersion = categoryManager.getVersion();
+
+        // Replay expenditures recorded after the last checkpoint
+        timeStage("journal replay", this::replayJournal);
+        recordStage("total", start);
+    }
+
+    /**
+     * Applies the journaled expenditures that the checkpointed files do not include yet.
+     * 
+     * A checkpoint writes expenditures.txt and accounts.txt one after the other,
+     * so a crash can leave either one ahead of the other. Each record is
+     * therefore checked against both: it is added unless expenditures.txt
+     * already holds its ID, and its account is debited unless the journal mark
+     * stored in accounts.txt shows the balances already include it.
+     * 
+     * @throws UncheckedIOException if the journal or the mark in accounts.txt
+     *         cannot be read; starting without them would lose or double-debit
+     *         the journaled expenditures
+     */
+    private void replayJournal() {
+        SimpleArrayList<Expenditure> journaled;
+        ExpenditureJournal.Mark mark;
+        try {
+            journaled = journal.replay();
+            mark = fileManager.loadJournalMark("accounts.txt");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay the expenditure journal", e);
+        }
+        // Number of leading records already debited, or -1 if accounts.txt has no mark
+        int debited = mark == null ? -1 : mark.getGeneration() == journal.getGeneration() ? mark.getRecords() : 0;
+        for (int i = 0; i < journaled.size(); i++) {
+            Expenditure exp = journaled.get(i);
+            Expenditure saved = expenditureManager.findById(exp.getId());
+            // Without a mark, the balances were always written together with expenditures.txt
+            boolean inBalances = debited < 0 ? saved != null : i < debited;
+            if (saved == null) {
+                resolveCategory(exp);
+                applyExpenditure(exp, !inBalances);
+            } else if (!inBalances && saved.getBankAccountId() != null) {
+                bankLedger.logExpenditure(saved.getBankAccountId(), saved.getAmount(), saved.getDescription());
             }
         }
-        
+    }
+
+    /**
+     * Loads the expenditures into the expenditure manager and associates them
+     * with their bank accounts and categories.
+     * 
+     * @param expenditures The loaded expenditures with resolved categories
+     */
+    private void linkExpenditures(SimpleArrayList<Expenditure> expenditures) {
         // Load expenditures into the expenditure manager (properly initializes ID counter)
         expenditureManager.loadExpenditures(expenditures);
         
@@ -139,20 +284,60 @@ public class XpenseSystem {
         // Only process expenditures that have valid bank accounts and categories
         for (int i = 0; i < expenditures.size(); i++) {
             Expenditure exp = expenditures.get(i);
-            if (exp.getBankAccountId() != null &&
-                bankLedger.getAccount(exp.getBankAccountId()) != null &&
-                categoryManager.validateCategory(exp.getCategory().getName())) 
+            BankAccount account = exp.getBankAccountId() != null ? bankLedger.getAccount(exp.getBankAccountId()) : null;
+            if (account != null && categoryManager.validateCategory(exp.getCategory().getName())) 
             {
                 // Add expenditure to category for category-based reporting
                 categoryManager.addExpenditureToCategory(exp.getCategory().getName(), exp);
                 // Add expenditure to bank account for account-based tracking
-                bankLedger.getAccount(exp.getBankAccountId()).add_expenditure(exp);
+                account.add_expenditure(exp);
             }
         }
+    }
+
+    /**
+     * Starts a timed load on the startup executor.
+     */
+    private <T> CompletableFuture<T> load(ExecutorService executor, String stage, Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            T result = loader.get();
+            recordStage(stage, start);
+            return result;
+        }, executor);
+    }
+
+    /**
+     * Runs a startup stage and records how long it took.
+     */
+    private void timeStage(String stage, Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        recordStage(stage, start);
+    }
+
+    /**
+     * Records the duration of a startup stage that began at the given time.
+     */
+    private void recordStage(String stage, long startNanos) {
+        double millis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        synchronized (startupStages) {
+            startupStages.put(stage, millis);
+        }
+    }
 
-        // Load receipts from file and register them with the receipt handler
-        SimpleArrayList<Receipt> receipts = fileManager.loadReceipts("receipts.txt");
-        for (int i = 0; i < receipts.size(); i++) receiptHandler.addReceipt(receipts.get(i));
+    /**
+     * Replaces the temporary category of a loaded expenditure with the
+     * registered category of the same name, if one exists.
+     * 
+     * Uses the category manager's case-insensitive index, so resolving a
+     * row costs one hash lookup regardless of the number of categories.
+     *
+     * @param exp The loaded expenditure
+     */
+    private void resolveCategory(Expenditure exp) {
+        Category registered = categoryManager.getCategory(exp.getCategory().getName());
+        if (registered != null) exp.setCategory(registered);
     }
 
     /**
@@ -161,69 +346,335 @@ public class XpenseSystem {
      * This method performs comprehensive validation and atomic operations:
      * 1. Validates that the specified bank account exists
      * 2. Validates that the specified category exists
-     * 3. Attempts to debit the bank account for the expenditure amount
+     * 3. Checks that the bank account can cover the expenditure amount
      * 4. Adds the expenditure to the expenditure manager
-     * 5. Associates the expenditure with its category and bank account
-     * 6. Logs the transaction in the bank ledger
-     * 7. Persists changes to files
+     * 5. Debits the account through the bank ledger
+     * 6. Associates the expenditure with its category and bank account
+     * 7. Appends the expenditure to the journal (checkpointing every
+     *    {@link #DEFAULT_CHECKPOINT_INTERVAL} records by default)
      * 
-     * If any step fails, the operation is rolled back to maintain data integrity.
+     * If any validation fails, nothing is changed to maintain data integrity.
+     * In write-behind mode step 7 runs on the persistence thread.
      * 
      * @param exp The expenditure to add to the system
      * @return true if the expenditure was successfully added, false otherwise
      */
     public boolean addExpenditure(Expenditure exp) {
+        synchronized (this) {
+            if (!applyExpenditure(exp)) return false;
+            unjournaled.add(exp);
+        }
+        // Record the expenditure in the journal instead of rewriting the full files
+        persist("journal", this::flushJournal);
+        return true;
+    }
+
+    /**
+     * Adds a batch of expenditures with one validation pass, one debit per
+     * bank account and one persistence pass.
+     * 
+     * Every row is validated like {@link #addExpenditure(Expenditure)}: the
+     * account and category must exist, the data must be valid and the ID (if
+     * given) must be new. Account balances are checked against a running total
+     * of the rows accepted so far, so a row is rejected once its account can no
+     * longer cover it. Accepted rows are then debited as a single amount per
+     * account and the whole batch is journaled (or checkpointed, for large
+     * batches) in one write.
+     * 
+     * @param batch The expenditures to add, in order
+     * @return The outcome of every row
+     */
+    public BatchResult addExpenditures(SimpleArrayList<Expenditure> batch) {
+        BatchResult result = new BatchResult();
+        synchronized (this) {
+            // Amount still available in, and amount to debit from, each account touched by the batch
+            SimpleMap<String, BigDecimal> available = new SimpleMap<>();
+            SimpleMap<String, BigDecimal> debits = new SimpleMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                Expenditure exp = batch.get(i);
+                String reason = validateBatchRow(exp, available);
+                if (reason == null && !expenditureManager.addExpenditure(exp)) reason = "duplicate ID";
+                if (reason != null) {
+                    result.rejected(i, exp, reason);
+                    continue;
+                }
+                String accountId = exp.getBankAccountId();
+                available.put(accountId, available.get(accountId).subtract(exp.getAmount()));
+                BigDecimal debit = debits.get(accountId);
+                debits.put(accountId, debit == null ? exp.getAmount() : debit.add(exp.getAmount()));
+                categoryManager.addExpenditureToCategory(exp.getCategory().getName(), exp);
+                bankLedger.getAccount(accountId).add_expenditure(exp);
+                unjournaled.add(exp);
+                result.added(i, exp);
+            }
+
+            // One debit (and one low-funds check) per account
+            for (int i = 0; i < debits.size(); i++) {
+                bankLedger.logExpenditure(debits.getKeyAt(i), debits.getAt(i), "Batch of expenditures");
+            }
+            result.setAccountsDebited(debits.size());
+            if (result.getRejectedCount() > 0) {
+                alertSystem.addAlert("Batch import: " + result.getRejectedCount() + " of " + batch.size()
+                        + " expenditures rejected.", 2);
+            }
+        }
+        if (result.getAddedCount() > 0) persist("journal", this::flushJournal);
+        return result;
+    }
+
+    /**
+     * Checks one batch row against the current state and the running
+     * account balances of the batch.
+     * 
+     * @param exp The row
+     * @param available Running balance per account, filled in on first use
+     * @return null if the row can be added, otherwise the reason it cannot
+     */
+    private String validateBatchRow(Expenditure exp, SimpleMap<String, BigDecimal> available) {
+        if (exp == null) return "empty row";
+        BankAccount account = exp.getBankAccountId() != null ? bankLedger.getAccount(exp.getBankAccountId()) : null;
+        if (account == null) return "bank account does not exist";
+        Category registered = exp.getCategory() != null ? categoryManager.getCategory(exp.getCategory().getName()) : null;
+        if (registered == null) return "category does not exist";
+        exp.setCategory(registered);
+        if (!exp.isValid()) return "invalid data";
+        BigDecimal balance = available.get(account.getAccountNumber());
+        if (balance == null) {
+            balance = account.getBalance();
+            available.put(account.getAccountNumber(), balance);
+        }
+        if (balance.compareTo(exp.getAmount()) < 0) return "insufficient funds in account " + account.getAccountNumber();
+        return null;
+    }
+
+    /**
+     * Appends the expenditures added since the last call to the journal in one
+     * write. Once enough records are pending, a checkpoint is taken instead,
+     * which writes them straight to expenditures.txt.
+     * 
+     * @return true if the expenditures were journaled or checkpointed
+     */
+    private synchronized boolean flushJournal() {
+        if (unjournaled.size() == 0) return true;
+        boolean due = journal.getPendingRecords() + unjournaled.size() >= checkpointInterval;
+        if (due && checkpoint()) return true;
+        // Journal the records if there was no checkpoint, or it failed
+        if (!journal.appendAll(unjournaled)) return false;
+        unjournaled = new SimpleArrayList<>();
+        return true;
+    }
+
+    /**
+     * Runs a store flush now, or queues it for the persistence thread in write-behind mode.
+     * 
+     * Must be called without holding the system lock: in write-behind mode the
+     * call can block until the persistence thread, which takes that lock, catches up.
+     * 
+     * A flush that fails is reported by the next {@link #flush()} or {@link #close()}.
+     * 
+     * @param store Name of the store, used to merge queued flushes of the same store
+     * @param flush The flush to perform, returning true on success
+     */
+    private void persist(String store, BooleanSupplier flush) {
+        PersistenceWorker worker = writeBehind;
+        if (worker != null) worker.submit(store, flush);
+        else if (!flush.getAsBoolean()) persistFailed = true;
+    }
+
+    /**
+     * Validates an expenditure and applies it to the in-memory state.
+     * 
+     * Shared by {@link #addExpenditure(Expenditure)} and the journal replay so that
+     * a replayed record has exactly the same effect as the original add. The
+     * account is debited once, through the bank ledger, after the expenditure
+     * has been accepted by the expenditure manager.
+     * 
+     * @param exp The expenditure to apply
+     * @return true if the expenditure was applied, false otherwise
+     */
+    private boolean applyExpenditure(Expenditure exp) {
+        return applyExpenditure(exp, true);
+    }
+
+    /**
+     * Applies an expenditure, optionally without debiting its account.
+     * 
+     * @param exp The expenditure to apply
+     * @param debit false if the account balance already includes the expenditure
+     * @return true if the expenditure was applied, false otherwise
+     */
+    private boolean applyExpenditure(Expenditure exp, boolean debit) {
         // Validate that the bank account exists
         if (exp.getBankAccountId() == null || bankLedger.getAccount(exp.getBankAccountId()) == null) {
             alertSystem.addAlert("Cannot add expenditure: Bank account does not exist.", 1);
             return false;
         }
         
-        // Validate that the category exists
-        if (!categoryManager.validateCategory(exp.getCategory().getName())) {
+        // Validate that the category exists, and use the registered instance for it
+        Category registered = exp.getCategory() != null ? categoryManager.getCategory(exp.getCategory().getName()) : null;
+        if (registered == null) {
             alertSystem.addAlert("Cannot add expenditure: Category does not exist.", 2);
             return false;
         }
         
-        // Get the bank account and attempt to debit the expenditure amount
+        // Check that the bank account can cover the expenditure amount
         BankAccount bank = bankLedger.getAccount(exp.getBankAccountId());
-        if (!bank.debit(exp.getAmount())) {
+        if (debit && exp.getAmount() != null && bank.getBalance().compareTo(exp.getAmount()) < 0) {
             alertSystem.addAlert("Insufficient funds in account " + bank.getAccountNumber(), 1);
             return false;
         }
         
+        exp.setCategory(registered);
+        
         // Attempt to add the expenditure to the expenditure manager
-        boolean added = expenditureManager.addExpenditure(exp);
-        if (added) {
-            // Successfully added - complete all associations and persist changes
-            categoryManager.addExpenditureToCategory(exp.getCategory().getName(), exp);
-            bank.add_expenditure(exp);
-            bankLedger.logExpenditure(bank.getAccountNumber(), exp.getAmount(), exp.getDescription());
-            
-            // Persist all changes to files
-            fileManager.saveExpenditures(expenditureManager.getAllExpenditures(), "expenditures.txt");
-            fileManager.saveAccounts(bankLedger.getAllAccounts(), "accounts.txt");
-            return true;
-        } else {
-            // Failed to add expenditure - rollback the debit operation
-            bank.credit(exp.getAmount());
+        if (!expenditureManager.addExpenditure(exp)) {
             alertSystem.addAlert("Expenditure not added due to duplicate ID or invalid data.", 2);
             return false;
         }
+        
+        // Successfully added - debit the account and complete all associations
+        if (debit) bankLedger.logExpenditure(bank.getAccountNumber(), exp.getAmount(), exp.getDescription());
+        categoryManager.addExpenditureToCategory(exp.getCategory().getName(), exp);
+        bank.add_expenditure(exp);
+        return true;
+    }
+
+    /**
+     * Writes the expenditure and account files, if they changed, and empties the journal.
+     * 
+     * Pending expenditures are journaled and forced to disk first, so every
+     * record either file may hold is also in the journal. accounts.txt is
+     * written with the journal mark its balances match, and the journal is only
+     * truncated once both files have been written; a checkpoint that fails or is
+     * interrupted part way is completed by the replay on next startup.
+     * 
+     * @return true if the checkpoint completed, false otherwise
+     */
+    public synchronized boolean checkpoint() {
+        if (!journal.appendAll(unjournaled)) return false;
+        unjournaled = new SimpleArrayList<>();
+        if (!journal.sync()) return false;
+        boolean saved = saveExpenditures() && saveAccounts();
+        if (!saved || !journal.truncate()) return false;
+        if (snapshotStale) refreshSnapshot();
+        return true;
+    }
+
+    /**
+     * Writes expenditures.txt if expenditures changed since it was last written.
+     * 
+     * Only the dirty segment is written: the file is cut at the first modified
+     * record and everything from there on is appended, so adding expenditures
+     * appends to the file and changing one record rewrites just the records
+     * after it. If the file does not line up with the records in memory the
+     * whole file is rewritten instead.
+     * 
+     * @return true if the file is up to date, false if writing failed
+     */
+    private boolean saveExpenditures() {
+        long version = expenditureManager.getVersion();
+        if (version == savedExpenditureVersion) return true;
+        SimpleArrayList<Expenditure> all = expenditureManager.getAllExpenditures();
+        boolean saved = fileManager.patchExpenditures(all, expenditureManager.getFirstDirtyIndex(),
+                        expenditureManager.getPersistedCount(), "expenditures.txt")
+                || fileManager.saveExpenditures(all, "expenditures.txt");
+        if (saved) {
+            expenditureManager.markPersisted();
+            savedExpenditureVersion = version;
+            snapshotStale = true;
+        }
+        return saved;
+    }
+
+    /**
+     * Writes accounts.txt if accounts or balances changed since it was last written.
+     * 
+     * @return true if the file is up to date, false if writing failed
+     */
+    private boolean saveAccounts() {
+        long version = bankLedger.getVersion();
+        if (version == savedAccountVersion) return true;
+        boolean saved = fileManager.saveAccounts(bankLedger.getAllAccounts(), journal.mark(), "accounts.txt");
+        if (saved) {
+            savedAccountVersion = version;
+            snapshotStale = true;
+        }
+        return saved;
+    }
+
+    /**
+     * Writes categories.txt if categories were added since it was last written.
+     * 
+     * @return true if the file is up to date, false if writing failed
+     */
+    private synchronized boolean saveCategories() {
+        long version = categoryManager.getVersion();
+        if (version == savedCategoryVersion) return true;
+        boolean saved = fileManager.saveCategories(categoryManager.getAllCategories(), "categories.txt");
+        if (saved) {
+            savedCategoryVersion = version;
+            snapshotStale = true;
+        }
+        return saved;
+    }
+
+    /**
+     * Rewrites the binary snapshot, if one is in use, so it matches the text files.
+     * 
+     * Only called right after a checkpoint, when the in-memory expenditures and
+     * accounts equal the text files. Receipts are re-read from receipts.txt because
+     * receipts added at runtime are not written there.
+     */
+    private void refreshSnapshot() {
+        if (!snapshotStore.exists()) return;
+        snapshotStale = false;
+        snapshotStore.write(new SnapshotStore.Contents(categoryManager.getAllCategories(), bankLedger.getAllAccounts(),
+                expenditureManager.getAllExpenditures(), fileManager.loadReceipts("receipts.txt")));
+    }
+
+    /**
+     * Creates the snapshot store for the standard data files.
+     * 
+     * @return A snapshot store for xpense.snapshot checked against the four text files
+     */
+    public static SnapshotStore newSnapshotStore() {
+        return new SnapshotStore("xpense.snapshot", "categories.txt", "accounts.txt", "expenditures.txt", "receipts.txt");
+    }
+
+    /**
+     * Sets how many journaled expenditures trigger an automatic checkpoint.
+     * 
+     * @param checkpointInterval Number of records between checkpoints (at least 1)
+     */
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = Math.max(1, checkpointInterval);
+    }
+
+    /**
+     * Enables or disables forcing each journal append to disk.
+     * 
+     * @param sync true to fsync every appended expenditure before addExpenditure returns
+     */
+    public void setJournalSync(boolean sync) {
+        journal.setSyncOnAppend(sync);
     }
 
     /**
      * Adds a new bank account to the system.
      * 
-     * If the account is successfully added, the changes are immediately
-     * persisted to the accounts.txt file.
+     * If the account is successfully added, a checkpoint is taken immediately
+     * (or queued, in write-behind mode), which writes accounts.txt together
+     * with the journal mark of the debits its balances include.
      * 
      * @param acct The bank account to add
      * @return true if the account was successfully added, false if it already exists
      */
     public boolean addBankAccount(BankAccount acct) {
-        boolean added = bankLedger.addAccount(acct);
-        if (added) fileManager.saveAccounts(bankLedger.getAllAccounts(), "accounts.txt");
+        boolean added;
+        synchronized (this) {
+            added = bankLedger.addAccount(acct);
+        }
+        if (added) persist("checkpoint", this::checkpoint);
         return added;
     }
 
@@ -231,34 +682,161 @@ public class XpenseSystem {
      * Adds a new category to the system.
      * 
      * If the category is successfully added, the changes are immediately
-     * persisted to the categories.txt file.
+     * persisted to the categories.txt file (or queued, in write-behind mode).
      * 
      * @param cat The category to add
      * @return true if the category was successfully added, false if it already exists
      */
     public boolean addCategory(Category cat) {
-        boolean added = categoryManager.addCategory(cat);
-        if (added) fileManager.saveCategories(categoryManager.getAllCategories(), "categories.txt");
+        boolean added;
+        synchronized (this) {
+            added = categoryManager.addCategory(cat);
+        }
+        if (added) persist("categories", this::saveCategories);
         return added;
     }
 
     /**
-     * Persists all current data to their respective files.
+     * Links a receipt file to an expenditure and saves the change.
+     * 
+     * Only the expenditure record is marked dirty, so the save patches
+     * expenditures.txt from that record onwards and leaves the account and
+     * category files untouched.
+     * 
+     * @param expenditureId The ID of the expenditure
+     * @param receiptPath The receipt file path
+     * @return true if the expenditure was found, false otherwise
+     */
+    public boolean linkReceipt(String expenditureId, String receiptPath) {
+        synchronized (this) {
+            if (!expenditureManager.updateReceiptInfo(expenditureId, receiptPath)) return false;
+        }
+        // Saved outside the lock: with group commit the write may run on another thread
+        saveAll();
+        return true;
+    }
+
+    /**
+     * Persists all changed data to their respective files.
      * 
-     * This method saves:
-     * - All expenditures to expenditures.txt
-     * - All bank accounts to accounts.txt  
-     * - All categories to categories.txt
+     * This method saves, for each store whose version changed since it was last written:
+     * - Expenditures to expenditures.txt (only the dirty segment)
+     * - Bank accounts to accounts.txt  
+     * - Categories to categories.txt
+     * 
+     * Saving expenditures and accounts is a checkpoint, so the journal is emptied.
+     * 
+     * With group commit enabled, calls made from several threads within the
+     * commit window share a single write; each call still returns only once
+     * the data it could see has been written. In write-behind mode the save
+     * is queued instead; use {@link #flush()} to wait for it.
      * 
      * This is typically called when the application shuts down to ensure
      * no data is lost.
      */
     public void saveAll() {
-        fileManager.saveExpenditures(expenditureManager.getAllExpenditures(), "expenditures.txt");
-        fileManager.saveAccounts(bankLedger.getAllAccounts(), "accounts.txt");
-        fileManager.saveCategories(categoryManager.getAllCategories(), "categories.txt");
+        GroupCommitter committer = groupCommitter;
+        if (writeBehind != null) persist("saveAll", this::saveAllNow);
+        else if (committer != null) persist("saveAll", committer::commit);
+        else persist("saveAll", this::saveAllNow);
+    }
+
+    /**
+     * Writes all changed stores on the calling thread.
+     * 
+     * @return true if every store was written
+     */
+    private synchronized boolean saveAllNow() {
+        // Categories first, so the snapshot refreshed by the checkpoint matches all files
+        boolean saved = saveCategories();
+        return checkpoint() && saved;
+    }
+
+    /**
+     * Enables group commit for {@link #saveAll()}.
+     * 
+     * @param windowMillis How long the first caller waits for other save requests
+     *                     to join before writing (0 to write at once, still merging
+     *                     requests that arrive while a write is in progress)
+     */
+    public void enableGroupCommit(long windowMillis) {
+        groupCommitter = new GroupCommitter(this::saveAllNow, windowMillis);
+    }
+
+    /**
+     * Disables group commit, so every {@link #saveAll()} writes on the calling thread.
+     */
+    public void disableGroupCommit() {
+        groupCommitter = null;
     }
 
+    /** @return The group committer, with flush and batch counters, or null if group commit is off */
+    public GroupCommitter getGroupCommitter() { return groupCommitter; }
+
+    /**
+     * Switches to write-behind mode: mutations return once the in-memory state is
+     * updated and file writes are done by a background persistence thread.
+     * 
+     * Changes made within the last maxLagMillis may be lost if the process
+     * crashes; {@link #flush()} and {@link #close()} write them immediately.
+     * 
+     * @param capacity Number of pending changes after which mutating calls block
+     *                 until the persistence thread has caught up
+     * @param maxLagMillis Longest time a change is held before it is written
+     */
+    public void enableWriteBehind(int capacity, long maxLagMillis) {
+        disableWriteBehind();
+        writeBehind = new PersistenceWorker("xpense-write-behind", capacity, maxLagMillis);
+    }
+
+    /**
+     * Leaves write-behind mode after writing everything still pending.
+     * 
+     * @return true if all pending writes succeeded
+     */
+    public boolean disableWriteBehind() {
+        PersistenceWorker worker = writeBehind;
+        if (worker == null) return true;
+        writeBehind = null;
+        return worker.close();
+    }
+
+    /**
+     * Waits until every change queued for the persistence thread has been written.
+     * Returns immediately when write-behind mode is off.
+     * 
+     * @return true if all pending writes succeeded and no write has failed since the last call
+     */
+    public boolean flush() {
+        PersistenceWorker worker = writeBehind;
+        boolean flushed = worker == null || worker.flush();
+        return takePersistResult() && flushed;
+    }
+
+    /**
+     * @return false if a flush run on the calling thread failed since the last call
+     */
+    private boolean takePersistResult() {
+        boolean ok = !persistFailed;
+        persistFailed = false;
+        return ok;
+    }
+
+    /**
+     * Writes all pending changes and releases open files. Called from Main on
+     * shutdown; safe to call more than once.
+     * 
+     * @return true if all pending writes succeeded
+     */
+    public boolean close() {
+        boolean flushed = disableWriteBehind();
+        journal.close();
+        return takePersistResult() && flushed;
+    }
+
+    /** @return The write-behind persistence worker, with queue counters, or null if the mode is off */
+    public PersistenceWorker getWriteBehind() { return writeBehind; }
+
     // Getter methods for accessing subsystem data and functionality
     
     /** @return All expenditures in the system */
@@ -290,4 +868,23 @@ public class XpenseSystem {
     
     /** @return The search and sort module for data querying */
     public SearchAndSortModule getSearchSortModule() { return searchSortModule; }
+    
+    /** @return Rows, time and rows/sec of the expenditure load at startup */
+    public String getExpenditureLoadStats() { return expenditureLoader.getLastLoadSummary(); }
+
+    /**
+     * Describes how long each startup stage took, one stage per line in the
+     * order the stages finished. Load stages overlap, so they do not add up to the total.
+     * 
+     * @return e.g. "categories load: 1.2 ms" lines ending with the total
+     */
+    public String getStartupReport() {
+        StringBuilder sb = new StringBuilder();
+        synchronized (startupStages) {
+            for (int i = 0; i < startupStages.size(); i++) {
+                sb.append(String.format("%-20s %8.1f ms%n", startupStages.getKeyAt(i) + ":", startupStages.getAt(i)));
+            }
+        }
+        return sb.toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+/**
+ * CaseInsensitiveMap.java
+ *
+ * A hash map with case-insensitive String keys for the Nkwa Real Estate
+ * Expenditure Management System. Keys match exactly when
+ * {@link String#equalsIgnoreCase(String)} would, so names such as categories
+ * can be looked up in constant time without lower-casing the key first.
+ *
+ * This implementation features:
+ * - A HashIndex (linear probing, resized at 1/2 load) over insertion-ordered entries
+ * - Case folding inside the hash and the key comparison (no per-lookup allocation)
+ * - Insertion-order access by position through getKeyAt/getAt
+ *
+ * @param <V> The type of the values
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * CaseInsensitiveMap maps case-insensitive names to values.
+ *
+ * The key given to the first {@link #put(String, Object)} of a name is kept as
+ * the stored key; later puts of the same name in a different case replace the
+ * value but not the stored key. Null keys are not supported.
+ *
+ * @param <V> The type of the values
+ */
+public class CaseInsensitiveMap<V> {
+    /** Initial number of entries (the index table has twice as many slots) */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Stored keys in insertion order */
+    private String[] keys;
+
+    /** Values in insertion order */
+    private Object[] values;
+
+    /** Positions of the entries by folded hash */
+    private final HashIndex index;
+
+    /**
+     * Creates an empty map.
+     */
+    public CaseInsensitiveMap() {
+        this.keys = new String[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.index = new HashIndex(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Associates a value with a name, ignoring case.
+     *
+     * @param key The name
+     * @param value The value
+     * @return The previous value for the name, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public V put(String key, V value) {
+        int h = hash(key);
+        int slot = find(key, h);
+        int i = index.entryAt(slot);
+        if (i >= 0) {
+            V old = (V) values[i];
+            values[i] = value;
+            return old;
+        }
+        i = index.add(slot, h);
+        if (i == keys.length) {
+            keys = Arrays.copyOf(keys, index.capacity());
+            values = Arrays.copyOf(values, index.capacity());
+        }
+        keys[i] = key;
+        values[i] = value;
+        return null;
+    }
+
+    /**
+     * Looks up a value by name, ignoring case.
+     *
+     * @param key The name
+     * @return The value, or null if the name is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(String key) {
+        int i = indexOf(key);
+        return i >= 0 ? (V) values[i] : null;
+    }
+
+    /**
+     * @param key The name
+     * @return true if the name is present, ignoring case
+     */
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key The name
+     * @return The insertion-order position of the name, or -1 if it is not present
+     */
+    public int indexOf(String key) {
+        if (key == null) return -1;
+        return index.entryAt(find(key, hash(key)));
+    }
+
+    /** @return The number of names stored */
+    public int size() { return index.size(); }
+
+    /**
+     * @param index Insertion-order position, 0 to size() - 1
+     * @return The stored key at the position
+     */
+    public String getKeyAt(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return keys[index];
+    }
+
+    /**
+     * @param index Insertion-order position, 0 to size() - 1
+     * @return The value at the position
+     */
+    @SuppressWarnings("unchecked")
+    public V getAt(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return (V) values[index];
+    }
+
+    /**
+     * Finds the slot holding the key, or the free slot where it would go.
+     */
+    private int find(String key, int h) {
+        for (int slot = index.slotFor(h); ; slot = index.nextSlot(slot)) {
+            int i = index.entryAt(slot);
+            if (i < 0 || (index.hashAt(i) == h && keys[i].equalsIgnoreCase(key))) return slot;
+        }
+    }
+
+    /**
+     * Hashes a key so that keys equal under equalsIgnoreCase get the same hash.
+     * Each char is folded the same way equalsIgnoreCase compares it: to upper
+     * case and then to lower case.
+     */
+    public static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+}
@@ -0,0 +1,339 @@
+/**
+ * FieldTokenizer.java
+ *
+ * A reusable, allocation-free tokenizer for delimited records used by the
+ * Nkwa Real Estate Expenditure Management System data files. Instead of
+ * splitting a line into one String per field, the tokenizer records the start
+ * and end offset of each field inside the caller's char or byte buffer, and
+ * numeric and date fields are parsed directly from those offsets.
+ *
+ * This implementation features:
+ * - Works on char[] and byte[] buffers without copying
+ * - Field offsets stored in reusable int arrays (no per-line allocation)
+ * - Direct BigDecimal and LocalDateTime parsing from field offsets
+ * - Interning of repeated field values through an InternTable
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+
+/**
+ * FieldTokenizer splits one record at a time into delimited fields.
+ *
+ * A tokenizer is reset onto a range of a buffer, after which each field
+ * can be read by index. Like {@link String#split(String)}, trailing empty
+ * fields are not counted, so field counts match the previous split-based
+ * parsing of the data files.
+ *
+ * Byte buffers must use an ASCII-compatible charset (such as UTF-8); string
+ * fields are decoded with the charset given to {@link #reset(byte[], int, int, Charset)}.
+ *
+ * A tokenizer holds per-record state and is not thread-safe; use one per thread.
+ */
+public class FieldTokenizer {
+    /** Largest number of digits that always fits in a long */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /** Field delimiter character */
+    private final char delimiter;
+
+    /** Current char source, or null when tokenizing bytes */
+    private char[] chars;
+
+    /** Current byte source, or null when tokenizing chars */
+    private byte[] bytes;
+
+    /** Charset used to decode string fields of a byte source */
+    private Charset charset;
+
+    /** Start offset of each field (inclusive) */
+    private int[] starts = new int[16];
+
+    /** End offset of each field (exclusive) */
+    private int[] ends = new int[16];
+
+    /** Number of fields in the current record */
+    private int count;
+
+    /**
+     * Creates a tokenizer for the given delimiter.
+     *
+     * @param delimiter The character separating fields, e.g. '|'
+     */
+    public FieldTokenizer(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Tokenizes the record stored in buf[from, to).
+     *
+     * @param buf The char buffer holding the record
+     * @param from Start offset of the record (inclusive)
+     * @param to End offset of the record (exclusive), without line terminator
+     * @return The number of fields
+     */
+    public int reset(char[] buf, int from, int to) {
+        this.chars = buf;
+        this.bytes = null;
+        count = 0;
+        int fieldStart = from;
+        for (int i = from; i < to; i++) {
+            if (buf[i] == delimiter) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        addField(fieldStart, to);
+        dropTrailingEmptyFields(from == to);
+        return count;
+    }
+
+    /**
+     * Tokenizes the record stored in buf[from, to).
+     *
+     * @param buf The byte buffer holding the record
+     * @param from Start offset of the record (inclusive)
+     * @param to End offset of the record (exclusive), without line terminator
+     * @param charset Charset used to decode string fields
+     * @return The number of fields
+     */
+    public int reset(byte[] buf, int from, int to, Charset charset) {
+        this.bytes = buf;
+        this.chars = null;
+        this.charset = charset;
+        count = 0;
+        int fieldStart = from;
+        byte delim = (byte) delimiter;
+        for (int i = from; i < to; i++) {
+            if (buf[i] == delim) {
+                addField(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        addField(fieldStart, to);
+        dropTrailingEmptyFields(from == to);
+        return count;
+    }
+
+    private void addField(int start, int end) {
+        if (count == starts.length) {
+            int[] biggerStarts = new int[count * 2];
+            int[] biggerEnds = new int[count * 2];
+            System.arraycopy(starts, 0, biggerStarts, 0, count);
+            System.arraycopy(ends, 0, biggerEnds, 0, count);
+            starts = biggerStarts;
+            ends = biggerEnds;
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    private void dropTrailingEmptyFields(boolean emptyRecord) {
+        // As with split, an empty record still has one (empty) field
+        if (emptyRecord) return;
+        while (count > 0 && ends[count - 1] == starts[count - 1]) count--;
+    }
+
+    /** @return The number of fields in the current record */
+    public int fieldCount() { return count; }
+
+    /**
+     * @param field Field index
+     * @return The length of the field in buffer units
+     */
+    public int length(int field) {
+        check(field);
+        return ends[field] - starts[field];
+    }
+
+    /**
+     * Returns the character at a position of the current source.
+     */
+    private char charAt(int pos) {
+        return chars != null ? chars[pos] : (char) (bytes[pos] & 0xFF);
+    }
+
+    private void check(int field) {
+        if (field < 0 || field >= count) throw new IndexOutOfBoundsException("field " + field);
+    }
+
+    /**
+     * Checks whether the first character of the record equals c.
+     *
+     * @param c The character to test
+     * @return true if the record starts with c
+     */
+    public boolean startsWith(char c) {
+        return count > 0 && ends[0] > starts[0] && charAt(starts[0]) == c;
+    }
+
+    /**
+     * Checks whether a field contains only whitespace (or nothing).
+     *
+     * @param field Field index
+     * @return true if the field is empty or blank
+     */
+    public boolean isBlank(int field) {
+        check(field);
+        for (int i = starts[field]; i < ends[field]; i++) {
+            if (charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the whole record is empty or whitespace.
+     *
+     * @return true if every field is blank
+     */
+    public boolean isBlankRecord() {
+        for (int f = 0; f < count; f++) if (!isBlank(f)) return false;
+        return true;
+    }
+
+    /**
+     * Materializes a field as a String. This is the only accessor that allocates.
+     *
+     * @param field Field index
+     * @return The field text
+     */
+    public String string(int field) {
+        check(field);
+        int start = starts[field];
+        int len = ends[field] - start;
+        return chars != null ? new String(chars, start, len) : new String(bytes, start, len, charset);
+    }
+
+    /**
+     * Returns the canonical value for a field from an intern table, so that
+     * identical field values across records share one instance.
+     *
+     * @param field Field index
+     * @param table The intern table to resolve the value through
+     * @return The interned value
+     */
+    public <V> V intern(int field, InternTable<V> table) {
+        check(field);
+        int start = starts[field];
+        int len = ends[field] - start;
+        if (chars != null) return table.intern(chars, start, len);
+        for (int i = start; i < ends[field]; i++) {
+            // Multi-byte characters must be decoded before they can be compared
+            if (bytes[i] < 0) return table.intern(string(field));
+        }
+        return table.intern(bytes, start, len);
+    }
+
+    /**
+     * Parses a field as a BigDecimal without creating an intermediate String.
+     *
+     * Plain decimals of up to 18 digits (e.g. "1200", "-75.25") are built from a
+     * scaled long; anything else falls back to the BigDecimal character parser.
+     *
+     * @param field Field index
+     * @return The parsed amount
+     * @throws NumberFormatException if the field is not a valid decimal
+     */
+    public BigDecimal decimal(int field) {
+        check(field);
+        int i = starts[field];
+        int end = ends[field];
+        if (i == end) throw new NumberFormatException("empty amount");
+        boolean negative = false;
+        char c = charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < end; i++) {
+            c = charAt(i);
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) scale++;
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                digits = -1;   // exponent or invalid character
+                break;
+            }
+        }
+        if (digits > 0 && digits <= MAX_LONG_DIGITS) {
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+        }
+        return new BigDecimal(toChars(field));
+    }
+
+    /**
+     * Parses a field in ISO-8601 local date-time form (as produced by
+     * {@link LocalDateTime#toString()}) without creating an intermediate String.
+     *
+     * Accepts yyyy-MM-ddTHH:mm with optional :ss and 1-9 fraction digits;
+     * other forms fall back to {@link LocalDateTime#parse(CharSequence)}.
+     *
+     * @param field Field index
+     * @return The parsed date-time
+     * @throws java.time.DateTimeException if the field is not a valid date-time
+     */
+    public LocalDateTime dateTime(int field) {
+        check(field);
+        int p = starts[field];
+        int len = ends[field] - p;
+        if (len >= 16 && charAt(p + 4) == '-' && charAt(p + 7) == '-' && charAt(p + 10) == 'T'
+                && charAt(p + 13) == ':') {
+            int year = digits(p, 4);
+            int month = digits(p + 5, 2);
+            int day = digits(p + 8, 2);
+            int hour = digits(p + 11, 2);
+            int minute = digits(p + 14, 2);
+            int second = 0;
+            int nanos = 0;
+            boolean ok = year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0;
+            if (ok && len > 16) {
+                ok = len >= 19 && charAt(p + 16) == ':' && (second = digits(p + 17, 2)) >= 0;
+                if (ok && len > 19) {
+                    int fraction = len - 20;
+                    ok = charAt(p + 19) == '.' && fraction >= 1 && fraction <= 9
+                            && (nanos = digits(p + 20, fraction)) >= 0;
+                    for (int k = fraction; ok && k < 9; k++) nanos *= 10;
+                }
+            }
+            if (ok) return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+        }
+        return LocalDateTime.parse(string(field));
+    }
+
+    /**
+     * Reads n ASCII digits starting at pos.
+     *
+     * @return The numeric value, or -1 if a non-digit is found
+     */
+    private int digits(int pos, int n) {
+        int value = 0;
+        for (int i = pos; i < pos + n; i++) {
+            char c = charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private char[] toChars(int field) {
+        if (chars != null) {
+            char[] copy = new char[ends[field] - starts[field]];
+            System.arraycopy(chars, starts[field], copy, 0, copy.length);
+            return copy;
+        }
+        return string(field).toCharArray();
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * HashIndex.java
+ *
+ * The open-addressing index shared by the hash tables of the Nkwa Real Estate
+ * Expenditure Management System (SimpleMap, ObjectIntHashMap,
+ * ObjectLongHashMap, CaseInsensitiveMap and InternTable). Each table keeps
+ * its keys and values in dense insertion-ordered arrays of whatever type it
+ * needs; this class maps hashes to positions in those arrays.
+ *
+ * This implementation features:
+ * - Linear probing over a power-of-two slot table, resized at 1/2 load
+ * - Cached entry hashes so resizing never calls hashCode again
+ * - Mixing of the high hash bits into the low bits used for slot selection
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * HashIndex maps hashes to the positions of entries held by its owner.
+ *
+ * The owner compares keys while probing, since only it knows how keys match:
+ * <pre>
+ * for (int slot = index.slotFor(h); ; slot = index.nextSlot(slot)) {
+ *     int i = index.entryAt(slot);
+ *     if (i &lt; 0) ... // absent; slot is where it would go
+ *     if (index.hashAt(i) == h &amp;&amp; matches(keys[i], key)) ... // found at i
+ * }
+ * </pre>
+ * New entries are appended with {@link #add(int, int)}; whenever the returned
+ * position equals the length of the owner's arrays, the owner grows them to
+ * {@link #capacity()}.
+ */
+final class HashIndex {
+    /** Slots: entry position + 1, or 0 if the slot is free */
+    private int[] table;
+
+    /** Hash of each entry, by position */
+    private int[] hashes;
+
+    /** Number of entries */
+    private int size;
+
+    /**
+     * @param capacity Number of entries before the first resize (a power of two)
+     */
+    HashIndex(int capacity) {
+        hashes = new int[capacity];
+        table = new int[capacity * 2];
+    }
+
+    /** @return The first slot to probe for a hash */
+    int slotFor(int h) {
+        return spread(h) & (table.length - 1);
+    }
+
+    /** @return The slot probed after the given one */
+    int nextSlot(int slot) {
+        return (slot + 1) & (table.length - 1);
+    }
+
+    /** @return The position of the entry in a slot, or -1 if the slot is free */
+    int entryAt(int slot) {
+        return table[slot] - 1;
+    }
+
+    /** @return The hash of the entry at a position */
+    int hashAt(int entry) {
+        return hashes[entry];
+    }
+
+    /**
+     * Finds the slot holding a key compared with equals, or the free slot
+     * where it would go.
+     *
+     * @param key The key (may be null)
+     * @param h The key's hash
+     * @param keys The owner's keys by position
+     * @return The slot
+     */
+    int find(Object key, int h, Object[] keys) {
+        int slot = slotFor(h);
+        int i;
+        while ((i = table[slot] - 1) >= 0) {
+            if (hashes[i] == h && (keys[i] == key || (key != null && key.equals(keys[i])))) return slot;
+            slot = nextSlot(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Appends an entry, doubling the capacity first if the index is full.
+     *
+     * @param slot The free slot returned by the probe for the new key
+     * @param h The key's hash
+     * @return The position of the new entry (always the previous size)
+     */
+    int add(int slot, int h) {
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            rebuild();
+            // The key is absent, so the first free slot on its probe path is its place
+            slot = slotFor(h);
+            while (table[slot] != 0) slot = nextSlot(slot);
+        }
+        hashes[size] = h;
+        table[slot] = ++size;
+        return size - 1;
+    }
+
+    /**
+     * Removes the entry at a position; later entries move down one position,
+     * as the owner must do with its own arrays. Time complexity: O(n)
+     *
+     * @param entry The position to remove
+     */
+    void remove(int entry) {
+        System.arraycopy(hashes, entry + 1, hashes, entry, size - entry - 1);
+        size--;
+        rebuild();
+    }
+
+    /** @return The number of entries */
+    int size() {
+        return size;
+    }
+
+    /** @return The number of entries the owner's arrays must be able to hold */
+    int capacity() {
+        return hashes.length;
+    }
+
+    /**
+     * Re-inserts every entry position into a fresh slot table.
+     */
+    private void rebuild() {
+        table = new int[hashes.length * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = slotFor(hashes[i]);
+            while (table[slot] != 0) slot = nextSlot(slot);
+            table[slot] = i + 1;
+        }
+    }
+
+    /** Mixes high bits into the low bits used for slot selection */
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,334 @@
+/**
+ * IndexedMinHeap.java
+ *
+ * An addressable minimum heap (priority queue) for the Nkwa Real Estate
+ * Expenditure Management System. Every inserted element is given a handle
+ * that can later be used to raise its priority or remove it, which a plain
+ * {@link MinHeap} cannot do without a linear search.
+ *
+ * This implementation features:
+ * - Configurable d-ary layout (4 children per node by default), giving a
+ *   shallower tree and fewer cache misses than a binary heap on large backlogs
+ * - O(n) bulk construction from a list (bottom-up heapify)
+ * - O(1) peek and size, O(log n) insert, removeMin, decreaseKey and remove
+ * - Non-destructive sorted snapshot of the contents
+ *
+ * @param <T> The type of elements stored in this heap
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+/**
+ * IndexedMinHeap is a d-ary min-heap whose entries are addressable by handle.
+ *
+ * The heap uses 0-based indexing with arity d:
+ * - Parent of node i: (i - 1) / d
+ * - Children of node i: d * i + 1 through d * i + d
+ *
+ * Each {@link Handle} records its entry's current position, so locating an
+ * entry for decreaseKey or remove is O(1). A handle becomes invalid once its
+ * entry leaves the heap.
+ *
+ * @param <T> The type of elements held in this heap
+ */
+public class IndexedMinHeap<T> {
+    /** Default number of children per node */
+    public static final int DEFAULT_ARITY = 4;
+
+    /** Initial capacity for the heap array */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * A reference to one entry of the heap.
+     *
+     * @param <T> The type of the element
+     */
+    public static final class Handle<T> {
+        /** The element */
+        private T value;
+
+        /** Position in the heap array, or -1 once the entry has left the heap */
+        private int index;
+
+        private Handle(T value, int index) {
+            this.value = value;
+            this.index = index;
+        }
+
+        /** @return The element this handle refers to */
+        public T getValue() { return value; }
+
+        /** @return true while the entry is still in the heap */
+        public boolean isActive() { return index >= 0; }
+    }
+
+    /** Heap entries (0-based) */
+    private Handle<T>[] heap;
+
+    /** Current number of elements in the heap */
+    private int size;
+
+    /** Number of children per node */
+    private final int arity;
+
+    /** Comparator for determining element priority */
+    private final MinHeap.PriorityComparator<T> comparator;
+
+    /**
+     * Constructs an empty 4-ary heap.
+     *
+     * @param comparator The comparator to determine element priority
+     */
+    public IndexedMinHeap(MinHeap.PriorityComparator<T> comparator) {
+        this(comparator, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs an empty heap with the given number of children per node.
+     *
+     * @param comparator The comparator to determine element priority
+     * @param arity Number of children per node (at least 2)
+     * @throws IllegalArgumentException if the arity is less than 2
+     */
+    public IndexedMinHeap(MinHeap.PriorityComparator<T> comparator, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        this.comparator = comparator;
+        this.arity = arity;
+        this.heap = newArray(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a heap holding the given elements in O(n) time.
+     *
+     * The elements are placed in list order and the heap property is then
+     * restored bottom-up, which is cheaper than inserting them one by one.
+     * Use {@link #handles()} to obtain their handles.
+     *
+     * @param comparator The comparator to determine element priority
+     * @param arity Number of children per node (at least 2)
+     * @param elements The initial elements
+     * @throws IllegalArgumentException if the arity is less than 2
+     */
+    public IndexedMinHeap(MinHeap.PriorityComparator<T> comparator, int arity, SimpleArrayList<T> elements) {
+        if (arity < 2) throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        this.comparator = comparator;
+        this.arity = arity;
+        this.size = elements.size();
+        this.heap = newArray(Math.max(INITIAL_CAPACITY, size));
+        for (int i = 0; i < size; i++) heap[i] = new Handle<>(elements.get(i), i);
+        // Sift down every internal node, deepest first
+        for (int i = (size - 2) / arity; i >= 0 && size > 1; i--) siftDown(i);
+    }
+
+    /**
+     * Inserts a new element into the heap.
+     * Time complexity: O(log n)
+     *
+     * @param value The element to insert
+     * @return The handle of the new entry
+     */
+    public Handle<T> insert(T value) {
+        ensureCapacity();
+        Handle<T> handle = new Handle<>(value, size);
+        heap[size++] = handle;
+        siftUp(handle.index);
+        return handle;
+    }
+
+    /**
+     * Returns the element with the highest priority without removing it.
+     *
+     * @return The element with the highest priority, or null if the heap is empty
+     */
+    public T peek() {
+        return size == 0 ? null : heap[0].value;
+    }
+
+    /**
+     * Removes and returns the element with the highest priority (minimum).
+     * Time complexity: O(log n)
+     *
+     * @return The element with the highest priority, or null if the heap is empty
+     */
+    public T removeMin() {
+        if (size == 0) return null;
+        Handle<T> min = heap[0];
+        removeAt(0);
+        return min.value;
+    }
+
+    /**
+     * Replaces an entry's element with one of equal or higher priority and
+     * moves it up to its new position.
+     * Time complexity: O(log n)
+     *
+     * @param handle The entry to update
+     * @param value The new element
+     * @throws IllegalArgumentException if the handle is not in this heap, or
+     *         the new element has lower priority than the current one
+     */
+    public void decreaseKey(Handle<T> handle, T value) {
+        checkHandle(handle);
+        if (comparator.compare(value, handle.value) > 0) {
+            throw new IllegalArgumentException("New element has lower priority than the current one");
+        }
+        handle.value = value;
+        siftUp(handle.index);
+    }
+
+    /**
+     * Removes an entry from the heap.
+     * Time complexity: O(log n)
+     *
+     * @param handle The entry to remove
+     * @return true if the entry was removed, false if it was no longer in this heap
+     */
+    public boolean remove(Handle<T> handle) {
+        if (handle == null || !contains(handle)) return false;
+        removeAt(handle.index);
+        return true;
+    }
+
+    /**
+     * Checks whether a handle refers to an entry currently in this heap.
+     *
+     * @param handle The handle to check
+     * @return true if the entry is in this heap
+     */
+    public boolean contains(Handle<T> handle) {
+        int i = handle.index;
+        return i >= 0 && i < size && heap[i] == handle;
+    }
+
+    /**
+     * Returns the elements ordered by priority without modifying the heap.
+     * Elements of equal priority are in no particular order.
+     * Time complexity: O(n log n)
+     *
+     * @return A new list of the elements, highest priority first
+     */
+    public SimpleArrayList<T> toSortedList() {
+        SimpleArrayList<T> sorted = new SimpleArrayList<>(size);
+        for (int i = 0; i < size; i++) sorted.add(heap[i].value);
+        sorted.sort(comparator::compare);
+        return sorted;
+    }
+
+    /**
+     * Returns the handles of all entries, in heap order.
+     *
+     * @return A new list of the handles
+     */
+    public SimpleArrayList<Handle<T>> handles() {
+        SimpleArrayList<Handle<T>> list = new SimpleArrayList<>(size);
+        for (int i = 0; i < size; i++) list.add(heap[i]);
+        return list;
+    }
+
+    /**
+     * Removes all elements. Outstanding handles become invalid.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i].index = -1;
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /** @return The number of elements in the heap */
+    public int size() {
+        return size;
+    }
+
+    /** @return true if the heap contains no elements */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** @return Number of children per node */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Removes the entry at a position, filling the gap with the last entry.
+     */
+    private void removeAt(int idx) {
+        Handle<T> removed = heap[idx];
+        Handle<T> last = heap[--size];
+        heap[size] = null;
+        removed.index = -1;
+        if (idx == size) return;
+        heap[idx] = last;
+        last.index = idx;
+        // The moved entry may belong above or below its new position
+        siftDown(idx);
+        if (last.index == idx) siftUp(idx);
+    }
+
+    private void checkHandle(Handle<T> handle) {
+        if (handle == null || !contains(handle)) {
+            throw new IllegalArgumentException("Handle is not in this heap");
+        }
+    }
+
+    // Java cannot create a generic array directly; this is the only unchecked cast
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Handle<T>[] newArray(int capacity) {
+        return (Handle<T>[]) new Handle[capacity];
+    }
+
+    /**
+     * Doubles the heap array when it is full.
+     */
+    private void ensureCapacity() {
+        if (size == heap.length) {
+            Handle<T>[] bigger = newArray(heap.length * 2);
+            System.arraycopy(heap, 0, bigger, 0, size);
+            heap = bigger;
+        }
+    }
+
+    /**
+     * Moves an entry up until its parent has equal or higher priority.
+     * The entry is held aside and parents are shifted down, halving the writes of swapping.
+     */
+    private void siftUp(int idx) {
+        Handle<T> moving = heap[idx];
+        while (idx > 0) {
+            int parent = (idx - 1) / arity;
+            if (comparator.compare(moving.value, heap[parent].value) >= 0) break;
+            place(heap[parent], idx);
+            idx = parent;
+        }
+        place(moving, idx);
+    }
+
+    /**
+     * Moves an entry down until no child has higher priority.
+     */
+    private void siftDown(int idx) {
+        Handle<T> moving = heap[idx];
+        while (true) {
+            int first = arity * idx + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (comparator.compare(heap[c].value, heap[best].value) < 0) best = c;
+            }
+            if (comparator.compare(heap[best].value, moving.value) >= 0) break;
+            place(heap[best], idx);
+            idx = best;
+        }
+        place(moving, idx);
+    }
+
+    private void place(Handle<T> handle, int idx) {
+        heap[idx] = handle;
+        handle.index = idx;
+    }
+}
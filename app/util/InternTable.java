@@ -0,0 +1,157 @@
+/**
+ * InternTable.java
+ *
+ * An intern table for the Nkwa Real Estate Expenditure Management System that
+ * maps text keys to one canonical value per distinct key. Lookups can be made
+ * directly from a range of a char or byte buffer, so repeated values in the data
+ * files (category names, phases, account IDs) resolve to a shared instance
+ * without creating a String for every row.
+ *
+ * This implementation features:
+ * - A HashIndex (linear probing, resized at 1/2 load) over the interned entries
+ * - Hashing compatible with String.hashCode across char, byte and String keys
+ * - A factory that builds the canonical value the first time a key is seen
+ *
+ * @param <V> The type of the canonical values
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * InternTable resolves text keys to canonical values.
+ *
+ * Byte-buffer lookups treat each byte as one character and are only valid
+ * for ASCII text; callers decode non-ASCII keys and use {@link #intern(String)}.
+ * The table is not thread-safe; use one per thread.
+ *
+ * @param <V> The type of the canonical values
+ */
+public class InternTable<V> {
+    /**
+     * Builds the canonical value for a key seen for the first time.
+     *
+     * @param <V> The type of the canonical values
+     */
+    public interface Factory<V> {
+        /**
+         * @param key The key text
+         * @return The canonical value for the key
+         */
+        V create(String key);
+    }
+
+    /** Initial number of entries (the index table has twice as many slots) */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Key text of each entry */
+    private String[] keys;
+
+    /** Canonical value of each entry */
+    private Object[] values;
+
+    /** Positions of the entries by String hash */
+    private final HashIndex index;
+
+    /** Builds values for new keys */
+    private final Factory<V> factory;
+
+    /**
+     * Creates an empty intern table.
+     *
+     * @param factory Builds the canonical value the first time a key is seen
+     */
+    public InternTable(Factory<V> factory) {
+        this.factory = factory;
+        this.keys = new String[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.index = new HashIndex(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the canonical value for buf[off, off + len).
+     *
+     * @param buf Buffer holding the key
+     * @param off Start offset of the key
+     * @param len Length of the key
+     * @return The canonical value
+     */
+    @SuppressWarnings("unchecked")
+    public V intern(char[] buf, int off, int len) {
+        int h = 0;
+        for (int i = off; i < off + len; i++) h = 31 * h + buf[i];
+        int slot = index.slotFor(h);
+        for (int i; (i = index.entryAt(slot)) >= 0; slot = index.nextSlot(slot)) {
+            String k = keys[i];
+            if (index.hashAt(i) == h && k.length() == len && regionEquals(k, buf, off)) return (V) values[i];
+        }
+        return insert(slot, new String(buf, off, len), h);
+    }
+
+    /**
+     * Returns the canonical value for the ASCII text in buf[off, off + len).
+     *
+     * @param buf Buffer holding the key
+     * @param off Start offset of the key
+     * @param len Length of the key
+     * @return The canonical value
+     */
+    @SuppressWarnings("unchecked")
+    public V intern(byte[] buf, int off, int len) {
+        int h = 0;
+        for (int i = off; i < off + len; i++) h = 31 * h + (buf[i] & 0xFF);
+        int slot = index.slotFor(h);
+        for (int i; (i = index.entryAt(slot)) >= 0; slot = index.nextSlot(slot)) {
+            String k = keys[i];
+            if (index.hashAt(i) == h && k.length() == len && regionEquals(k, buf, off)) return (V) values[i];
+        }
+        char[] text = new char[len];
+        for (int i = 0; i < len; i++) text[i] = (char) (buf[off + i] & 0xFF);
+        return insert(slot, new String(text), h);
+    }
+
+    /**
+     * Returns the canonical value for a key.
+     *
+     * @param key The key text
+     * @return The canonical value
+     */
+    @SuppressWarnings("unchecked")
+    public V intern(String key) {
+        int h = key.hashCode();
+        int slot = index.slotFor(h);
+        for (int i; (i = index.entryAt(slot)) >= 0; slot = index.nextSlot(slot)) {
+            if (index.hashAt(i) == h && keys[i].equals(key)) return (V) values[i];
+        }
+        return insert(slot, key, h);
+    }
+
+    /** @return The number of distinct keys interned */
+    public int size() { return index.size(); }
+
+    // Adds a key found absent at the given free slot
+    private V insert(int slot, String key, int h) {
+        V value = factory.create(key);
+        int i = index.add(slot, h);
+        if (i == keys.length) {
+            keys = Arrays.copyOf(keys, index.capacity());
+            values = Arrays.copyOf(values, index.capacity());
+        }
+        keys[i] = key;
+        values[i] = value;
+        return value;
+    }
+
+    private static boolean regionEquals(String key, char[] buf, int off) {
+        for (int i = 0; i < key.length(); i++) if (key.charAt(i) != buf[off + i]) return false;
+        return true;
+    }
+
+    private static boolean regionEquals(String key, byte[] buf, int off) {
+        for (int i = 0; i < key.length(); i++) if (key.charAt(i) != (buf[off + i] & 0xFF)) return false;
+        return true;
+    }
+}
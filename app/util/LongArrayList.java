@@ -0,0 +1,134 @@
+/**
+ * LongArrayList.java
+ *
+ * A growable list of primitive long values for the Nkwa Real Estate Expenditure
+ * Management System. Unlike SimpleArrayList<Long>, values are stored
+ * unboxed in a long[] array, so adding and summing allocate nothing per element.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * LongArrayList is a dynamic array of long values with capacity doubling.
+ */
+public class LongArrayList {
+    /** Default initial capacity for new arrays */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /** Internal array to store values */
+    private long[] values;
+
+    /** Current number of values in the list */
+    private int size;
+
+    /** Constructs an empty list with the default capacity. */
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list that can hold the given number of values
+     * without resizing.
+     *
+     * @param initialCapacity The initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        this.values = new long[initialCapacity];
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value The value to add
+     */
+    public void add(long value) {
+        if (size == values.length) ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * @param index The position of the value
+     * @return The value at the position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        return values[index];
+    }
+
+    /**
+     * Replaces the value at a position.
+     *
+     * @param index The position of the value
+     * @param value The new value
+     * @return The previous value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long set(int index, long value) {
+        long old = get(index);
+        values[index] = value;
+        return old;
+    }
+
+    /**
+     * Adds delta to the value at a position.
+     *
+     * @param index The position of the value
+     * @param delta The amount to add
+     * @return The new value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long increment(int index, long delta) {
+        get(index);
+        return values[index] += delta;
+    }
+
+    /** @return The sum of all values */
+    public long sum() {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += values[i];
+        return total;
+    }
+
+    /** Sorts the values in ascending order with {@link PrimitiveSort}. Time complexity: O(n) */
+    public void sort() {
+        PrimitiveSort.sort(values, 0, size);
+    }
+
+    /** @return A new array containing the values in list order */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Grows the internal array, if necessary, so that it can hold at least
+     * minCapacity values without further resizing.
+     *
+     * @param minCapacity The desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > values.length) values = Arrays.copyOf(values, SimpleArrayList.grownCapacity(values.length, minCapacity));
+    }
+
+    /** Removes all values. The capacity is kept. */
+    public void clear() {
+        size = 0;
+    }
+
+    /** @return The number of values in the list */
+    public int size() {
+        return size;
+    }
+
+    /** @return true if the list contains no values */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
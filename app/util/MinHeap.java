@@ -9,7 +9,8 @@
  * This implementation features:
  * - Generic type support with custom comparator
  * - Dynamic array resizing for unlimited capacity
- * - Efficient O(log n) insertion and removal operations
+ * - Efficient O(log n) insertion and removal operations, O(1) peek
+ * - O(log n) replacement of the minimum, for bounded selections such as {@link TopK}
  * - 1-based indexing for simplified parent/child calculations
  * - Custom PriorityComparator interface for flexible ordering
  * 
@@ -199,11 +200,52 @@ public class MinHeap<T> {
         if (size == 0) return null;
         
         T min = (T)heap[1];         // Store the minimum element
-        heap[1] = heap[size--];     // Move last element to root and decrease size
+        heap[1] = heap[size];       // Move last element to root
+        heap[size--] = null;        // Release the old slot and decrease size
         siftDown(1);               // Restore heap property
         return min;
     }
 
+    /**
+     * Replaces the element with the highest priority (minimum) and returns it.
+     * 
+     * Equivalent to removeMin() followed by insert(value), but with a single
+     * sift down. Time complexity: O(log n)
+     * 
+     * @param value The element to insert
+     * @return The element that was removed, or null if the heap was empty
+     */
+    @SuppressWarnings("unchecked")
+    public T replaceMin(T value) {
+        if (size == 0) {
+            insert(value);
+            return null;
+        }
+        T min = (T)heap[1];
+        heap[1] = value;
+        siftDown(1);
+        return min;
+    }
+
+    /**
+     * Returns the element with the highest priority without removing it.
+     * 
+     * @return The element with the highest priority, or null if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size == 0 ? null : (T)heap[1];
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     * 
+     * @return The number of elements
+     */
+    public int size() {
+        return size;
+    }
+
     /**
      * Checks if the heap is empty.
      * 
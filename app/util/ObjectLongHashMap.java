@@ -0,0 +1,136 @@
+/**
+ * ObjectLongHashMap.java
+ *
+ * A hash map from objects to primitive long values for the Nkwa Real Estate
+ * Expenditure Management System. It has the same layout as SimpleMap (dense
+ * insertion-ordered entries located through a HashIndex) but keeps
+ * the values in a long[] array, so counting and summing per key never box.
+ *
+ * @param <K> The type of the keys
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * ObjectLongHashMap maps keys to long values using the keys' hashCode and equals.
+ *
+ * Positions 0..size()-1 follow insertion order. A key that is not present
+ * reads as 0, so {@link #addTo(Object, long)} can be used as a counter or
+ * accumulator without a separate containsKey check. Null keys are supported.
+ *
+ * @param <K> The type of the keys
+ */
+public class ObjectLongHashMap<K> {
+    /** Initial number of entries (the index table has twice as many slots) */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Keys in insertion order */
+    private Object[] keys;
+
+    /** Values in insertion order */
+    private long[] values;
+
+    /** Positions of the entries by hash */
+    private final HashIndex index;
+
+    public ObjectLongHashMap() {
+        keys = new Object[INITIAL_CAPACITY];
+        values = new long[INITIAL_CAPACITY];
+        index = new HashIndex(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Associates a value with a key, keeping the key's position if it is present.
+     *
+     * @param key The key
+     * @param value The value
+     */
+    public void put(K key, long value) {
+        // insert may grow the arrays, so it must run before values is read
+        int idx = insert(key);
+        values[idx] = value;
+    }
+
+    /**
+     * Adds delta to the value of a key, inserting the key with value delta if absent.
+     *
+     * @param key The key
+     * @param delta The amount to add
+     * @return The new value
+     */
+    public long addTo(K key, long delta) {
+        int idx = insert(key);
+        return values[idx] += delta;
+    }
+
+    /**
+     * @param key The key
+     * @return The value of the key, or 0 if it is not present
+     */
+    public long get(K key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * @param key The key
+     * @param defaultValue The value to return if the key is not present
+     * @return The value of the key, or defaultValue if it is not present
+     */
+    public long getOrDefault(K key, long defaultValue) {
+        int idx = indexOf(key);
+        return idx >= 0 ? values[idx] : defaultValue;
+    }
+
+    public boolean containsKey(K key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @param key The key to find
+     * @return The insertion-order position of the key, or -1 if it is not present
+     */
+    public int indexOf(K key) {
+        return index.entryAt(index.find(key, hash(key), keys));
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public K getKeyAt(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return (K) keys[index];
+    }
+
+    public long getValueAt(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return values[index];
+    }
+
+    /**
+     * Returns the position of the key, appending it with value 0 if absent.
+     */
+    private int insert(K key) {
+        int h = hash(key);
+        int slot = index.find(key, h, keys);
+        int i = index.entryAt(slot);
+        if (i >= 0) return i;
+        i = index.add(slot, h);
+        if (i == keys.length) {
+            keys = Arrays.copyOf(keys, index.capacity());
+            values = Arrays.copyOf(values, index.capacity());
+        }
+        keys[i] = key;
+        values[i] = 0;
+        return i;
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * OrderedIndex.java
+ *
+ * A sorted secondary index for the Nkwa Real Estate Expenditure Management
+ * System. It maps keys such as dates or amounts to record positions and
+ * answers range queries with a binary search, so a query costs
+ * O(log n + k) for k matching records instead of a full scan.
+ *
+ * This implementation features:
+ * - Sorted parallel arrays of keys and positions (no per-entry objects)
+ * - O(1) appends when keys arrive in order, as dates usually do
+ * - Out-of-order keys buffered and merged in at the next query
+ * - Inclusive or exclusive range bounds, with null meaning unbounded
+ *
+ * @param <K> The type of the keys
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * OrderedIndex keeps (key, position) pairs ordered by key, then position.
+ *
+ * Entries whose key is not smaller than the current largest key are
+ * appended directly. Other entries wait in a pending buffer that is sorted
+ * and merged into the main arrays by the next query, which keeps a burst
+ * of unordered inserts (for example a bulk load) at O(n log n) overall.
+ *
+ * The class is not thread-safe; callers synchronize externally.
+ *
+ * @param <K> The type of the keys
+ */
+public class OrderedIndex<K> {
+    /** Initial capacity of the arrays */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Defines the order of the keys */
+    private final Comparator<? super K> order;
+
+    /** Sorted keys */
+    private Object[] keys = new Object[INITIAL_CAPACITY];
+
+    /** Record position of each sorted key */
+    private int[] positions = new int[INITIAL_CAPACITY];
+
+    /** Number of sorted entries */
+    private int size;
+
+    /** Keys added out of order, not yet merged */
+    private Object[] pendingKeys = new Object[INITIAL_CAPACITY];
+
+    /** Record position of each pending key */
+    private int[] pendingPositions = new int[INITIAL_CAPACITY];
+
+    /** Number of pending entries */
+    private int pendingSize;
+
+    /**
+     * Creates an empty index.
+     *
+     * @param order Defines the order of the keys
+     */
+    public OrderedIndex(Comparator<? super K> order) {
+        this.order = order;
+    }
+
+    /**
+     * Adds a record to the index.
+     *
+     * @param key The record's key (not null)
+     * @param position The record's position
+     */
+    public void add(K key, int position) {
+        if (pendingSize == 0 && (size == 0 || compare(keys[size - 1], positions[size - 1], key, position) <= 0)) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            keys[size] = key;
+            positions[size++] = position;
+            return;
+        }
+        if (pendingSize == pendingKeys.length) {
+            pendingKeys = Arrays.copyOf(pendingKeys, pendingSize * 2);
+            pendingPositions = Arrays.copyOf(pendingPositions, pendingSize * 2);
+        }
+        pendingKeys[pendingSize] = key;
+        pendingPositions[pendingSize++] = position;
+    }
+
+    /**
+     * Returns the positions of the records with keys in a range, in key order.
+     *
+     * @param from Lower bound, or null for no lower bound
+     * @param fromInclusive Whether a key equal to from matches
+     * @param to Upper bound, or null for no upper bound
+     * @param toInclusive Whether a key equal to to matches
+     * @return The matching positions
+     */
+    public IntArrayList range(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        mergePending();
+        int lo = from == null ? 0 : bound(from, fromInclusive);
+        int hi = to == null ? size : bound(to, !toInclusive);
+        IntArrayList result = new IntArrayList(Math.max(0, hi - lo));
+        for (int i = lo; i < hi; i++) result.add(positions[i]);
+        return result;
+    }
+
+    /**
+     * Counts the records with keys in a range without collecting them.
+     *
+     * @param from Lower bound, or null for no lower bound
+     * @param fromInclusive Whether a key equal to from matches
+     * @param to Upper bound, or null for no upper bound
+     * @param toInclusive Whether a key equal to to matches
+     * @return The number of matching records
+     */
+    public int count(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        mergePending();
+        int lo = from == null ? 0 : bound(from, fromInclusive);
+        int hi = to == null ? size : bound(to, !toInclusive);
+        return Math.max(0, hi - lo);
+    }
+
+    /** @return The number of records in the index */
+    public int size() {
+        return size + pendingSize;
+    }
+
+    /** Removes all records. */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(pendingKeys, 0, pendingSize, null);
+        size = 0;
+        pendingSize = 0;
+    }
+
+    /**
+     * Index of the first sorted key that is >= key if includeEqual, else > key.
+     */
+    @SuppressWarnings("unchecked")
+    private int bound(K key, boolean includeEqual) {
+        int lo = 0, hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = order.compare((K) keys[mid], key);
+            if (c < 0 || (c == 0 && !includeEqual)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Sorts the pending entries and merges them into the sorted arrays.
+     */
+    private void mergePending() {
+        if (pendingSize == 0) return;
+        int n = pendingSize;
+        Object[] pk = Arrays.copyOf(pendingKeys, n);
+        int[] pp = Arrays.copyOf(pendingPositions, n);
+        sort(pk, pp, Arrays.copyOf(pk, n), Arrays.copyOf(pp, n), 0, n);
+
+        Object[] mergedKeys = new Object[Math.max(INITIAL_CAPACITY, size + n)];
+        int[] mergedPositions = new int[mergedKeys.length];
+        int i = 0, j = 0, k = 0;
+        while (i < size || j < n) {
+            if (j >= n || (i < size && compare(keys[i], positions[i], pk[j], pp[j]) <= 0)) {
+                mergedKeys[k] = keys[i];
+                mergedPositions[k++] = positions[i++];
+            } else {
+                mergedKeys[k] = pk[j];
+                mergedPositions[k++] = pp[j++];
+            }
+        }
+        keys = mergedKeys;
+        positions = mergedPositions;
+        size = k;
+        Arrays.fill(pendingKeys, 0, n, null);
+        pendingSize = 0;
+    }
+
+    /**
+     * Merge sorts the entries in [lo, hi) of the aux arrays into the target
+     * arrays. Both pairs must hold the same entries on entry.
+     */
+    private void sort(Object[] keysOut, int[] posOut, Object[] keysAux, int[] posAux, int lo, int hi) {
+        if (hi - lo < 2) return;
+        int mid = (lo + hi) >>> 1;
+        sort(keysAux, posAux, keysOut, posOut, lo, mid);
+        sort(keysAux, posAux, keysOut, posOut, mid, hi);
+        int i = lo, j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && compare(keysAux[i], posAux[i], keysAux[j], posAux[j]) <= 0)) {
+                keysOut[k] = keysAux[i];
+                posOut[k] = posAux[i++];
+            } else {
+                keysOut[k] = keysAux[j];
+                posOut[k] = posAux[j++];
+            }
+        }
+    }
+
+    /**
+     * Orders entries by key, then by position.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object k1, int p1, Object k2, int p2) {
+        int c = order.compare((K) k1, (K) k2);
+        return c != 0 ? c : Integer.compare(p1, p2);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Page.java
+ *
+ * One page of a paginated listing for the Nkwa Real Estate Expenditure
+ * Management System, as returned by {@link Pager}.
+ *
+ * This implementation features:
+ * - The rows of the page with their position in the listing
+ * - Continuation tokens for the next and previous pages, and for any page
+ *   by number, all tied to the same listing snapshot
+ *
+ * @param <T> The type of the rows
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+/**
+ * Page holds up to pageSize rows starting at a given index of a listing of
+ * total rows. Pages are numbered from 0.
+ *
+ * @param <T> The type of the rows
+ */
+public class Page<T> {
+    private final SimpleArrayList<T> items;
+    private final int start;
+    private final int total;
+    private final int pageSize;
+    private final int fingerprint;
+
+    Page(SimpleArrayList<T> items, int start, int total, int pageSize, int fingerprint) {
+        this.items = items;
+        this.start = start;
+        this.total = total;
+        this.pageSize = pageSize;
+        this.fingerprint = fingerprint;
+    }
+
+    /** @return The rows of this page */
+    public SimpleArrayList<T> getItems() { return items; }
+
+    /** @return Index of the first row in the listing */
+    public int getStart() { return start; }
+
+    /** @return Number of rows in the listing */
+    public int getTotal() { return total; }
+
+    /** @return Maximum number of rows per page */
+    public int getPageSize() { return pageSize; }
+
+    /** @return Number of this page, from 0 */
+    public int getNumber() { return start / pageSize; }
+
+    /** @return Number of pages in the listing (at least 1) */
+    public int getPageCount() { return Math.max(1, (total + pageSize - 1) / pageSize); }
+
+    public boolean hasNext() { return start + items.size() < total; }
+
+    public boolean hasPrevious() { return start > 0; }
+
+    /** @return Token of the next page, or null if this is the last page */
+    public String getNextToken() {
+        return hasNext() ? Pager.token(start + items.size(), total, fingerprint) : null;
+    }
+
+    /** @return Token of the previous page, or null if this is the first page */
+    public String getPreviousToken() {
+        return hasPrevious() ? Pager.token(Math.max(0, start - pageSize), total, fingerprint) : null;
+    }
+
+    /**
+     * @param number A page number, from 0; out-of-range numbers give the first or last page
+     * @return Token of that page of the same listing
+     */
+    public String getTokenForPage(int number) {
+        int page = Math.max(0, Math.min(number, getPageCount() - 1));
+        return Pager.token(page * pageSize, total, fingerprint);
+    }
+}
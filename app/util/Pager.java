@@ -0,0 +1,123 @@
+/**
+ * Pager.java
+ *
+ * Cursor-based pagination for the Nkwa Real Estate Expenditure Management
+ * System. A Pager splits a list into pages of a fixed size and hands out
+ * continuation tokens, so a listing of 100,000 records is shown a page at a
+ * time instead of all at once.
+ *
+ * This implementation features:
+ * - O(page size) access to any page
+ * - Opaque continuation tokens recording the first row of a page, the
+ *   size of the listing when it was first paged and a fingerprint of the
+ *   listing, so a token is only accepted by the listing that issued it
+ * - Stable pages over append-only lists: records added after the first page
+ *   was taken do not shift or join later pages of the same listing
+ *
+ * @param <T> The type of the rows
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+/**
+ * Pager gives out pages of a list, by number or by continuation token.
+ *
+ * A token has the form "start.total.fingerprint" in base 36. The fingerprint
+ * covers the list object, the page size and the last row of the listing, so
+ * a token is accepted only by a pager over the same list with the same page
+ * size whose first total rows still end with the same row. It stays valid
+ * while the list only grows, which is the case for the expenditure list.
+ * Tokens whose start is not on a page boundary, whose listing is larger than
+ * the list, or whose fingerprint differs are rejected. The fingerprint is a
+ * 32-bit check against mix-ups, not protection against forged tokens.
+ *
+ * @param <T> The type of the rows
+ */
+public class Pager<T> {
+    /** Rows per page when none is given */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final SimpleArrayList<T> source;
+    private final int pageSize;
+    private final int total;
+
+    /**
+     * Pages a list as it is now.
+     *
+     * @param source The list to page
+     * @param pageSize Rows per page (at least 1)
+     */
+    public Pager(SimpleArrayList<T> source, int pageSize) {
+        if (pageSize < 1) throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        this.source = source;
+        this.pageSize = pageSize;
+        this.total = source.size();
+    }
+
+    /** @return Number of pages (at least 1) */
+    public int getPageCount() {
+        return Math.max(1, (total + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * @param number A page number, from 0; out-of-range numbers give the first or last page
+     * @return The page
+     */
+    public Page<T> page(int number) {
+        int page = Math.max(0, Math.min(number, getPageCount() - 1));
+        return slice(page * pageSize, total);
+    }
+
+    /**
+     * @param token A continuation token from a page of this listing, or null for the first page
+     * @return The page the token refers to
+     * @throws IllegalArgumentException if the token is malformed or not from this listing
+     */
+    public Page<T> page(String token) {
+        if (token == null) return page(0);
+        String[] parts = token.split("\\.", -1);
+        int start, listingTotal, fingerprint;
+        try {
+            if (parts.length != 3) throw new NumberFormatException();
+            start = Integer.parseInt(parts[0], 36);
+            listingTotal = Integer.parseInt(parts[1], 36);
+            fingerprint = Integer.parseUnsignedInt(parts[2], 36);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page token: " + token);
+        }
+        if (start < 0 || listingTotal < 0 || listingTotal > source.size() || start % pageSize != 0
+                || (start >= listingTotal && start > 0) || fingerprint != fingerprint(listingTotal)) {
+            throw new IllegalArgumentException("Page token does not belong to this listing: " + token);
+        }
+        return slice(start, listingTotal);
+    }
+
+    /**
+     * @return The token of the page starting at a row of a listing of the given size
+     */
+    static String token(int start, int listingTotal, int fingerprint) {
+        return Integer.toString(start, 36) + "." + Integer.toString(listingTotal, 36)
+                + "." + Integer.toUnsignedString(fingerprint, 36);
+    }
+
+    /**
+     * Identifies the listing made of the first listingTotal rows of the source
+     * at this page size, in O(1): rows are compared by identity, not content.
+     */
+    private int fingerprint(int listingTotal) {
+        int h = System.identityHashCode(source);
+        h = 31 * h + pageSize;
+        h = 31 * h + listingTotal;
+        if (listingTotal > 0) h = 31 * h + System.identityHashCode(source.get(listingTotal - 1));
+        return h ^ (h >>> 16);
+    }
+
+    private Page<T> slice(int start, int listingTotal) {
+        int end = Math.min(start + pageSize, listingTotal);
+        SimpleArrayList<T> items = new SimpleArrayList<>(Math.max(0, end - start));
+        for (int i = start; i < end; i++) items.add(source.get(i));
+        return new Page<>(items, start, listingTotal, pageSize, fingerprint(listingTotal));
+    }
+}
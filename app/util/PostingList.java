@@ -0,0 +1,135 @@
+/**
+ * PostingList.java
+ *
+ * A compressed posting list for the full-text index of the Nkwa Real Estate
+ * Expenditure Management System. It records, for one search term, which
+ * documents contain it and how often.
+ *
+ * This implementation features:
+ * - Ascending document numbers stored as gaps from the previous document
+ * - Variable-length (7 bits per byte) encoding of gaps and frequencies, so
+ *   a typical entry takes two bytes instead of eight
+ * - Append-only growth with capacity doubling
+ * - A cursor for sequential decoding without allocation per entry
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Arrays;
+
+/**
+ * PostingList holds (document, frequency) entries in ascending document order.
+ *
+ * Each entry is encoded as the varint gap from the previous document
+ * followed by the varint frequency. Documents must be added in strictly
+ * increasing order.
+ */
+public class PostingList {
+    /** Encoded entries */
+    private byte[] data = new byte[8];
+
+    /** Number of bytes used in data */
+    private int length;
+
+    /** Last document added, or -1 if the list is empty */
+    private int lastDocument = -1;
+
+    /** Number of entries */
+    private int size;
+
+    /**
+     * Appends an entry.
+     *
+     * @param document The document number, greater than every document already added
+     * @param frequency Number of occurrences in the document (at least 1)
+     * @throws IllegalArgumentException if the document is out of order or the frequency is not positive
+     */
+    public void add(int document, int frequency) {
+        if (document <= lastDocument) {
+            throw new IllegalArgumentException("Document " + document + " added after " + lastDocument);
+        }
+        if (frequency < 1) throw new IllegalArgumentException("Frequency must be positive: " + frequency);
+        if (length + 10 > data.length) data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+        writeVarint(document - lastDocument);
+        writeVarint(frequency);
+        lastDocument = document;
+        size++;
+    }
+
+    /** @return Number of entries (documents containing the term) */
+    public int size() {
+        return size;
+    }
+
+    /** @return Last document added, or -1 if the list is empty */
+    public int getLastDocument() {
+        return lastDocument;
+    }
+
+    /** @return Number of bytes used by the encoded entries */
+    public int byteSize() {
+        return length;
+    }
+
+    /** Releases unused capacity. */
+    public void trimToSize() {
+        if (data.length > length) data = Arrays.copyOf(data, length);
+    }
+
+    /** @return A cursor positioned before the first entry */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Decodes the entries of the list in order.
+     *
+     * Usage: {@code while (c.next()) use(c.document(), c.frequency());}
+     */
+    public final class Cursor {
+        private int offset;
+        private int document = -1;
+        private int frequency;
+
+        /**
+         * Advances to the next entry.
+         *
+         * @return false if there are no more entries
+         */
+        public boolean next() {
+            if (offset >= length) return false;
+            document += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        /** @return Document number of the current entry */
+        public int document() { return document; }
+
+        /** @return Frequency of the current entry */
+        public int frequency() { return frequency; }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * PrimitiveSort.java
+ *
+ * Sorting of primitive int and long arrays for the Nkwa Real Estate
+ * Expenditure Management System. It backs IntArrayList.sort and
+ * LongArrayList.sort, which order the record positions produced by the
+ * expenditure, text and trigram indexes.
+ *
+ * This implementation features:
+ * - Least-significant-digit radix sort, one byte per pass, in O(n) time
+ * - A skipped pass whenever every value shares that byte, so small
+ *   non-negative values such as list positions need only one or two passes
+ * - Signed order, by flipping the sign bit of the most significant byte
+ * - Insertion sort for short ranges, where the passes cost more than they save
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+/**
+ * PrimitiveSort provides static ascending sorts of int and long array ranges.
+ *
+ * Radix sorting needs a scratch array as long as the range; ranges shorter
+ * than {@link #RADIX_THRESHOLD} are sorted in place.
+ */
+final class PrimitiveSort {
+    /** Ranges shorter than this are sorted by insertion sort */
+    static final int RADIX_THRESHOLD = 64;
+
+    /** Number of distinct byte values, i.e. buckets per pass */
+    private static final int RADIX = 256;
+
+    private PrimitiveSort() {}
+
+    /**
+     * Sorts a[from, to) in ascending order.
+     *
+     * @param a The array
+     * @param from Index of the first value to sort
+     * @param to Index after the last value to sort
+     */
+    static void sort(int[] a, int from, int to) {
+        int n = to - from;
+        if (n < RADIX_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+        int[] src = a, dst = new int[n];
+        int srcFrom = from, dstFrom = 0;
+        int[] start = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            // Flipping the sign bit of the top byte puts negative values first
+            int flip = shift == Integer.SIZE - 8 ? 0x80 : 0;
+            for (int b = 0; b <= RADIX; b++) start[b] = 0;
+            for (int i = srcFrom; i < srcFrom + n; i++) start[(((src[i] >>> shift) & 0xFF) ^ flip) + 1]++;
+            if (isSingleBucket(start, n)) continue;
+            for (int b = 0; b < RADIX; b++) start[b + 1] += start[b];
+            for (int i = srcFrom; i < srcFrom + n; i++) dst[dstFrom + start[((src[i] >>> shift) & 0xFF) ^ flip]++] = src[i];
+            int[] t = src; src = dst; dst = t;
+            int f = srcFrom; srcFrom = dstFrom; dstFrom = f;
+        }
+        if (src != a) System.arraycopy(src, srcFrom, a, from, n);
+    }
+
+    /**
+     * Sorts a[from, to) in ascending order.
+     *
+     * @param a The array
+     * @param from Index of the first value to sort
+     * @param to Index after the last value to sort
+     */
+    static void sort(long[] a, int from, int to) {
+        int n = to - from;
+        if (n < RADIX_THRESHOLD) {
+            insertionSort(a, from, to);
+            return;
+        }
+        long[] src = a, dst = new long[n];
+        int srcFrom = from, dstFrom = 0;
+        int[] start = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE; shift += 8) {
+            // Flipping the sign bit of the top byte puts negative values first
+            int flip = shift == Long.SIZE - 8 ? 0x80 : 0;
+            for (int b = 0; b <= RADIX; b++) start[b] = 0;
+            for (int i = srcFrom; i < srcFrom + n; i++) start[(((int) (src[i] >>> shift) & 0xFF) ^ flip) + 1]++;
+            if (isSingleBucket(start, n)) continue;
+            for (int b = 0; b < RADIX; b++) start[b + 1] += start[b];
+            for (int i = srcFrom; i < srcFrom + n; i++) dst[dstFrom + start[((int) (src[i] >>> shift) & 0xFF) ^ flip]++] = src[i];
+            long[] t = src; src = dst; dst = t;
+            int f = srcFrom; srcFrom = dstFrom; dstFrom = f;
+        }
+        if (src != a) System.arraycopy(src, srcFrom, a, from, n);
+    }
+
+    /**
+     * @param counts Bucket sizes, offset by one as counted before the prefix sum
+     * @return true if one bucket holds all n values, so the pass would not move anything
+     */
+    private static boolean isSingleBucket(int[] counts, int n) {
+        for (int b = 1; b <= RADIX; b++) {
+            if (counts[b] != 0) return counts[b] == n;
+        }
+        return true;
+    }
+
+    private static void insertionSort(int[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int x = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    private static void insertionSort(long[] a, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long x = a[i];
+            int j = i - 1;
+            while (j >= from && a[j] > x) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+}
@@ -10,7 +10,9 @@
  * - Dynamic resizing with automatic capacity expansion
  * - Generic type support for type safety
  * - Iterator support for enhanced for-loop compatibility
+ * - Splittable spliterator for sequential and parallel streams
  * - Standard list operations (add, remove, get, set)
+ * - Bulk and range operations (addAll, removeRange, removeIf, sort, clear)
  * - Index-based access and manipulation
  * - Memory-efficient growth strategy (doubling capacity)
  * 
@@ -25,8 +27,16 @@
  */
 package app.util;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * SimpleArrayList is a dynamic array implementation providing resizable array functionality.
@@ -65,6 +75,19 @@ public class SimpleArrayList<T> implements Iterable<T> {
         this.size = 0;
     }
 
+    /**
+     * Constructs an empty list that can hold the given number of elements
+     * without resizing.
+     * 
+     * @param initialCapacity The initial capacity
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public SimpleArrayList(int initialCapacity) {
+        if (initialCapacity < 0) throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        this.elements = new Object[initialCapacity];
+        this.size = 0;
+    }
+
     /**
      * Adds an element to the end of the list.
      * 
@@ -81,6 +104,21 @@ public class SimpleArrayList<T> implements Iterable<T> {
         return true;
     }
 
+    /**
+     * Appends all elements of another list, in order, with a single array copy.
+     * 
+     * @param other The list whose elements are appended (may be this list)
+     * @return true if this list changed
+     */
+    public boolean addAll(SimpleArrayList<? extends T> other) {
+        int count = other.size;
+        if (count == 0) return false;
+        ensureCapacity(size + count);
+        System.arraycopy(other.elements, 0, elements, size, count);
+        size += count;
+        return true;
+    }
+
     /**
      * Returns the element at the specified position in the list.
      * 
@@ -125,11 +163,55 @@ public class SimpleArrayList<T> implements Iterable<T> {
         T old = (T) elements[index];
         
         // Shift elements left to fill the gap
-        for (int i = index; i < size - 1; i++) elements[i] = elements[i + 1];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
         elements[--size] = null;  // Clear reference and decrement size
         return old;
     }
 
+    /**
+     * Removes the elements from fromIndex (inclusive) to toIndex (exclusive),
+     * shifting the following elements left with a single array copy.
+     * 
+     * @param fromIndex Index of the first element to remove
+     * @param toIndex Index after the last element to remove
+     * @throws IndexOutOfBoundsException if the range is invalid
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) throw new IndexOutOfBoundsException();
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);  // Clear references
+        size = newSize;
+    }
+
+    /**
+     * Removes every element matching the filter in a single compaction pass.
+     * The remaining elements keep their order.
+     * 
+     * @param filter Returns true for elements to remove
+     * @return true if any element was removed
+     */
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Object e = elements[i];
+            if (!filter.test((T) e)) elements[kept++] = e;
+        }
+        if (kept == size) return false;
+        Arrays.fill(elements, kept, size, null);  // Clear references
+        size = kept;
+        return true;
+    }
+
+    /**
+     * Removes all elements from the list. The capacity is kept.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
     /**
      * Returns the index of the first occurrence of the specified element.
      * 
@@ -170,11 +252,73 @@ public class SimpleArrayList<T> implements Iterable<T> {
      * provides amortized O(1) insertion performance.
      */
     private void ensureCapacity() {
-        if (size >= elements.length) {
-            Object[] bigger = new Object[elements.length * 2];
-            System.arraycopy(elements, 0, bigger, 0, elements.length);
-            elements = bigger;
-        }
+        if (size >= elements.length) ensureCapacity(size + 1);
+    }
+
+    /**
+     * Grows the internal array, if necessary, so that it can hold at least
+     * minCapacity elements without further resizing.
+     * 
+     * Capacity is at least doubled on each resize, so callers that know the
+     * final size up front avoid the intermediate copies.
+     * 
+     * @param minCapacity The desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) elements = Arrays.copyOf(elements, grownCapacity(elements.length, minCapacity));
+    }
+
+    /**
+     * The capacity to grow an array to; shared with IntArrayList and LongArrayList.
+     *
+     * @param length Current array length
+     * @param minCapacity The desired minimum capacity
+     * @return At least minCapacity, and at least double the current length
+     */
+    static int grownCapacity(int length, int minCapacity) {
+        return Math.max(minCapacity, Math.max(length * 2, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Shrinks the internal array to the current size, releasing unused capacity.
+     */
+    public void trimToSize() {
+        if (elements.length > size) elements = Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns a new array containing all elements in list order.
+     * 
+     * @return An array of the elements
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns the elements in list order in an array of the given type.
+     * The given array is used if it is large enough, otherwise a new one of
+     * the same runtime type is created.
+     * 
+     * @param a The array to fill, or a zero-length array of the desired type
+     * @return An array of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public <E> E[] toArray(E[] a) {
+        if (a.length < size) return (E[]) Arrays.copyOf(elements, size, a.getClass());
+        System.arraycopy(elements, 0, a, 0, size);
+        if (a.length > size) a[size] = null;
+        return a;
+    }
+
+    /**
+     * Sorts the list in place with {@link SortEngine}. The sort is stable:
+     * equal elements keep their relative order.
+     * 
+     * @param comparator Defines the order of the elements
+     */
+    public void sort(Comparator<? super T> comparator) {
+        SortEngine.sort(this, comparator);
     }
 
     /**
@@ -210,4 +354,111 @@ public class SimpleArrayList<T> implements Iterable<T> {
             }
         };
     }
+
+    /**
+     * Returns a spliterator over the elements in this list.
+     * 
+     * The spliterator is SIZED and SUBSIZED: it splits by halving its array
+     * range, so parallel streams divide the work evenly without copying.
+     * It covers the elements present when it is created; the list must not
+     * be modified while it is in use.
+     * 
+     * @return A spliterator over the elements in this list
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(elements, 0, size);
+    }
+
+    /**
+     * Returns a sequential stream over the elements in this list.
+     * 
+     * @return A sequential stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements in this list.
+     * 
+     * @return A possibly parallel stream
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Returns a collector that gathers stream elements into a new list.
+     * Encounter order is kept, including for parallel streams.
+     * 
+     * @param <T> The type of the elements
+     * @return A collector producing a SimpleArrayList
+     */
+    public static <T> Collector<T, ?, SimpleArrayList<T>> collector() {
+        return Collector.of(SimpleArrayList::new, SimpleArrayList::add,
+                (left, right) -> { left.addAll(right); return left; });
+    }
+
+    /**
+     * Spliterator over a range of the backing array.
+     * 
+     * @param <T> The type of the elements
+     */
+    private static final class ArraySpliterator<T> implements Spliterator<T> {
+        /** The backing array */
+        private final Object[] array;
+
+        /** Index of the next element */
+        private int index;
+
+        /** Index after the last element */
+        private final int fence;
+
+        ArraySpliterator(Object[] array, int origin, int fence) {
+            this.array = array;
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        /**
+         * Splits off the first half of the remaining range.
+         * 
+         * @return A spliterator over the first half, or null if too small to split
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) return null;
+            index = mid;
+            return new ArraySpliterator<>(array, lo, mid);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) return false;
+            action.accept((T) array[index++]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            int hi = fence;
+            for (int i = index; i < hi; i++) action.accept((T) array[i]);
+            index = hi;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
\ No newline at end of file
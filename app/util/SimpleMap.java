@@ -1,43 +1,72 @@
+/**
+ * SimpleMap.java
+ *
+ * A custom hash map for the Nkwa Real Estate Expenditure Management System.
+ * Entries are kept in insertion order in dense arrays, and an open-addressing
+ * table of entry positions gives O(1) expected get, put and containsKey.
+ *
+ * This implementation features:
+ * - A HashIndex (linear probing, resized at 1/2 load) over the entry positions
+ * - Insertion-order access by position through getAt/getKeyAt
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
 package app.util;
 
+import java.util.Arrays;
+
+/**
+ * SimpleMap maps keys to values using the keys' hashCode and equals.
+ *
+ * Positions 0..size()-1 follow insertion order; updating the value of an
+ * existing key keeps its position. remove shifts later entries down by one
+ * position and is O(n).
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
 public class SimpleMap<K, V> {
-    private final SimpleArrayList<K> keys;
-    private final SimpleArrayList<V> values;
+    /** Initial number of entries (the index table has twice as many slots) */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Keys in insertion order */
+    private Object[] keys;
+
+    /** Values in insertion order */
+    private Object[] values;
+
+    /** Positions of the entries by hash */
+    private final HashIndex index;
 
     public SimpleMap() {
-        keys = new SimpleArrayList<>();
-        values = new SimpleArrayList<>();
+        keys = new Object[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        index = new HashIndex(INITIAL_CAPACITY);
     }
 
     public void put(K key, V value) {
-        int idx = indexOf(key);
-        if (idx >= 0) {
-            // Update existing key - need to replace value at the same index
-            // Since SimpleArrayList doesn't have set(index, element), we'll remove and recreate
-            SimpleArrayList<V> tempValues = new SimpleArrayList<>();
-            for (int i = 0; i < values.size(); i++) {
-                if (i == idx) {
-                    tempValues.add(value);
-                } else {
-                    tempValues.add(values.get(i));
-                }
-            }
-            // Clear the original values and copy back
-            while (values.size() > 0) {
-                values.remove(0);
-            }
-            for (int i = 0; i < tempValues.size(); i++) {
-                values.add(tempValues.get(i));
-            }
-        } else {
-            keys.add(key);
-            values.add(value);
+        int h = hash(key);
+        int slot = index.find(key, h, keys);
+        int i = index.entryAt(slot);
+        if (i >= 0) {
+            // Existing key: replace the value in place, keeping its position
+            values[i] = value;
+            return;
         }
+        i = index.add(slot, h);
+        if (i == keys.length) grow();
+        keys[i] = key;
+        values[i] = value;
     }
 
+    @SuppressWarnings("unchecked")
     public V get(K key) {
         int idx = indexOf(key);
-        if (idx >= 0) return values.get(idx);
+        if (idx >= 0) return (V) values[idx];
         return null;
     }
 
@@ -47,34 +76,52 @@ public class SimpleMap<K, V> {
 
     public void remove(K key) {
         int idx = indexOf(key);
-        if (idx >= 0) {
-            keys.remove(idx);
-            values.remove(idx);
-        }
+        if (idx < 0) return;
+        int moved = index.size() - idx - 1;
+        System.arraycopy(keys, idx + 1, keys, idx, moved);
+        System.arraycopy(values, idx + 1, values, idx, moved);
+        index.remove(idx);
+        keys[index.size()] = null;
+        values[index.size()] = null;
     }
 
+    /**
+     * @param key The key to find
+     * @return The insertion-order position of the key, or -1 if it is not present
+     */
     public int indexOf(K key) {
-        for (int i = 0; i < keys.size(); i++) {
-            if (keys.get(i).equals(key)) return i;
-        }
-        return -1;
+        return index.entryAt(index.find(key, hash(key), keys));
     }
 
     public int size() {
-        return keys.size();
+        return index.size();
     }
 
+    @SuppressWarnings("unchecked")
     public V getAt(int index) {
-        if (index < 0 || index >= values.size()) {
+        if (index < 0 || index >= size()) {
             return null;
         }
-        return values.get(index);
+        return (V) values[index];
     }
 
+    @SuppressWarnings("unchecked")
     public K getKeyAt(int index) {
-        if (index < 0 || index >= keys.size()) {
+        if (index < 0 || index >= size()) {
             return null;
         }
-        return keys.get(index);
+        return (K) keys[index];
+    }
+
+    /**
+     * Grows the entry arrays to the capacity of the index.
+     */
+    private void grow() {
+        keys = Arrays.copyOf(keys, index.capacity());
+        values = Arrays.copyOf(values, index.capacity());
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,139 @@
 package app.util;
 
+/**
+ * FIFO queue backed by a growable circular buffer: offer, poll and peek are
+ * O(1) and never shift elements.
+ *
+ * A queue may be given a maximum capacity. When a bounded queue is full,
+ * offer follows the queue's {@link RejectionPolicy}.
+ */
 public class SimpleQueue<T> {
-    private final SimpleArrayList<T> arr;
-    public SimpleQueue() { arr = new SimpleArrayList<>(); }
-    public void offer(T value) { arr.add(value); }
+    /**
+     * What offer does when a bounded queue is full.
+     */
+    public enum RejectionPolicy {
+        /** Leave the queue unchanged and return false */
+        REJECT,
+        /** Remove the oldest element to make room for the new one */
+        DROP_OLDEST,
+        /** Throw an IllegalStateException */
+        THROW
+    }
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] buf;
+    private int head;   // index of the oldest element
+    private int size;
+    private final int maxCapacity;
+    private final RejectionPolicy policy;
+    private long rejected;  // elements refused or dropped because the queue was full
+
+    /** Creates an unbounded queue. */
+    public SimpleQueue() {
+        this(Integer.MAX_VALUE, RejectionPolicy.REJECT);
+    }
+
+    /**
+     * Creates a queue holding at most maxCapacity elements.
+     * @param maxCapacity maximum number of elements (at least 1)
+     * @param policy what offer does when the queue is full
+     */
+    public SimpleQueue(int maxCapacity, RejectionPolicy policy) {
+        this.maxCapacity = Math.max(1, maxCapacity);
+        this.policy = policy;
+        this.buf = new Object[Math.min(DEFAULT_CAPACITY, this.maxCapacity)];
+    }
+
+    /**
+     * Adds an element at the tail.
+     * @return true if the element was added, false if a full queue rejected it
+     * @throws IllegalStateException if the queue is full and the policy is THROW
+     */
+    public boolean offer(T value) {
+        if (size == maxCapacity) {
+            switch (policy) {
+                case DROP_OLDEST:
+                    poll();
+                    rejected++;
+                    break;
+                case THROW:
+                    rejected++;
+                    throw new IllegalStateException("Queue full (capacity " + maxCapacity + ")");
+                default:
+                    rejected++;
+                    return false;
+            }
+        }
+        if (size == buf.length) grow();
+        buf[(head + size) % buf.length] = value;
+        size++;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
     public T poll() {
-        if (arr.size() == 0) return null;
-        return arr.remove(0);
+        if (size == 0) return null;
+        T value = (T) buf[head];
+        buf[head] = null;
+        head = (head + 1) % buf.length;
+        size--;
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) return null;
+        return (T) buf[head];
+    }
+
+    /**
+     * Removes every element and adds them to the target list in FIFO order.
+     * @return the number of elements moved
+     */
+    public int drainTo(SimpleArrayList<? super T> target) {
+        return drainTo(target, size);
+    }
+
+    /**
+     * Removes up to maxElements elements and adds them to the target list in FIFO order.
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(SimpleArrayList<? super T> target, int maxElements) {
+        int n = Math.min(Math.max(0, maxElements), size);
+        for (int i = 0; i < n; i++) {
+            int idx = (head + i) % buf.length;
+            target.add((T) buf[idx]);
+            buf[idx] = null;
+        }
+        head = (head + n) % buf.length;
+        size -= n;
+        return n;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public boolean isFull() { return size == maxCapacity; }
+    public int getMaxCapacity() { return maxCapacity; }
+    public long getRejectedCount() { return rejected; }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) buf[(head + i) % buf.length] = null;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Doubles the buffer (up to the maximum capacity), unwrapping the elements to start at 0.
+     */
+    private void grow() {
+        int capacity = (int) Math.min((long) buf.length * 2, maxCapacity);
+        Object[] bigger = new Object[capacity];
+        int firstPart = Math.min(size, buf.length - head);
+        System.arraycopy(buf, head, bigger, 0, firstPart);
+        System.arraycopy(buf, 0, bigger, firstPart, size - firstPart);
+        buf = bigger;
+        head = 0;
     }
-    public boolean isEmpty() { return arr.size() == 0; }
-    public int size() { return arr.size(); }
-    public void clear() { while (!isEmpty()) poll(); }
-}
\ No newline at end of file
+}
@@ -1,36 +1,52 @@
 package app.util;
 
+/**
+ * Hash set built on {@link SimpleMap}: add, contains and remove use the
+ * elements' hashCode/equals in O(1) expected time (remove is O(n)), and
+ * iteration and toList() follow insertion order.
+ */
 public class SimpleSet<T> implements Iterable<T> {
-    private final SimpleArrayList<T> items;
+    private static final Object PRESENT = Boolean.TRUE;
+    private final SimpleMap<T, Object> items;
 
     public SimpleSet() {
-        items = new SimpleArrayList<>();
+        items = new SimpleMap<>();
     }
 
     public boolean add(T item) {
         if (!contains(item)) {
-            items.add(item);
+            items.put(item, PRESENT);
             return true;
         }
         return false;
     }
 
     public boolean contains(T item) {
-        for (T t : items) if (t.equals(item)) return true;
-        return false;
+        return items.containsKey(item);
     }
 
     public boolean remove(T item) {
-        return items.remove(item);
+        if (!contains(item)) return false;
+        items.remove(item);
+        return true;
     }
 
     public int size() { return items.size(); }
 
     public SimpleArrayList<T> toList() {
         SimpleArrayList<T> arr = new SimpleArrayList<>();
-        for (T t : items) arr.add(t);
+        for (int i = 0; i < items.size(); i++) arr.add(items.getKeyAt(i));
         return arr;
     }
 
-    public java.util.Iterator<T> iterator() { return items.iterator(); }
-}
\ No newline at end of file
+    public java.util.Iterator<T> iterator() {
+        return new java.util.Iterator<T>() {
+            private int cur = 0;
+            public boolean hasNext() { return cur < items.size(); }
+            public T next() {
+                if (!hasNext()) throw new java.util.NoSuchElementException();
+                return items.getKeyAt(cur++);
+            }
+        };
+    }
+}
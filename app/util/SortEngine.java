@@ -0,0 +1,222 @@
+/**
+ * SortEngine.java
+ *
+ * Stable O(n log n) sorting for the Nkwa Real Estate Expenditure Management
+ * System. SortEngine sorts SimpleArrayList contents with a merge sort and is
+ * the sort behind every ordering offered by the search and sort module.
+ *
+ * This implementation features:
+ * - Stable top-down merge sort with insertion-sorted small runs
+ * - A skip of the merge step when two runs are already in order, so sorted
+ *   or nearly sorted input costs close to O(n)
+ * - A precomputed sort-key path: a key such as a case-folded name is
+ *   computed once per element instead of twice per comparison
+ * - A fork/join parallel variant used automatically above a size threshold
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * SortEngine provides static, stable sorting of SimpleArrayList contents.
+ *
+ * Stability means elements that compare equal keep their original relative
+ * order, so sorting by date and then by category gives a category order
+ * with dates ascending within each category.
+ *
+ * Lists with at least {@link #PARALLEL_THRESHOLD} elements are split into
+ * halves sorted on the common fork/join pool; the result is identical to a
+ * sequential sort.
+ */
+public final class SortEngine {
+    /** Lists at least this long are sorted in parallel */
+    public static final int PARALLEL_THRESHOLD = 50_000;
+
+    /** Runs up to this length are sorted by insertion sort */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** Parallel tasks stop splitting below this length */
+    private static final int MIN_PARALLEL_SLICE = 8_192;
+
+    private SortEngine() {}
+
+    /**
+     * An element paired with its precomputed sort key.
+     */
+    private static final class Keyed<T, K> {
+        final K key;
+        final T item;
+
+        Keyed(K key, T item) {
+            this.key = key;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Sorts a list in place. The sort is stable.
+     *
+     * @param list The list to sort
+     * @param comparator Defines the order of the elements
+     */
+    public static <T> void sort(SimpleArrayList<T> list, Comparator<? super T> comparator) {
+        Object[] a = list.toArray();
+        sortArray(a, comparator);
+        for (int i = 0; i < a.length; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) a[i];
+            list.set(i, item);
+        }
+    }
+
+    /**
+     * Sorts a list in place by a key computed once per element. The sort is stable.
+     *
+     * Use this when the key is costly to derive, for example a lower-cased
+     * name: a comparator would derive it twice per comparison.
+     *
+     * @param list The list to sort
+     * @param key Computes the sort key of an element
+     * @param keyOrder Defines the order of the keys
+     */
+    public static <T, K> void sortByKey(SimpleArrayList<T> list, Function<? super T, ? extends K> key,
+                                        Comparator<? super K> keyOrder) {
+        sortByKey(list, key, keyOrder, null);
+    }
+
+    /**
+     * Sorts a list in place by a key computed once per element, breaking ties
+     * between equal keys with a second comparator. The sort is stable.
+     *
+     * @param list The list to sort
+     * @param key Computes the primary sort key of an element
+     * @param keyOrder Defines the order of the keys
+     * @param thenBy Orders elements with equal keys, or null to keep their original order
+     */
+    public static <T, K> void sortByKey(SimpleArrayList<T> list, Function<? super T, ? extends K> key,
+                                        Comparator<? super K> keyOrder, Comparator<? super T> thenBy) {
+        int n = list.size();
+        Object[] a = new Object[n];
+        for (int i = 0; i < n; i++) {
+            T item = list.get(i);
+            a[i] = new Keyed<T, K>(key.apply(item), item);
+        }
+        Comparator<Keyed<T, K>> order = (x, y) -> {
+            int c = keyOrder.compare(x.key, y.key);
+            return c != 0 || thenBy == null ? c : thenBy.compare(x.item, y.item);
+        };
+        sortArray(a, order);
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            Keyed<T, K> k = (Keyed<T, K>) a[i];
+            list.set(i, k.item);
+        }
+    }
+
+    /**
+     * Sorts an array, in parallel if it is long enough.
+     */
+    private static void sortArray(Object[] a, Comparator<?> comparator) {
+        if (a.length < 2) return;
+        Object[] aux = a.clone();
+        if (a.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new ParallelMergeSort(aux, a, 0, a.length, comparator));
+        } else {
+            mergeSort(aux, a, 0, a.length, comparator);
+        }
+    }
+
+    /**
+     * Sorts src[lo, hi) into dst[lo, hi). Both arrays must hold the same
+     * elements in that range on entry; the roles swap at each level so no
+     * copying back is needed.
+     */
+    private static void mergeSort(Object[] src, Object[] dst, int lo, int hi, Comparator<?> comparator) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(dst, lo, hi, comparator);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(dst, src, lo, mid, comparator);
+        mergeSort(dst, src, mid, hi, comparator);
+        merge(src, dst, lo, mid, hi, comparator);
+    }
+
+    /**
+     * Merges the sorted runs src[lo, mid) and src[mid, hi) into dst[lo, hi).
+     * Ties take from the left run, which keeps the sort stable.
+     */
+    private static void merge(Object[] src, Object[] dst, int lo, int mid, int hi, Comparator<?> comparator) {
+        // Already in order: copy straight across
+        if (compare(comparator, src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, lo, dst, lo, hi - lo);
+            return;
+        }
+        int i = lo, j = mid;
+        for (int k = lo; k < hi; k++) {
+            if (j >= hi || (i < mid && compare(comparator, src[i], src[j]) <= 0)) {
+                dst[k] = src[i++];
+            } else {
+                dst[k] = src[j++];
+            }
+        }
+    }
+
+    private static void insertionSort(Object[] a, int lo, int hi, Comparator<?> comparator) {
+        for (int i = lo + 1; i < hi; i++) {
+            Object x = a[i];
+            int j = i - 1;
+            while (j >= lo && compare(comparator, a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    /**
+     * Fork/join merge sort: sorts both halves as separate tasks, then merges.
+     */
+    private static final class ParallelMergeSort extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] src;
+        private final Object[] dst;
+        private final int lo;
+        private final int hi;
+        private final Comparator<?> comparator;
+
+        ParallelMergeSort(Object[] src, Object[] dst, int lo, int hi, Comparator<?> comparator) {
+            this.src = src;
+            this.dst = dst;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+        }
+
+        // Sorts src[lo, hi) into dst[lo, hi), as mergeSort does
+        @Override
+        protected void compute() {
+            if (hi - lo <= MIN_PARALLEL_SLICE) {
+                mergeSort(src, dst, lo, hi, comparator);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParallelMergeSort(dst, src, lo, mid, comparator),
+                      new ParallelMergeSort(dst, src, mid, hi, comparator));
+            merge(src, dst, lo, mid, hi, comparator);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Comparator comparator, Object a, Object b) {
+        return comparator.compare(a, b);
+    }
+}
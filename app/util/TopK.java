@@ -0,0 +1,120 @@
+/**
+ * TopK.java
+ *
+ * A bounded selection of the K largest elements for the Nkwa Real Estate
+ * Expenditure Management System, used for queries such as "the 20 biggest
+ * expenditures this quarter" without sorting every expenditure.
+ *
+ * This implementation features:
+ * - A {@link MinHeap} of at most K elements whose root is the smallest kept,
+ *   so each offered element costs O(log K) and memory stays O(K)
+ * - O(1) rejection of elements no larger than the smallest kept one
+ * - Stable results: among equal elements the earliest offered are kept and
+ *   listed first, exactly as a stable sort followed by taking K would give
+ *
+ * @param <T> The type of the elements
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import java.util.Comparator;
+
+/**
+ * TopK keeps the K largest of the elements offered to it.
+ *
+ * For the K smallest, pass a reversed comparator.
+ *
+ * @param <T> The type of the elements
+ */
+public class TopK<T> {
+    /** Maximum number of elements kept */
+    private final int k;
+
+    /** Defines "largest" */
+    private final Comparator<? super T> order;
+
+    /** Kept elements, smallest (and, among equals, latest offered) at the root */
+    private final MinHeap<Entry<T>> heap;
+
+    /** Number of elements offered so far, used to break ties */
+    private long offered;
+
+    /**
+     * An element with the order in which it was offered.
+     */
+    private static final class Entry<T> {
+        final T item;
+        final long sequence;
+
+        Entry(T item, long sequence) {
+            this.item = item;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Creates an empty selection.
+     *
+     * @param k Maximum number of elements to keep (at least 0)
+     * @param order Defines which elements are largest
+     */
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 0) throw new IllegalArgumentException("K must not be negative: " + k);
+        this.k = k;
+        this.order = order;
+        // Later elements count as smaller among equals, so they are evicted first
+        this.heap = new MinHeap<>((a, b) -> {
+            int c = order.compare(a.item, b.item);
+            return c != 0 ? c : Long.compare(b.sequence, a.sequence);
+        });
+    }
+
+    /**
+     * Offers an element, keeping it if it is among the K largest so far.
+     *
+     * @param item The element
+     * @return true if the element was kept
+     */
+    public boolean offer(T item) {
+        long sequence = offered++;
+        if (heap.size() < k) {
+            heap.insert(new Entry<>(item, sequence));
+            return true;
+        }
+        // A later element must be strictly larger to displace an equal one
+        if (k == 0 || order.compare(item, heap.peek().item) <= 0) return false;
+        heap.replaceMin(new Entry<>(item, sequence));
+        return true;
+    }
+
+    /** @return Number of elements kept */
+    public int size() {
+        return heap.size();
+    }
+
+    /** @return Number of elements offered so far */
+    public long getOffered() {
+        return offered;
+    }
+
+    /**
+     * Removes the kept elements and returns them largest first; equal
+     * elements are listed in the order they were offered.
+     *
+     * @return The kept elements
+     */
+    public SimpleArrayList<T> drain() {
+        int n = heap.size();
+        Object[] items = new Object[n];
+        for (int i = n - 1; i >= 0; i--) items[i] = heap.removeMin().item;
+        SimpleArrayList<T> result = new SimpleArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) items[i];
+            result.add(item);
+        }
+        return result;
+    }
+}
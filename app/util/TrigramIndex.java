@@ -0,0 +1,206 @@
+/**
+ * TrigramIndex.java
+ *
+ * An approximate string matcher for the Nkwa Real Estate Expenditure
+ * Management System. It finds the words of a vocabulary that are within a
+ * small edit distance of a misspelled word, such as "cement" for "cemment".
+ *
+ * This implementation features:
+ * - An inverted index from each trigram (three-character slice of a word,
+ *   padded with '$' at both ends) to the words containing it
+ * - Candidate generation by counting shared trigrams, so only words that
+ *   share enough of the query's trigrams are compared at all
+ * - Verification by a bounded edit distance that also counts swapping two
+ *   adjacent letters as one edit ("cmeent"), stopping as soon as the bound
+ *   is exceeded
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+/**
+ * TrigramIndex holds a vocabulary of distinct words and answers
+ * "which words are within distance d of this one" queries.
+ *
+ * An insertion, deletion or substitution changes at most three trigrams and
+ * an adjacent swap at most four ("sand" and "snad" share none), so a word
+ * within distance d of a query with n trigrams shares at least n - 4d of
+ * them. Words sharing fewer are never compared. Only when n - 4d is not
+ * positive (a short query with a generous bound) is every word of a similar
+ * length compared. Words are compared exactly as given; callers normalize case.
+ *
+ * The class is not thread-safe; callers synchronize externally.
+ */
+public class TrigramIndex {
+    /** Marks the start and end of a word, so short words still have trigrams */
+    private static final char PAD = '$';
+
+    /** Words by ID */
+    private final SimpleArrayList<String> words = new SimpleArrayList<>();
+
+    /** ID of each word */
+    private final ObjectIntHashMap<String> ids = new ObjectIntHashMap<>();
+
+    /** IDs of the words containing each trigram, in ascending order */
+    private final SimpleMap<String, IntArrayList> grams = new SimpleMap<>();
+
+    /**
+     * A vocabulary word close to a query.
+     */
+    public static final class Match {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        /** @return The vocabulary word */
+        public String getWord() { return word; }
+
+        /** @return Its edit distance from the query */
+        public int getDistance() { return distance; }
+    }
+
+    /**
+     * Adds a word to the vocabulary; words already present are ignored.
+     *
+     * @param word The word (not null or empty)
+     * @return true if the word was new
+     */
+    public boolean add(String word) {
+        if (ids.containsKey(word)) return false;
+        int id = words.size();
+        words.add(word);
+        ids.put(word, id);
+        SimpleArrayList<String> wordGrams = trigrams(word);
+        for (int i = 0; i < wordGrams.size(); i++) {
+            IntArrayList list = grams.get(wordGrams.get(i));
+            if (list == null) {
+                list = new IntArrayList();
+                grams.put(wordGrams.get(i), list);
+            }
+            list.add(id);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the vocabulary words within an edit distance of a query.
+     *
+     * @param query The word to look up
+     * @param maxDistance Maximum number of edits (insertions, deletions,
+     *                    substitutions or adjacent swaps)
+     * @return The matching words, closest first, then in the order they were added
+     */
+    public SimpleArrayList<Match> search(String query, int maxDistance) {
+        SimpleArrayList<Match> matches = new SimpleArrayList<>();
+        if (query == null || query.isEmpty()) return matches;
+        SimpleArrayList<String> queryGrams = trigrams(query);
+        int minShared = queryGrams.size() - 4 * maxDistance;
+        if (minShared <= 0) {
+            // Too few trigrams to filter on: compare every word of a similar length
+            for (int id = 0; id < words.size(); id++) verify(query, words.get(id), maxDistance, matches);
+            SortEngine.sort(matches, (a, b) -> Integer.compare(a.distance, b.distance));
+            return matches;
+        }
+
+        // Count the trigrams each word shares with the query
+        int[] shared = new int[words.size()];
+        IntArrayList candidates = new IntArrayList();
+        for (int i = 0; i < queryGrams.size(); i++) {
+            IntArrayList list = grams.get(queryGrams.get(i));
+            if (list == null) continue;
+            for (int j = 0; j < list.size(); j++) {
+                int id = list.get(j);
+                if (shared[id]++ == 0) candidates.add(id);
+            }
+        }
+
+        candidates.sort();
+        for (int i = 0; i < candidates.size(); i++) {
+            int id = candidates.get(i);
+            if (shared[id] >= minShared) verify(query, words.get(id), maxDistance, matches);
+        }
+        SortEngine.sort(matches, (a, b) -> Integer.compare(a.distance, b.distance));
+        return matches;
+    }
+
+    // Adds the word to matches if it is within maxDistance of the query
+    private static void verify(String query, String word, int maxDistance, SimpleArrayList<Match> matches) {
+        if (Math.abs(word.length() - query.length()) > maxDistance) return;
+        int distance = distance(query, word, maxDistance);
+        if (distance <= maxDistance) matches.add(new Match(word, distance));
+    }
+
+    /** @return Number of words in the vocabulary */
+    public int size() {
+        return words.size();
+    }
+
+    /**
+     * A sensible edit bound for a query of the given length: exact for one or
+     * two letters, one edit up to five letters, two edits beyond.
+     *
+     * @param length Length of the query word
+     * @return The maximum distance to search with
+     */
+    public static int maxDistanceFor(int length) {
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Edit distance between two strings, counting an insertion, deletion,
+     * substitution or swap of two adjacent characters as one edit.
+     *
+     * @param a The first string
+     * @param b The second string
+     * @param max Stop once the distance is known to exceed this
+     * @return The distance, or max + 1 if it exceeds max
+     */
+    public static int distance(String a, String b, int max) {
+        int n = a.length(), m = b.length();
+        if (Math.abs(n - m) > max) return max + 1;
+        int[] before = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) previous[j] = j;
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, before[j - 2] + 1);
+                }
+                current[j] = d;
+                if (d < rowMin) rowMin = d;
+            }
+            if (rowMin > max) return max + 1;
+            int[] t = before;
+            before = previous;
+            previous = current;
+            current = t;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+
+    /**
+     * The distinct trigrams of a word padded with one PAD at each end:
+     * "sand" gives "$sa", "san", "and", "nd$".
+     */
+    private static SimpleArrayList<String> trigrams(String word) {
+        String padded = PAD + word + PAD;
+        SimpleArrayList<String> result = new SimpleArrayList<>(Math.max(1, padded.length() - 2));
+        SimpleSet<String> seen = new SimpleSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            String gram = padded.substring(i, i + 3);
+            if (seen.add(gram)) result.add(gram);
+        }
+        return result;
+    }
+}
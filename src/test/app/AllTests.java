@@ -0,0 +1,57 @@
+/**
+ * AllTests.java
+ *
+ * Runs every unit test of the Nkwa Real Estate Expenditure Management System.
+ *
+ * Compile and run from the project root:
+ *   javac -d bin $(find app -name "*.java")
+ *   javac -d bin-test -cp bin $(find src/test -name "*.java")
+ *   java -cp bin:bin-test app.AllTests
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app;
+
+/**
+ * AllTests calls each test class in turn and exits with status 1 if any test failed.
+ */
+public class AllTests {
+    public static void main(String[] args) throws Exception {
+        app.modules.ExpenditureJournalTest.run();
+        app.modules.ParallelExpenditureLoaderTest.run();
+        app.modules.FileManagerTest.run();
+        app.util.FieldTokenizerTest.run();
+        app.modules.SnapshotStoreTest.run();
+        app.modules.ExpenditureManagerTest.run();
+        app.modules.GroupCommitterTest.run();
+        app.modules.PersistenceWorkerTest.run();
+        app.modules.XpenseSystemTest.run();
+        app.util.CaseInsensitiveMapTest.run();
+        app.modules.CategoryManagerTest.run();
+        app.util.SimpleMapTest.run();
+        app.util.SimpleSetTest.run();
+        app.util.SimpleQueueTest.run();
+        app.util.SimpleArrayListTest.run();
+        app.util.IndexedMinHeapTest.run();
+        app.modules.AlertSystemTest.run();
+        app.util.ObjectIntHashMapTest.run();
+        app.util.IntArrayListTest.run();
+        app.util.PrimitiveSortTest.run();
+        app.modules.AnalyticsModuleTest.run();
+        app.util.SortEngineTest.run();
+        app.util.OrderedIndexTest.run();
+        app.modules.ExpenditureIndexTest.run();
+        app.modules.ExpenditureQueryTest.run();
+        app.util.PostingListTest.run();
+        app.modules.TextIndexTest.run();
+        app.util.TrigramIndexTest.run();
+        app.util.TopKTest.run();
+        app.modules.SearchAndSortModuleTest.run();
+        app.util.PagerTest.run();
+
+        System.out.println(TestSupport.passed() + " passed, " + TestSupport.failed() + " failed");
+        System.exit(TestSupport.failed() == 0 ? 0 : 1);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * TestSupport.java
+ *
+ * Minimal assertion helpers for the unit tests of the Nkwa Real Estate
+ * Expenditure Management System. The project only uses the Java standard
+ * library, so the tests run as plain main programs instead of under JUnit.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Objects;
+
+/**
+ * TestSupport runs named test cases and counts the ones that fail.
+ *
+ * A test case is any code that may throw; a failed check throws an
+ * AssertionError carrying its message, which is reported with the case name.
+ */
+public final class TestSupport {
+    /** A test case body */
+    public interface TestCase {
+        void run() throws Exception;
+    }
+
+    private static int passed;
+    private static int failed;
+
+    private TestSupport() {}
+
+    /**
+     * Runs one test case and reports it if it fails.
+     *
+     * @param name Name shown in the report
+     * @param test The test case
+     */
+    public static void test(String name, TestCase test) {
+        try {
+            test.run();
+            passed++;
+        } catch (Throwable t) {
+            failed++;
+            System.out.println("FAIL " + name + ": " + t);
+        }
+    }
+
+    /** Fails the current test case unless the condition holds. */
+    public static void check(boolean condition, String message) {
+        if (!condition) throw new AssertionError(message);
+    }
+
+    /** Fails the current test case unless the values are equal. */
+    public static void checkEquals(Object expected, Object actual, String message) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(message + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+
+    /** Fails the current test case unless the code throws the given exception type. */
+    public static void checkThrows(Class<? extends Throwable> type, TestCase code, String message) {
+        try {
+            code.run();
+        } catch (Throwable t) {
+            if (type.isInstance(t)) return;
+            throw new AssertionError(message + ": threw " + t);
+        }
+        throw new AssertionError(message + ": nothing thrown");
+    }
+
+    /**
+     * Creates an empty directory for a test's data files.
+     *
+     * @return The directory path with a trailing separator
+     */
+    public static String tempDir() throws IOException {
+        File dir = Files.createTempDirectory("xpense-test").toFile();
+        dir.deleteOnExit();
+        return dir.getPath() + File.separator;
+    }
+
+    /** @return Number of test cases that passed */
+    public static int passed() { return passed; }
+
+    /** @return Number of test cases that failed */
+    public static int failed() { return failed; }
+}
@@ -0,0 +1,73 @@
+/**
+ * AlertSystemTest.java
+ *
+ * Unit tests for the prioritized AlertSystem.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+public class AlertSystemTest {
+    // Runs displayAllAlerts with its output captured; returns the mark
+    static long display(AlertSystem alerts, StringBuilder output) {
+        PrintStream original = System.out;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buffer, true));
+        try {
+            return alerts.displayAllAlerts();
+        } finally {
+            System.setOut(original);
+            output.append(buffer.toString());
+        }
+    }
+
+    public static void run() {
+        test("alerts: taken by priority, then in the order raised", () -> {
+            AlertSystem alerts = new AlertSystem(100, 1000);
+            alerts.addAlert("low B", 2);
+            alerts.addAlert("urgent", 1);
+            alerts.addAlert("low C", 2);
+            check(alerts.checkLowFunds("ACC001", 50), "low funds detected");
+            check(!alerts.checkLowFunds("ACC002", 500), "sufficient funds");
+            checkEquals(4, alerts.getAlertCount(), "count");
+            checkEquals("urgent", alerts.getNextAlert(), "first");
+            checkEquals("Account ACC001 is low on funds: GHc 50.0", alerts.getNextAlert(), "second");
+            checkEquals("low B", alerts.getNextAlert(), "third");
+            checkEquals("low C", alerts.getNextAlert(), "fourth");
+            check(!alerts.hasAlerts(), "empty");
+            checkEquals(null, alerts.getNextAlert(), "none left");
+        });
+
+        test("alerts: display keeps alerts active", () -> {
+            AlertSystem alerts = new AlertSystem(100, 1000);
+            StringBuilder output = new StringBuilder();
+            display(alerts, output);
+            check(output.toString().contains("No active alerts."), "empty display");
+            alerts.addAlert("second", 2);
+            alerts.addAlert("first", 1);
+            display(alerts, output);
+            String text = output.toString();
+            check(text.indexOf("first") < text.indexOf("second"), "priority order");
+            checkEquals(2, alerts.getAlertCount(), "still active");
+        });
+
+        test("alerts: dismissing keeps alerts raised after the display", () -> {
+            AlertSystem alerts = new AlertSystem(100, 1000);
+            alerts.addAlert("shown", 1);
+            alerts.addAlert("also shown", 3);
+            long mark = display(alerts, new StringBuilder());
+            alerts.addAlert("raised later", 2);
+            checkEquals(2, alerts.dismissAlerts(mark), "dismissed");
+            checkEquals(1, alerts.getAlertCount(), "left");
+            checkEquals("raised later", alerts.getNextAlert(), "later alert kept");
+            checkEquals(0, alerts.dismissAlerts(mark), "nothing left to dismiss");
+        });
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * AnalyticsModuleTest.java
+ *
+ * Unit tests for the per-group totals of AnalyticsModule.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AnalyticsModuleTest {
+    static Expenditure expenditure(String amount, Category category, String phase) {
+        return new Expenditure(null, "Item", new BigDecimal(amount), category,
+                LocalDateTime.of(2025, 7, 1, 9, 30), phase, "ACC001");
+    }
+
+    public static void run() {
+        AnalyticsModule analytics = new AnalyticsModule();
+
+        test("analytics: phase counts and totals in order of first appearance", () -> {
+            SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+            list.add(expenditure("100.50", ExpenditureIndexTest.CEMENT, "foundation"));
+            list.add(expenditure("20", ExpenditureIndexTest.LABOUR, "roofing"));
+            list.add(expenditure("0.25", ExpenditureIndexTest.CEMENT, "foundation"));
+            list.add(expenditure("1.5", ExpenditureIndexTest.LABOUR, "roofing"));
+            checkEquals("=== EXPENDITURE BY PHASE ===\nfoundation: GHc 100.75 (2 expenses)\nroofing: GHc 21.5 (2 expenses)\n",
+                    analytics.generatePhaseAnalysis(list), "phase analysis");
+            checkEquals("No expenditures to analyze.", analytics.generatePhaseAnalysis(new SimpleArrayList<>()), "empty");
+        });
+
+        test("analytics: totals equal a BigDecimal sum for unusual amounts", () -> {
+            SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+            // Three decimal places and more than fifteen integer digits take the BigDecimal path
+            list.add(expenditure("0.125", ExpenditureIndexTest.CEMENT, "a"));
+            list.add(expenditure("9999999999999999.99", ExpenditureIndexTest.CEMENT, "a"));
+            list.add(expenditure("999999999999999.99", ExpenditureIndexTest.CEMENT, "a"));
+            list.add(expenditure("999999999999999.99", ExpenditureIndexTest.CEMENT, "a"));
+            list.add(expenditure("1E+2", ExpenditureIndexTest.CEMENT, "a"));
+            BigDecimal expected = BigDecimal.ZERO;
+            for (int i = 0; i < list.size(); i++) expected = expected.add(list.get(i).getAmount());
+            checkContains(analytics.generateCostAnalysis(list), "Total Expenditure: GHc " + expected + "\n");
+        });
+
+        test("analytics: the parallel path matches the sequential totals", () -> {
+            SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+            BigDecimal cement = BigDecimal.ZERO, labour = BigDecimal.ZERO;
+            for (int i = 0; i < AnalyticsModule.PARALLEL_THRESHOLD + 5000; i++) {
+                String amount = (i % 997) + "." + (i % 10) + (i % 7 == 0 ? "5" : "");
+                Category category = i % 3 == 0 ? ExpenditureIndexTest.LABOUR : ExpenditureIndexTest.CEMENT;
+                list.add(expenditure(amount, category, "p" + (i % 4)));
+                if (category == ExpenditureIndexTest.LABOUR) labour = labour.add(new BigDecimal(amount));
+                else cement = cement.add(new BigDecimal(amount));
+            }
+            String report = analytics.generateCostAnalysis(list);
+            checkContains(report, "  Cement: GHc " + cement + "\n");
+            checkContains(report, "  Labour Costs: GHc " + labour + "\n");
+            checkContains(report, "Total Expenditure: GHc " + cement.add(labour) + "\n");
+            check(report.indexOf("Labour Costs") < report.indexOf("Cement:"), "first appearance order");
+        });
+    }
+
+    static void checkContains(String text, String expected) {
+        check(text.contains(expected), "expected <" + expected.trim() + "> in\n" + text);
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * CategoryManagerTest.java
+ *
+ * Unit tests for category registration and case-insensitive resolution.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+public class CategoryManagerTest {
+    public static void run() {
+        test("categories: names resolve to one instance ignoring case", () -> {
+            CategoryManager manager = new CategoryManager();
+            Category cement = new Category("CAT1", "Cement", "Building cement", "grey");
+            check(manager.addCategory(cement), "add");
+            check(manager.getCategory("CEMENT") == cement, "canonical instance");
+            check(manager.validateCategory("cement"), "validate");
+            check(!manager.addCategory(new Category("CAT2", "cement", "Duplicate", "red")), "duplicate refused");
+            checkEquals(1, manager.getAllCategories().size(), "one category");
+            checkEquals(null, manager.getCategory("Sand"), "unknown");
+        });
+
+        test("categories: expenditures are filed under the registered name", () -> {
+            CategoryManager manager = new CategoryManager();
+            manager.addCategory(new Category("CAT1", "Cement", "Building cement", "grey"));
+            long version = manager.getVersion();
+            check(manager.addExpenditureToCategory("CEMENT", ExpenditureJournalTest.expenditure("EXP1", "5.00")), "filed");
+            check(!manager.addExpenditureToCategory("Sand", ExpenditureJournalTest.expenditure("EXP2", "5.00")), "unknown category");
+            checkEquals(version, manager.getVersion(), "filing does not dirty categories.txt");
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * ExpenditureIndexTest.java
+ *
+ * Unit tests for the secondary indexes of ExpenditureIndex.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ExpenditureIndexTest {
+    static final Category CEMENT = new Category("CAT1", "Cement", "Building cement", "grey");
+    static final Category LABOUR = new Category("CAT2", "Labour Costs", "Wages", "blue");
+
+    static Expenditure expenditure(String id, String amount, Category category, int day, String phase, String account) {
+        return new Expenditure(id, "Item " + id, new BigDecimal(amount), category,
+                LocalDateTime.of(2025, 7, day, 9, 30), phase, account);
+    }
+
+    // Five expenditures, deliberately out of date and amount order
+    static SimpleArrayList<Expenditure> sample() {
+        SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+        list.add(expenditure("EXP1", "300.00", CEMENT, 5, "foundation", "ACC001"));
+        list.add(expenditure("EXP2", "100.00", LABOUR, 1, "foundation", "ACC002"));
+        list.add(expenditure("EXP3", "250.00", CEMENT, 3, "roofing", "ACC001"));
+        list.add(expenditure("EXP4", "100.00", LABOUR, 9, "roofing", "ACC001"));
+        list.add(expenditure("EXP5", "999.99", CEMENT, 2, "finishing", "ACC003"));
+        return list;
+    }
+
+    static String ids(SimpleArrayList<Expenditure> list) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < list.size(); i++) sb.append(i == 0 ? "" : ",").append(list.get(i).getId());
+        return sb.toString();
+    }
+
+    public static void run() {
+        test("expenditure index: hash lookups ignore case and keep list order", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            checkEquals("EXP1,EXP3,EXP5", ids(index.findByCategory("cement")), "category");
+            checkEquals("EXP1,EXP3,EXP4", ids(index.findByBankAccount("acc001")), "account");
+            checkEquals("EXP3,EXP4", ids(index.findByPhase("ROOFING")), "phase");
+            checkEquals("", ids(index.findByCategory("Paint")), "unknown category");
+        });
+
+        test("expenditure index: date and amount ranges return list order", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            checkEquals("EXP3,EXP5", ids(index.findByDateRange(LocalDate.of(2025, 7, 2), LocalDate.of(2025, 7, 3))),
+                    "date range is inclusive of both days");
+            checkEquals("", ids(index.findByDateRange(LocalDate.of(2025, 7, 3), LocalDate.of(2025, 7, 2))),
+                    "reversed dates");
+            checkEquals("EXP2,EXP3,EXP4", ids(index.findByAmountRange(new BigDecimal("100"), new BigDecimal("250.00"))),
+                    "amount range compares by value");
+            checkEquals("", ids(index.findByAmountRange(new BigDecimal("5"), new BigDecimal("1"))), "reversed amounts");
+        });
+
+        test("expenditure index: add indexes appended records", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            list.add(expenditure("EXP6", "50.00", CEMENT, 1, "roofing", null));
+            index.add(list.size() - 1);
+            checkEquals("EXP1,EXP3,EXP5,EXP6", ids(index.findByCategory("Cement")), "category");
+            checkEquals("EXP2,EXP6", ids(index.findByDateRange(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 1))),
+                    "date");
+            checkEquals("EXP1,EXP3,EXP4", ids(index.findByBankAccount("ACC001")), "no account is not indexed");
+        });
+
+        test("expenditure index: fuzzy category lookup tolerates misspellings", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            checkEquals("EXP1,EXP3,EXP5", ids(index.findByCategoryFuzzy("cemment")), "insertion");
+            checkEquals("EXP2,EXP4", ids(index.findByCategoryFuzzy("labor")), "one word of the name");
+            checkEquals("EXP2,EXP4", ids(index.findByCategoryFuzzy("cotss")), "swap");
+            checkEquals("EXP1,EXP2,EXP3,EXP4,EXP5", ids(index.findByCategoryFuzzy("cement labour")), "either word");
+            checkEquals("", ids(index.findByCategoryFuzzy("steel")), "no close word");
+        });
+    }
+}
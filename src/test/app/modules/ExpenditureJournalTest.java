@@ -0,0 +1,138 @@
+/**
+ * ExpenditureJournalTest.java
+ *
+ * Unit tests for the expenditure journal and the journal mark stored in
+ * accounts.txt.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.io.FileOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+
+public class ExpenditureJournalTest {
+    private static final Category CEMENT = new Category("CAT1", "Cement", "Building cement", "grey");
+
+    static Expenditure expenditure(String id, String amount) {
+        return new Expenditure(id, "Bags of cement", new BigDecimal(amount), CEMENT,
+                LocalDateTime.of(2025, 7, 1, 9, 30), "active", "ACC001");
+    }
+
+    public static void run() {
+        FileManager fileManager = new FileManager();
+
+        test("journal: appended records are replayed in order", () -> {
+            String file = tempDir() + "expenditures.journal";
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, file);
+            check(journal.append(expenditure("EXP1", "10.00")), "append");
+            SimpleArrayList<Expenditure> batch = new SimpleArrayList<>();
+            batch.add(expenditure("EXP2", "20.00"));
+            batch.add(expenditure("EXP3", "30.00"));
+            check(journal.appendAll(batch), "appendAll");
+            journal.close();
+
+            ExpenditureJournal reopened = new ExpenditureJournal(fileManager, file);
+            SimpleArrayList<Expenditure> records = reopened.replay();
+            checkEquals(3, records.size(), "record count");
+            checkEquals("EXP3", records.get(2).getId(), "last record");
+            checkEquals(new BigDecimal("20.00"), records.get(1).getAmount(), "amount");
+            checkEquals(3, reopened.getPendingRecords(), "pending records");
+            checkEquals(journal.getGeneration(), reopened.getGeneration(), "generation from header");
+        });
+
+        test("journal: a torn last record is cut off", () -> {
+            String file = tempDir() + "expenditures.journal";
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, file);
+            journal.append(expenditure("EXP1", "10.00"));
+            journal.close();
+            try (FileOutputStream out = new FileOutputStream(file, true)) {
+                out.write("EXP2|Bags of ce".getBytes(StandardCharsets.UTF_8));
+            }
+            long complete = Files.size(Paths.get(file)) - "EXP2|Bags of ce".length();
+
+            SimpleArrayList<Expenditure> records = new ExpenditureJournal(fileManager, file).replay();
+            checkEquals(1, records.size(), "complete records");
+            checkEquals(complete, Files.size(Paths.get(file)), "file size after replay");
+        });
+
+        test("journal: a missing journal replays nothing", () -> {
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, tempDir() + "expenditures.journal");
+            checkEquals(0, journal.replay().size(), "records");
+        });
+
+        test("journal: truncate starts a new generation", () -> {
+            String file = tempDir() + "expenditures.journal";
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, file);
+            journal.append(expenditure("EXP1", "10.00"));
+            ExpenditureJournal.Mark before = journal.mark();
+            checkEquals(1, before.getRecords(), "records in mark");
+            check(journal.truncate(), "truncate");
+            check(journal.getGeneration() > before.getGeneration(), "generation advances");
+            checkEquals(0, journal.getPendingRecords(), "pending after truncate");
+
+            journal.append(expenditure("EXP2", "20.00"));
+            journal.close();
+            ExpenditureJournal reopened = new ExpenditureJournal(fileManager, file);
+            checkEquals(1, reopened.replay().size(), "records after truncate");
+            checkEquals(journal.getGeneration(), reopened.getGeneration(), "new generation in header");
+        });
+
+        test("journal: a journal without a header is given one", () -> {
+            String file = tempDir() + "expenditures.journal";
+            Files.write(Paths.get(file), (fileManager.formatExpenditure(expenditure("EXP1", "10.00")) + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, file);
+            checkEquals(1, journal.replay().size(), "legacy record");
+            ExpenditureJournal reopened = new ExpenditureJournal(fileManager, file);
+            checkEquals(1, reopened.replay().size(), "record after rewrite");
+            checkEquals(journal.getGeneration(), reopened.getGeneration(), "generation kept");
+        });
+
+        test("journal: an unreadable journal is reported", () -> {
+            String dir = tempDir();
+            // A directory in place of the journal file cannot be read
+            Files.createDirectory(Paths.get(dir + "expenditures.journal"));
+            ExpenditureJournal journal = new ExpenditureJournal(fileManager, dir + "expenditures.journal");
+            checkThrows(java.io.IOException.class, journal::replay, "replay");
+        });
+
+        test("journal mark: written with the accounts and read back", () -> {
+            String file = tempDir() + "accounts.txt";
+            SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
+            accounts.add(new BankAccount("ACC001", "Main", new BigDecimal("500.00")));
+            check(fileManager.saveAccounts(accounts, new ExpenditureJournal.Mark(42L, 7), file), "save");
+            ExpenditureJournal.Mark mark = fileManager.loadJournalMark(file);
+            checkEquals(42L, mark.getGeneration(), "generation");
+            checkEquals(7, mark.getRecords(), "records");
+            SimpleArrayList<BankAccount> loaded = fileManager.loadAccounts(file);
+            checkEquals(1, loaded.size(), "mark line is not an account");
+            checkEquals(new BigDecimal("500.00"), loaded.get(0).getBalance(), "balance");
+        });
+
+        test("journal mark: absent from files written without one", () -> {
+            String file = tempDir() + "accounts.txt";
+            SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
+            accounts.add(new BankAccount("ACC001", "Main", new BigDecimal("500.00")));
+            fileManager.saveAccounts(accounts, file);
+            checkEquals(null, fileManager.loadJournalMark(file), "mark");
+            checkEquals(null, fileManager.loadJournalMark(tempDir() + "accounts.txt"), "missing file");
+        });
+
+        test("journal mark: an unreadable accounts file is reported", () -> {
+            String dir = tempDir();
+            // A directory in place of accounts.txt cannot be read
+            Files.createDirectory(Paths.get(dir + "accounts.txt"));
+            checkThrows(java.io.IOException.class, () -> fileManager.loadJournalMark(dir + "accounts.txt"), "load");
+        });
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * ExpenditureManagerTest.java
+ *
+ * Unit tests for the expenditure manager's dirty tracking and ID handling.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+
+public class ExpenditureManagerTest {
+    static ExpenditureManager managerWith(int count) {
+        ExpenditureManager manager = new ExpenditureManager();
+        SimpleArrayList<Expenditure> loaded = new SimpleArrayList<>();
+        for (int i = 0; i < count; i++) loaded.add(ExpenditureJournalTest.expenditure("EXP" + (1000 + i), (i + 1) + ".00"));
+        manager.loadExpenditures(loaded);
+        return manager;
+    }
+
+    public static void run() {
+        test("dirty tracking: a loaded and persisted manager is clean", () -> {
+            ExpenditureManager manager = managerWith(5);
+            manager.markPersisted();
+            checkEquals(5, manager.getPersistedCount(), "persisted");
+            checkEquals(5, manager.getFirstDirtyIndex(), "first dirty index");
+            checkEquals(0, manager.getDirtyRecordCount(), "dirty records");
+        });
+
+        test("dirty tracking: an in-place change marks only that record", () -> {
+            ExpenditureManager manager = managerWith(5);
+            manager.markPersisted();
+            long version = manager.getVersion();
+            check(manager.updateReceiptInfo("exp1002", "receipts/r.pdf"), "update by case-insensitive ID");
+            check(manager.getVersion() > version, "version bumped");
+            checkEquals(2, manager.getFirstDirtyIndex(), "first dirty index");
+            checkEquals(1, manager.getDirtyRecordCount(), "dirty records");
+            check(!manager.updateReceiptInfo("EXP9999", "x"), "unknown ID");
+        });
+
+        test("dirty tracking: new records start at the persisted count", () -> {
+            ExpenditureManager manager = managerWith(3);
+            manager.markPersisted();
+            check(manager.addExpenditure(ExpenditureJournalTest.expenditure("EXP2000", "4.00")), "add");
+            checkEquals(3, manager.getFirstDirtyIndex(), "first dirty index");
+            checkEquals(0, manager.getDirtyRecordCount(), "new records are not dirty records");
+            manager.markPersisted();
+            checkEquals(4, manager.getFirstDirtyIndex(), "clean after save");
+        });
+
+        test("IDs: duplicates are rejected ignoring case", () -> {
+            ExpenditureManager manager = managerWith(3);
+            check(!manager.addExpenditure(ExpenditureJournalTest.expenditure("exp1001", "9.00")), "duplicate in other case");
+            checkEquals(3, manager.getAllExpenditures().size(), "not added");
+            checkEquals("1.00", manager.findById("Exp1000").getAmount().toPlainString(), "original kept");
+            checkEquals(null, manager.findById("EXP1003"), "unknown ID");
+            check(manager.addExpenditure(ExpenditureJournalTest.expenditure("EXP1003", "4.00")), "new ID");
+            checkEquals(3, manager.getIndex().findByCategory("Cement").indexOf(manager.findById("EXP1003")), "indexed");
+        });
+
+        test("IDs: generated IDs skip past loaded and explicit ones", () -> {
+            ExpenditureManager manager = managerWith(3);
+            Expenditure generated = ExpenditureJournalTest.expenditure(null, "5.00");
+            check(manager.addExpenditure(generated), "add without ID");
+            int first = Integer.parseInt(generated.getId().substring(3));
+            check(first > 1002, "after the loaded IDs: " + generated.getId());
+
+            check(manager.addExpenditure(ExpenditureJournalTest.expenditure("EXP5000", "6.00")), "explicit ID");
+            Expenditure next = ExpenditureJournalTest.expenditure(" ", "7.00");
+            check(manager.addExpenditure(next), "blank ID is generated");
+            check(Integer.parseInt(next.getId().substring(3)) > 5000, "after the explicit ID: " + next.getId());
+
+            SimpleArrayList<String> ids = new SimpleArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                Expenditure e = ExpenditureJournalTest.expenditure(null, "1.00");
+                check(manager.addExpenditure(e), "add " + i);
+                checkEquals(-1, ids.indexOf(e.getId()), "unique " + e.getId());
+                ids.add(e.getId());
+            }
+        });
+
+        test("bank ledger: version counts adds, debits and direct balance changes", () -> {
+            BankLedger ledger = new BankLedger(null);
+            long start = ledger.getVersion();
+            BankAccount account = new BankAccount("ACC001", "Main", new BigDecimal("100.00"));
+            check(ledger.addAccount(account), "add");
+            long added = ledger.getVersion();
+            check(added > start, "add bumps version");
+            check(ledger.logExpenditure("ACC001", new BigDecimal("10.00"), "Sand"), "debit");
+            long debited = ledger.getVersion();
+            check(debited > added, "debit bumps version");
+            check(account.credit(new BigDecimal("5.00")), "direct credit");
+            check(ledger.getVersion() > debited, "direct credit bumps version");
+            long credited = ledger.getVersion();
+            check(!account.debit(new BigDecimal("1000.00")), "overdraft refused");
+            checkEquals(credited, ledger.getVersion(), "refused debit leaves version");
+        });
+    }
+}
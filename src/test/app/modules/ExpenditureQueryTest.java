@@ -0,0 +1,113 @@
+/**
+ * ExpenditureQueryTest.java
+ *
+ * Unit tests for composite ExpenditureQuery searches and the index planner
+ * that runs them.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+import static app.modules.ExpenditureIndexTest.ids;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class ExpenditureQueryTest {
+    static final Category[] CATEGORIES = {
+        ExpenditureIndexTest.CEMENT, ExpenditureIndexTest.LABOUR,
+        new Category("CAT3", "Paint", "Paint and primer", "white")
+    };
+    static final String[] PHASES = {"foundation", "roofing", "finishing"};
+
+    // A few hundred expenditures with repeating dates and amounts, so ties occur
+    static SimpleArrayList<Expenditure> dataset() {
+        SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            list.add(new Expenditure("EXP" + (1000 + i), "Item " + i, new BigDecimal((i * 37) % 50 + ".50"),
+                    CATEGORIES[i % 3], LocalDateTime.of(2025, 1 + (i * 7) % 6, 1 + i % 28, 9, 30),
+                    PHASES[(i / 3) % 3], "ACC00" + (1 + i % 4)));
+        }
+        return list;
+    }
+
+    static SimpleArrayList<ExpenditureQuery> queries() {
+        SimpleArrayList<ExpenditureQuery> queries = new SimpleArrayList<>();
+        LocalDate feb = LocalDate.of(2025, 2, 1), apr = LocalDate.of(2025, 4, 30);
+        BigDecimal ten = new BigDecimal("10"), thirty = new BigDecimal("30.50");
+        queries.add(ExpenditureQuery.create());
+        queries.add(ExpenditureQuery.create().category(" cement "));
+        queries.add(ExpenditureQuery.create().category("Cement").account("acc002"));
+        queries.add(ExpenditureQuery.create().phase("ROOFING").dateRange(feb, apr));
+        queries.add(ExpenditureQuery.create().amountRange(ten, thirty).sortBy(ExpenditureQuery.Sort.AMOUNT));
+        queries.add(ExpenditureQuery.create().dateRange(feb, null).sortBy(ExpenditureQuery.Sort.DATE).limit(15));
+        queries.add(ExpenditureQuery.create().account("ACC003").sortBy(ExpenditureQuery.Sort.DATE).offset(5).limit(10));
+        queries.add(ExpenditureQuery.create().sortBy(ExpenditureQuery.Sort.CATEGORY_THEN_DATE).offset(90).limit(30));
+        queries.add(ExpenditureQuery.create().category("Paint").amountRange(null, ten).sortBy(ExpenditureQuery.Sort.CATEGORY));
+        queries.add(ExpenditureQuery.create().sortBy(ExpenditureQuery.Sort.AMOUNT).offset(295).limit(10));
+        queries.add(ExpenditureQuery.create().dateRange(apr, feb));
+        queries.add(ExpenditureQuery.create().category("Steel"));
+        return queries;
+    }
+
+    public static void run() {
+        test("query: planned results equal a full scan", () -> {
+            SimpleArrayList<Expenditure> list = dataset();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            SimpleArrayList<ExpenditureQuery> queries = queries();
+            for (int i = 0; i < queries.size(); i++) {
+                ExpenditureQuery query = queries.get(i);
+                checkEquals(ids(query.scan(list)), ids(index.query(query)), query + " [" + index.explain(query) + "]");
+            }
+        });
+
+        test("query: criteria, window and sort by scan", () -> {
+            SimpleArrayList<Expenditure> list = dataset();
+            SimpleArrayList<Expenditure> all = ExpenditureQuery.create().scan(list);
+            checkEquals(300, all.size(), "no criteria match everything");
+            SimpleArrayList<Expenditure> page = ExpenditureQuery.create().offset(10).limit(3).scan(list);
+            checkEquals("EXP1010,EXP1011,EXP1012", ids(page), "window in list order");
+            SimpleArrayList<Expenditure> byAmount = ExpenditureQuery.create().sortBy(ExpenditureQuery.Sort.AMOUNT).scan(list);
+            for (int i = 1; i < byAmount.size(); i++) {
+                Expenditure a = byAmount.get(i - 1), b = byAmount.get(i);
+                int c = a.getAmount().compareTo(b.getAmount());
+                check(c < 0 || (c == 0 && a.getId().compareTo(b.getId()) < 0), "stable amount order at " + i);
+            }
+            checkEquals(0, ExpenditureQuery.create().limit(0).scan(list).size(), "limit 0");
+            checkEquals(0, ExpenditureQuery.create().amountRange(BigDecimal.TEN, BigDecimal.ONE).scan(list).size(),
+                    "empty amount range");
+        });
+
+        test("query: the planner drives from the most selective index", () -> {
+            SimpleArrayList<Expenditure> list = dataset();
+            ExpenditureIndex index = new ExpenditureIndex(list);
+            index.rebuild();
+            String plan = index.explain(ExpenditureQuery.create().category("Cement").account("ACC002"));
+            check(plan.startsWith("account index (75)"), "smallest set first: " + plan);
+            check(plan.contains("-> 25 candidates"), "intersection: " + plan);
+
+            String ordered = index.explain(ExpenditureQuery.create().sortBy(ExpenditureQuery.Sort.DATE).limit(5));
+            check(ordered.startsWith("date index in order (300)") && !ordered.contains("sort"), ordered);
+
+            checkEquals("full scan (300)", index.explain(ExpenditureQuery.create()), "no criteria");
+            checkEquals("no results (no such category)", index.explain(ExpenditureQuery.create().category("Steel")), "unknown");
+            checkEquals("no results (empty range)",
+                    index.explain(ExpenditureQuery.create().dateRange(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 2, 1))),
+                    "empty range");
+        });
+
+        test("query: SearchAndSortModule falls back to a scan without an index", () -> {
+            SimpleArrayList<Expenditure> list = dataset();
+            SearchAndSortModule module = new SearchAndSortModule();
+            ExpenditureQuery query = ExpenditureQuery.create().phase("finishing").sortBy(ExpenditureQuery.Sort.DATE).limit(7);
+            checkEquals(ids(query.scan(list)), ids(module.query(list, query)), "results");
+            checkEquals("full scan (300)", module.explain(list, ExpenditureQuery.create()), "explain");
+        });
+    }
+}
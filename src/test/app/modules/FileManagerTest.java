@@ -0,0 +1,51 @@
+/**
+ * FileManagerTest.java
+ *
+ * Unit tests for record parsing and formatting in the file manager.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import java.math.BigDecimal;
+
+public class FileManagerTest {
+    public static void run() {
+        FileManager fileManager = new FileManager();
+
+        test("file manager: a formatted record parses back", () -> {
+            Expenditure exp = ExpenditureJournalTest.expenditure("EXP7", "125.40");
+            exp.setReceiptInfo("receipts/cement.pdf");
+            Expenditure parsed = fileManager.parseExpenditure(fileManager.formatExpenditure(exp));
+            checkEquals("EXP7", parsed.getId(), "id");
+            checkEquals(new BigDecimal("125.40"), parsed.getAmount(), "amount");
+            checkEquals("Cement", parsed.getCategory().getName(), "category");
+            checkEquals("ACC001", parsed.getBankAccountId(), "account");
+            checkEquals("receipts/cement.pdf", parsed.getReceiptInfo(), "receipt");
+        });
+
+        test("file manager: the old six-field format still parses", () -> {
+            Expenditure parsed = fileManager.parseExpenditure("EXP1|Sand|40.00|2025-07-01T09:30|Sand|ACC001");
+            checkEquals("active", parsed.getPhase(), "default phase");
+            checkEquals("ACC001", parsed.getBankAccountId(), "account");
+        });
+
+        test("file manager: malformed records are rejected", () -> {
+            checkEquals(null, fileManager.parseExpenditure("EXP1|Sand|40.00"), "too few fields");
+            checkEquals(null, fileManager.parseExpenditure("EXP1|Sand|forty|2025-07-01T09:30|active|Sand|ACC001"), "bad amount");
+            checkEquals(null, fileManager.parseExpenditure("EXP1|Sand|40.00|yesterday|active|Sand|ACC001"), "bad date");
+        });
+
+        test("file manager: repeated values share one instance within a thread", () -> {
+            Expenditure a = fileManager.parseExpenditure("EXP1|Sand|40.00|2025-07-01T09:30|active|Sand|ACC001");
+            Expenditure b = fileManager.parseExpenditure("EXP2|Sand|45.00|2025-07-02T09:30|active|Sand|ACC001");
+            check(a.getCategory() == b.getCategory(), "category shared");
+            check(a.getBankAccountId() == b.getBankAccountId(), "account ID shared");
+            check(FileManager.threadContext() == FileManager.threadContext(), "context reused");
+        });
+    }
+}
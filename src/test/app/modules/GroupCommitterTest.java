@@ -0,0 +1,90 @@
+/**
+ * GroupCommitterTest.java
+ *
+ * Unit tests for group commit and the atomic file writes it flushes with.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GroupCommitterTest {
+    public static void run() {
+        test("group commit: concurrent requests share flushes", () -> {
+            AtomicInteger flushes = new AtomicInteger();
+            GroupCommitter committer = new GroupCommitter(() -> {
+                flushes.incrementAndGet();
+                return true;
+            }, 50);
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger succeeded = new AtomicInteger();
+            Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; i++) {
+                workers[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                        if (committer.commit()) succeeded.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                workers[i].start();
+            }
+            start.countDown();
+            for (Thread t : workers) t.join();
+            checkEquals(threads, succeeded.get(), "every request saved");
+            checkEquals((long) threads, committer.getRequestCount(), "requests");
+            check(flushes.get() < threads, "fewer flushes than requests: " + flushes.get());
+            checkEquals((long) flushes.get(), committer.getFlushCount(), "flush count");
+        });
+
+        test("group commit: a failed flush is reported to its callers", () -> {
+            GroupCommitter committer = new GroupCommitter(() -> false, 0);
+            check(!committer.commit(), "failure reported");
+            checkEquals(1L, committer.getFlushCount(), "flush ran");
+        });
+
+        test("atomic write: no temporary file is left behind", () -> {
+            String dir = tempDir();
+            FileManager fileManager = new FileManager();
+            SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
+            accounts.add(new BankAccount("ACC001", "Main", new BigDecimal("100.00")));
+            check(fileManager.saveAccounts(accounts, dir + "accounts.txt"), "first save");
+            accounts.get(0).credit(new BigDecimal("50.00"));
+            check(fileManager.saveAccounts(accounts, dir + "accounts.txt"), "replace");
+            check(!new File(dir + "accounts.txt.tmp").exists(), "temporary file removed");
+            checkEquals(new BigDecimal("150.00"), fileManager.loadAccounts(dir + "accounts.txt").get(0).getBalance(), "new contents");
+        });
+
+        test("atomic write: an unwritable target leaves the old file", () -> {
+            String dir = tempDir();
+            FileManager fileManager = new FileManager();
+            check(!fileManager.saveAccounts(new SimpleArrayList<>(), dir + "missing/accounts.txt"), "write fails");
+        });
+
+        test("patch: only the tail of the expenditures file is rewritten", () -> {
+            String file = tempDir() + "expenditures.txt";
+            FileManager fileManager = new FileManager();
+            SimpleArrayList<Expenditure> all = new SimpleArrayList<>();
+            for (int i = 0; i < 4; i++) all.add(ExpenditureJournalTest.expenditure("EXP" + i, "1.00"));
+            check(fileManager.saveExpenditures(all, file), "save");
+            all.add(ExpenditureJournalTest.expenditure("EXP4", "2.00"));
+            all.get(3).setReceiptInfo("receipts/r.pdf");
+            check(fileManager.patchExpenditures(all, 3, 4, file), "patch");
+            SimpleArrayList<Expenditure> loaded = fileManager.loadExpenditures(file);
+            checkEquals(5, loaded.size(), "records");
+            checkEquals("receipts/r.pdf", loaded.get(3).getReceiptInfo(), "patched record");
+            check(!fileManager.patchExpenditures(all, 0, 9, file), "count mismatch refused");
+        });
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * ParallelExpenditureLoaderTest.java
+ *
+ * Unit tests for the parallel memory-mapped expenditure loader.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelExpenditureLoaderTest {
+    public static void run() {
+        FileManager fileManager = new FileManager();
+
+        test("parallel loader: matches the sequential loader on a multi-chunk file", () -> {
+            String file = tempDir() + "expenditures.txt";
+            SimpleArrayList<Expenditure> written = new SimpleArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                written.add(ExpenditureJournalTest.expenditure("EXP" + i, i + ".50"));
+            }
+            check(fileManager.saveExpenditures(written, file), "save");
+
+            ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                ParallelExpenditureLoader loader = new ParallelExpenditureLoader(fileManager, pool);
+                SimpleArrayList<Expenditure> parallel = loader.load(file);
+                SimpleArrayList<Expenditure> sequential = fileManager.loadExpenditures(file);
+                checkEquals(5000, parallel.size(), "rows");
+                checkEquals(5000, loader.getLastRows(), "reported rows");
+                for (int i = 0; i < parallel.size(); i++) {
+                    checkEquals(sequential.get(i).getId(), parallel.get(i).getId(), "order at " + i);
+                }
+                checkEquals(new BigDecimal("4999.50"), parallel.get(4999).getAmount(), "last amount");
+            } finally {
+                pool.shutdown();
+            }
+        });
+
+        test("parallel loader: a missing file loads nothing", () -> {
+            ParallelExpenditureLoader loader = new ParallelExpenditureLoader(fileManager);
+            checkEquals(0, loader.load(tempDir() + "expenditures.txt").size(), "rows");
+        });
+    }
+}
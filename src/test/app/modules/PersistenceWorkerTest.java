@@ -0,0 +1,62 @@
+/**
+ * PersistenceWorkerTest.java
+ *
+ * Unit tests for the write-behind persistence worker.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PersistenceWorkerTest {
+    public static void run() {
+        test("write-behind: queued flushes of one store are coalesced", () -> {
+            AtomicInteger runs = new AtomicInteger();
+            PersistenceWorker worker = new PersistenceWorker("test-write-behind", 100, 200);
+            for (int i = 0; i < 10; i++) {
+                worker.submit("accounts", () -> {
+                    runs.incrementAndGet();
+                    return true;
+                });
+            }
+            check(worker.flush(), "flush succeeds");
+            check(runs.get() < 10, "fewer runs than submissions: " + runs.get());
+            checkEquals(10L, worker.getSubmittedCount() + worker.getCoalescedCount(), "every submission counted");
+            check(worker.close(), "close");
+        });
+
+        test("write-behind: a flush returning false is reported", () -> {
+            PersistenceWorker worker = new PersistenceWorker("test-write-behind", 10, 0);
+            worker.submit("accounts", () -> false);
+            check(!worker.flush(), "failure reported by flush");
+            checkEquals(1L, worker.getFailureCount(), "failure count");
+            check(worker.flush(), "reported once");
+            worker.submit("accounts", () -> { throw new IllegalStateException("disk full"); });
+            check(!worker.close(), "exception reported by close");
+        });
+
+        test("write-behind: a failure before flush() is called is still reported", () -> {
+            PersistenceWorker worker = new PersistenceWorker("test-write-behind", 10, 0);
+            worker.submit("accounts", () -> false);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (worker.getFailureCount() == 0 && System.currentTimeMillis() < deadline) Thread.sleep(5);
+            check(!worker.flush(), "earlier failure reported");
+            worker.close();
+        });
+
+        test("write-behind: tasks submitted after close run on the caller", () -> {
+            PersistenceWorker worker = new PersistenceWorker("test-write-behind", 10, 0);
+            check(worker.close(), "close");
+            AtomicInteger runs = new AtomicInteger();
+            worker.submit("accounts", () -> runs.incrementAndGet() > 0);
+            checkEquals(1, runs.get(), "ran inline");
+            worker.submit("accounts", () -> false);
+            check(!worker.flush(), "inline failure reported");
+        });
+    }
+}
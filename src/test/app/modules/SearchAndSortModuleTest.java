@@ -0,0 +1,108 @@
+/**
+ * SearchAndSortModuleTest.java
+ *
+ * Unit tests for the sorts and top-k selections of SearchAndSortModule.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+import static app.modules.ExpenditureIndexTest.ids;
+
+import app.util.SimpleArrayList;
+import app.util.SimpleMap;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public class SearchAndSortModuleTest {
+    static Expenditure expenditure(String id, String amount, String categoryName) {
+        return new Expenditure(id, "Item " + id, new BigDecimal(amount), new Category("C" + id, categoryName, "", "grey"),
+                LocalDateTime.of(2025, 7, 1, 9, 30), "active", "ACC001");
+    }
+
+    static SimpleArrayList<Expenditure> sample() {
+        SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+        list.add(expenditure("EXP1", "50.00", "Cement"));
+        list.add(expenditure("EXP2", "70.00", "paint"));
+        list.add(expenditure("EXP3", "90.00", "CEMENT"));
+        list.add(expenditure("EXP4", "50.00", "cement"));
+        list.add(expenditure("EXP5", "10.00", "Paint"));
+        list.add(expenditure("EXP6", "30.00", "Labour"));
+        return list;
+    }
+
+    public static void run() {
+        SearchAndSortModule module = new SearchAndSortModule();
+
+        test("search module: sorts are stable and leave the input untouched", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            checkEquals("EXP1,EXP3,EXP4,EXP6,EXP2,EXP5", ids(module.sortByCategoryAlphabetical(list)),
+                    "category ignoring case, ties in list order");
+            checkEquals("EXP1,EXP2,EXP3,EXP4,EXP5,EXP6", ids(list), "input unchanged");
+
+            SimpleArrayList<Expenditure> dated = new SimpleArrayList<>();
+            int[] days = {5, 3, 5, 1};
+            String[] names = {"Paint", "cement", "CEMENT", "paint"};
+            for (int i = 0; i < days.length; i++) {
+                dated.add(new Expenditure("D" + i, "Item", BigDecimal.ONE, new Category("C" + i, names[i], "", "grey"),
+                        LocalDateTime.of(2025, 7, days[i], 9, 30), "active", "ACC001"));
+            }
+            checkEquals("D3,D1,D0,D2", ids(module.sortByDateChronological(dated)), "date, ties in list order");
+            checkEquals("D1,D2,D3,D0", ids(module.sortByCategoryThenDate(dated)), "category, then date");
+            check(module.sortByDateChronological(null) == null, "null list");
+        });
+
+        test("search module: indexed searches match a scan of a copy", () -> {
+            ExpenditureManager manager = new ExpenditureManager();
+            manager.loadExpenditures(ExpenditureQueryTest.dataset());
+            SearchAndSortModule indexed = new SearchAndSortModule(manager);
+            SimpleArrayList<Expenditure> list = manager.getAllExpenditures();
+            SimpleArrayList<Expenditure> copy = new SimpleArrayList<>();
+            copy.addAll(list);
+            LocalDate from = LocalDate.of(2025, 2, 3), to = LocalDate.of(2025, 4, 17);
+            checkEquals(ids(indexed.searchByTimeRange(copy, from, to)), ids(indexed.searchByTimeRange(list, from, to)), "dates");
+            checkEquals(ids(indexed.searchByCategory(copy, "paint ")), ids(indexed.searchByCategory(list, "paint ")), "category");
+            BigDecimal min = new BigDecimal("12.5"), max = new BigDecimal("30.50");
+            checkEquals(ids(indexed.searchByCostRange(copy, min, max)), ids(indexed.searchByCostRange(list, min, max)), "amounts");
+            checkEquals(ids(indexed.searchByBankAccount(copy, "acc004")), ids(indexed.searchByBankAccount(list, "acc004")), "account");
+            checkEquals(ids(indexed.searchByPhase(copy, "Roofing")), ids(indexed.searchByPhase(list, "Roofing")), "phase");
+            check(indexed.searchByPhase(list, "roofing").size() > 0, "non-empty");
+            check(indexed.explain(list, ExpenditureQuery.create().phase("roofing")).startsWith("phase index"), "list uses the index");
+            check(indexed.explain(copy, ExpenditureQuery.create().phase("roofing")).startsWith("full scan"), "copy is scanned");
+        });
+
+        test("search module: topK and bottomK with ties in list order", () -> {
+            SimpleArrayList<Expenditure> list = sample();
+            checkEquals("EXP3,EXP2,EXP1", ids(module.topK(list, 3, SearchAndSortModule.BY_AMOUNT)), "top 3");
+            checkEquals("EXP5,EXP6,EXP1,EXP4", ids(module.bottomK(list, 4, SearchAndSortModule.BY_AMOUNT)), "bottom 4");
+            checkEquals("", ids(module.topK(list, 0, SearchAndSortModule.BY_AMOUNT)), "k of 0");
+            checkEquals("", ids(module.topK(null, 3, SearchAndSortModule.BY_AMOUNT)), "no list");
+        });
+
+        test("search module: groups ignore case and keep the first spelling", () -> {
+            SimpleMap<String, SimpleArrayList<Expenditure>> groups =
+                    module.topKByGroup(sample(), 2, SearchAndSortModule.BY_AMOUNT, e -> e.getCategory().getName());
+            checkEquals(3, groups.size(), "groups");
+            checkEquals("Cement", groups.getKeyAt(0), "first group");
+            checkEquals("paint", groups.getKeyAt(1), "second group");
+            checkEquals("Labour", groups.getKeyAt(2), "third group");
+            checkEquals("EXP3,EXP1", ids(groups.get("Cement")), "top 2 cement");
+            checkEquals("EXP2,EXP5", ids(groups.get("paint")), "paint");
+
+            SimpleMap<String, SimpleArrayList<Expenditure>> bottom =
+                    module.bottomKByGroup(sample(), 1, SearchAndSortModule.BY_AMOUNT, e -> e.getCategory().getName());
+            checkEquals("EXP1", ids(bottom.get("Cement")), "bottom 1 cement, earliest of the ties");
+        });
+
+        test("search module: records without a group name share one group", () -> {
+            SimpleMap<String, SimpleArrayList<Expenditure>> groups =
+                    module.topKByGroup(sample(), 10, SearchAndSortModule.BY_AMOUNT, e -> e.getBankAccountId().equals("ACC001") ? null : "x");
+            checkEquals(1, groups.size(), "one group");
+            checkEquals(6, groups.get("(none)").size(), "all members");
+        });
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * SnapshotStoreTest.java
+ *
+ * Unit tests for the binary columnar snapshot.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+public class SnapshotStoreTest {
+    public static void run() {
+        test("snapshot: round trip of all four stores", () -> {
+            String dir = tempDir();
+            Files.write(Paths.get(dir + "accounts.txt"), "ACC001|Main|500.00\n".getBytes());
+            SnapshotStore store = new SnapshotStore(dir + "xpense.snapshot", dir + "accounts.txt");
+            check(!store.exists() && !store.isUpToDate(), "no snapshot yet");
+            checkEquals(null, store.read(), "read without snapshot");
+
+            SimpleArrayList<Category> categories = new SimpleArrayList<>();
+            categories.add(new Category("CAT1", "Cement", "Building cement", "grey"));
+            SimpleArrayList<BankAccount> accounts = new SimpleArrayList<>();
+            accounts.add(new BankAccount("ACC001", "Main", new BigDecimal("500.00")));
+            SimpleArrayList<Expenditure> expenditures = new SimpleArrayList<>();
+            Expenditure exp = ExpenditureJournalTest.expenditure("EXP1", "75.25");
+            exp.setReceiptInfo("receipts/one.pdf");
+            expenditures.add(exp);
+            expenditures.add(ExpenditureJournalTest.expenditure("EXP2", "10.00"));
+            SimpleArrayList<Receipt> receipts = new SimpleArrayList<>();
+            receipts.add(new Receipt("RCT1", "EXP1", "receipts/one.pdf", LocalDateTime.of(2025, 7, 1, 10, 0)));
+            check(store.write(new SnapshotStore.Contents(categories, accounts, expenditures, receipts)), "write");
+            check(store.isUpToDate(), "up to date after write");
+
+            SnapshotStore.Contents read = store.read();
+            checkEquals("Cement", read.categories.get(0).getName(), "category");
+            checkEquals(new BigDecimal("500.00"), read.accounts.get(0).getBalance(), "balance");
+            checkEquals(2, read.expenditures.size(), "expenditures");
+            checkEquals(new BigDecimal("75.25"), read.expenditures.get(0).getAmount(), "amount");
+            checkEquals("receipts/one.pdf", read.expenditures.get(0).getReceiptInfo(), "receipt info");
+            checkEquals("Cement", read.expenditures.get(1).getCategory().getName(), "category name");
+            checkEquals("EXP1", read.receipts.get(0).getExpenseCode(), "receipt");
+        });
+
+        test("snapshot: stale once a source file changes", () -> {
+            String dir = tempDir();
+            Files.write(Paths.get(dir + "accounts.txt"), "ACC001|Main|500.00\n".getBytes());
+            SnapshotStore store = new SnapshotStore(dir + "xpense.snapshot", dir + "accounts.txt");
+            store.write(new SnapshotStore.Contents(new SimpleArrayList<>(), new SimpleArrayList<>(),
+                    new SimpleArrayList<>(), new SimpleArrayList<>()));
+            check(store.isUpToDate(), "up to date");
+            Files.write(Paths.get(dir + "accounts.txt"), "ACC002|Site|10.00\n".getBytes(), StandardOpenOption.APPEND);
+            check(!store.isUpToDate(), "stale after change");
+        });
+
+        test("snapshot: a corrupt file is not loaded", () -> {
+            String dir = tempDir();
+            Files.write(Paths.get(dir + "xpense.snapshot"), new byte[] { 1, 2, 3 });
+            SnapshotStore store = new SnapshotStore(dir + "xpense.snapshot");
+            check(!store.isUpToDate(), "not up to date");
+            checkEquals(null, store.read(), "read");
+        });
+    }
+}
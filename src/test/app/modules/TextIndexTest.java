@@ -0,0 +1,88 @@
+/**
+ * TextIndexTest.java
+ *
+ * Unit tests for the ranked full-text TextIndex.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+import static app.modules.ExpenditureIndexTest.ids;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TextIndexTest {
+    static Expenditure described(String id, String description) {
+        return new Expenditure(id, description, new BigDecimal("10.00"), ExpenditureIndexTest.CEMENT,
+                LocalDateTime.of(2025, 7, 1, 9, 30), "active", "ACC001");
+    }
+
+    static SimpleArrayList<Expenditure> sample() {
+        SimpleArrayList<Expenditure> list = new SimpleArrayList<>();
+        list.add(described("EXP1", "Dangote cement delivery"));
+        list.add(described("EXP2", "Cement, cement and more cement for the slab"));
+        list.add(described("EXP3", "Roofing sheets delivery"));
+        list.add(described("EXP4", "Invoice 2025-03 for labour"));
+        list.add(described("EXP5", "Paint"));
+        return list;
+    }
+
+    public static void run() {
+        test("text index: tokenize lower-cases words of letters and digits", () -> {
+            SimpleArrayList<String> words = TextIndex.tokenize("Invoice#2025-03, CEMENT bags");
+            checkEquals("invoice,2025,03,cement,bags", String.join(",", words), "words");
+            checkEquals(0, TextIndex.tokenize(null).size(), "null text");
+        });
+
+        test("text index: ALL and ANY modes, ranked by relevance", () -> {
+            TextIndex index = new TextIndex(sample());
+            index.rebuild();
+            checkEquals("EXP2,EXP1", ids(index.search("cement", TextIndex.Mode.ALL, 0)), "more occurrences rank higher");
+            checkEquals("EXP1", ids(index.search("CEMENT delivery", TextIndex.Mode.ALL, 0)), "all words");
+            checkEquals("EXP1,EXP2,EXP3", ids(index.search("cement delivery", TextIndex.Mode.ANY, 0)),
+                    "matching both words ranks first");
+            checkEquals("EXP1", ids(index.search("cement delivery", TextIndex.Mode.ANY, 1)), "limit");
+            checkEquals("", ids(index.search("steel", TextIndex.Mode.ANY, 0)), "unknown word");
+            checkEquals("", ids(index.search("  ", TextIndex.Mode.ALL, 0)), "no words");
+        });
+
+        test("text index: prefix terms match every word starting with them", () -> {
+            TextIndex index = new TextIndex(sample());
+            index.rebuild();
+            checkEquals("EXP4", ids(index.search("inv*", TextIndex.Mode.ALL, 0)), "prefix");
+            checkEquals("EXP1,EXP3", ids(index.search("deliver*", TextIndex.Mode.ALL, 0)), "prefix, ties in list order");
+            checkEquals("EXP4", ids(index.search("inv* labour", TextIndex.Mode.ALL, 0)), "prefix with a word");
+        });
+
+        test("text index: fuzzy search ranks closer spellings higher", () -> {
+            TextIndex index = new TextIndex(sample());
+            index.rebuild();
+            checkEquals("EXP2,EXP1", ids(index.fuzzySearch("cment", 0)), "deletion");
+            checkEquals("EXP1,EXP3", ids(index.fuzzySearch("delivrey", 0)), "swap");
+            checkEquals("EXP1,EXP2", ids(index.fuzzySearch("dangote cment", 0)), "more matched words first");
+            checkEquals("EXP5", ids(index.fuzzySearch("piant", 0)), "five-letter swap");
+            checkEquals("", ids(index.fuzzySearch("xyz", 0)), "nothing close");
+        });
+
+        test("text index: receipts are searchable, including changed ones", () -> {
+            ExpenditureManager manager = new ExpenditureManager();
+            SimpleArrayList<Expenditure> loaded = sample();
+            manager.loadExpenditures(loaded);
+            TextIndex index = manager.getTextIndex();
+            int terms = index.getTermCount();
+            check(index.getPostingBytes() > 0, "postings encoded");
+            check(manager.updateReceiptInfo("EXP5", "receipts/kingsbridge-invoice.pdf"), "receipt linked");
+            checkEquals("EXP5", ids(index.search("kingsbridge", TextIndex.Mode.ALL, 0)), "changed record matched");
+            checkEquals(terms, index.getTermCount(), "not re-encoded until a rebuild");
+            check(manager.addExpenditure(described("EXP6", "Kingsbridge paint")), "add");
+            checkEquals("EXP6,EXP5", ids(index.search("kingsbridge", TextIndex.Mode.ALL, 0)), "new record; shorter text ranks higher");
+            index.rebuild();
+            checkEquals("EXP6,EXP5", ids(index.search("kingsbridge", TextIndex.Mode.ALL, 0)), "after rebuild");
+        });
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * XpenseSystemProbe.java
+ *
+ * Test helper that opens the system in the current directory, applies one
+ * command and prints the resulting state. XpenseSystemTest runs it in a
+ * separate process inside a scratch data directory, because the system
+ * reads and writes its data files relative to the working directory.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import app.util.SimpleArrayList;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class XpenseSystemProbe {
+    /**
+     * Commands:
+     * - state: print the state only
+     * - add ID AMOUNT [ACCOUNT]: add an expenditure in category Cement
+     * - batch ID:AMOUNT:ACCOUNT...: add the rows with addExpenditures; an empty ID is generated
+     * - checkpoint: take a checkpoint
+     * - report: print the startup stages
+     */
+    public static void main(String[] args) {
+        XpenseSystem system = new XpenseSystem(100.0, 5000.0);
+        String command = args.length > 0 ? args[0] : "state";
+        if ("add".equals(command)) {
+            Expenditure exp = new Expenditure(args[1], "Bags of cement", new BigDecimal(args[2]),
+                    system.getCategoryManager().getCategory("Cement"), LocalDateTime.of(2025, 7, 1, 9, 30),
+                    "active", args.length > 3 ? args[3] : "ACC001");
+            System.out.println("added=" + system.addExpenditure(exp));
+        } else if ("batch".equals(command)) {
+            SimpleArrayList<Expenditure> batch = new SimpleArrayList<>();
+            for (int i = 1; i < args.length; i++) {
+                String[] row = args[i].split(":", -1);
+                batch.add(new Expenditure(row[0].isEmpty() ? null : row[0], "Bags of cement", new BigDecimal(row[1]),
+                        system.getCategoryManager().getCategory("Cement"), LocalDateTime.of(2025, 7, 1, 9, 30),
+                        "active", row[2]));
+            }
+            BatchResult result = system.addExpenditures(batch);
+            for (int i = 0; i < result.getRows().size(); i++) System.out.println(result.getRows().get(i));
+            System.out.println("summary=" + result.getSummary());
+        } else if ("checkpoint".equals(command)) {
+            System.out.println("checkpoint=" + system.checkpoint());
+        } else if ("report".equals(command)) {
+            System.out.print(system.getStartupReport());
+        }
+        SimpleArrayList<BankAccount> accounts = system.getAllBankAccounts();
+        for (int i = 0; i < accounts.size(); i++) {
+            BankAccount account = accounts.get(i);
+            System.out.println(account.getAccountNumber() + "=" + account.getBalance()
+                    + " linked=" + account.getExpenditures().size());
+        }
+        System.out.println("expenditures=" + system.getAllExpenditures().size());
+        System.out.println("closed=" + system.close());
+    }
+}
@@ -0,0 +1,185 @@
+/**
+ * XpenseSystemTest.java
+ *
+ * Tests of XpenseSystem startup and persistence against real data files.
+ * Each test prepares a scratch data directory and runs XpenseSystemProbe in it.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.modules;
+
+import static app.TestSupport.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+public class XpenseSystemTest {
+    /** A valid expenditures.txt record for EXP1 (100.00 from ACC001) */
+    static final String EXP1 = "EXP1|Bags of cement|100.00|2025-07-01T09:30|active|Cement|ACC001|";
+
+    /**
+     * Writes the given data files into a new scratch directory.
+     *
+     * @param files Pairs of file name and contents
+     * @return The directory
+     */
+    static String dataDir(String... files) throws IOException {
+        String dir = tempDir();
+        write(dir, "categories.txt", "Cement|Building cement|grey\n");
+        for (int i = 0; i < files.length; i += 2) write(dir, files[i], files[i + 1]);
+        return dir;
+    }
+
+    static void write(String dir, String name, String contents) throws IOException {
+        Files.write(Paths.get(dir + name), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Runs a main class in the given directory with the test class path.
+     * Class path entries are made absolute, since relative ones (such as
+     * bin:bin-test) would otherwise resolve against the scratch directory.
+     *
+     * @return Everything the process printed, followed by a line "exit=CODE"
+     */
+    static String runIn(String dir, String mainClass, String... args) throws Exception {
+        String[] classPath = System.getProperty("java.class.path").split(File.pathSeparator);
+        for (int i = 0; i < classPath.length; i++) classPath[i] = new File(classPath[i]).getAbsolutePath();
+        String[] command = new String[args.length + 4];
+        command[0] = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        command[1] = "-cp";
+        command[2] = String.join(File.pathSeparator, classPath);
+        command[3] = mainClass;
+        System.arraycopy(args, 0, command, 4, args.length);
+        Process process = new ProcessBuilder(command).directory(new File(dir)).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        return output + "exit=" + process.waitFor() + "\n";
+    }
+
+    static String probe(String dir, String... args) throws Exception {
+        return runIn(dir, XpenseSystemProbe.class.getName(), args);
+    }
+
+    static void checkContains(String output, String expected, String message) {
+        check(output.contains(expected), message + ": expected <" + expected + "> in\n" + output);
+    }
+
+    public static void run() {
+        test("startup: loads and links every data file", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\nACC002|Site|50.00\n",
+                    "expenditures.txt", EXP1 + "\nEXP2|Sand|20.00|2025-07-02T10:00|active|Cement|ACC002|\n");
+            String output = probe(dir, "report");
+            checkContains(output, "ACC001=1000.00 linked=1", "first account");
+            checkContains(output, "ACC002=50.00 linked=1", "second account");
+            checkContains(output, "expenditures=2", "expenditures");
+            for (String stage : new String[] { "categories load", "accounts load", "expenditures load",
+                    "account linking", "journal replay", "total" }) {
+                checkContains(output, stage + ":", "stage timed");
+            }
+        });
+
+        test("journal: added expenditures survive a restart before any checkpoint", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\n");
+            checkContains(probe(dir, "add", "EXP5", "40.00"), "added=true", "add");
+            String output = probe(dir);
+            checkContains(output, "ACC001=960.00 linked=1", "debit replayed once");
+            checkContains(output, "expenditures=1", "expenditure replayed");
+        });
+
+        test("journal: a checkpoint writes the mark and empties the journal", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\n");
+            probe(dir, "add", "EXP5", "40.00");
+            checkContains(probe(dir, "checkpoint"), "checkpoint=true", "checkpoint");
+            checkEquals(0L, Files.size(Paths.get(dir + "expenditures.journal")), "journal emptied");
+            check(new String(Files.readAllBytes(Paths.get(dir + "accounts.txt"))).startsWith("#journal|"), "mark written");
+            checkContains(probe(dir), "ACC001=960.00 linked=1", "state after restart");
+        });
+
+        test("journal: replay completes a checkpoint that wrote only expenditures.txt", () -> {
+            String dir = dataDir("accounts.txt", "#journal|5|0\nACC001|Main|1000.00\n",
+                    "expenditures.txt", EXP1 + "\n", "expenditures.journal", "#generation|5\n" + EXP1 + "\n");
+            String output = probe(dir);
+            checkContains(output, "ACC001=900.00 linked=1", "debit applied");
+            checkContains(output, "expenditures=1", "no duplicate");
+        });
+
+        test("journal: replay completes a checkpoint that wrote only accounts.txt", () -> {
+            String dir = dataDir("accounts.txt", "#journal|5|1\nACC001|Main|900.00\n",
+                    "expenditures.txt", "", "expenditures.journal", "#generation|5\n" + EXP1 + "\n");
+            String output = probe(dir);
+            checkContains(output, "ACC001=900.00 linked=1", "no second debit");
+            checkContains(output, "expenditures=1", "expenditure restored");
+        });
+
+        test("journal: replay after both files were written applies nothing twice", () -> {
+            String dir = dataDir("accounts.txt", "#journal|5|1\nACC001|Main|900.00\n",
+                    "expenditures.txt", EXP1 + "\n", "expenditures.journal", "#generation|5\n" + EXP1 + "\n");
+            String output = probe(dir);
+            checkContains(output, "ACC001=900.00 linked=1", "balance unchanged");
+            checkContains(output, "expenditures=1", "no duplicate");
+        });
+
+        test("journal: an unreadable journal stops startup", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\n");
+            Files.createDirectory(Paths.get(dir + "expenditures.journal"));
+            checkContains(probe(dir), "Cannot replay the expenditure journal", "error reported");
+        });
+
+        test("batch: running balances, duplicates and one debit per account", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|300.00\nACC002|Site|50.00\n");
+            String output = probe(dir, "batch", "EXP1:100.00:ACC001", "EXP2:150.00:ACC001", "EXP3:60.00:ACC001",
+                    "exp1:10.00:ACC001", "EXP4:40.00:ACC002", "EXP5:5.00:ACC009", ":20.00:ACC002");
+            checkContains(output, "row 1: EXP1 added", "first row");
+            checkContains(output, "row 3: EXP3 insufficient funds in account ACC001", "running balance");
+            checkContains(output, "row 4: exp1 duplicate ID", "duplicate ignoring case");
+            checkContains(output, "row 6: EXP5 bank account does not exist", "unknown account");
+            checkContains(output, "row 7: insufficient funds in account ACC002", "generated ID row checked too");
+            checkContains(output, "summary=3 added, 4 rejected, GHc 290.00 debited from 2 accounts", "summary");
+            checkContains(output, "ACC001=50.00 linked=2", "one debit from ACC001");
+            checkContains(output, "ACC002=10.00 linked=1", "one debit from ACC002");
+            checkContains(probe(dir), "expenditures=3", "journaled batch survives a restart");
+        });
+
+        test("import: a small batch is checkpointed into the data files", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\n");
+            write(dir, "batch.txt", "# month end\n" + EXP1 + "\n|Sand|50.00|2025-07-02T10:00|active|Cement|ACC001|\n");
+            String output = runIn(dir, "app.Main", "import", "batch.txt");
+            checkContains(output, "2 added", "summary");
+            checkContains(output, "exit=0", "exit status");
+            checkEquals(2, new FileManager().loadExpenditures(dir + "expenditures.txt").size(), "written to expenditures.txt");
+            checkEquals(new BigDecimal("850.00"),
+                    new FileManager().loadAccounts(dir + "accounts.txt").get(0).getBalance(), "written to accounts.txt");
+            checkEquals(0L, Files.size(Paths.get(dir + "expenditures.journal")), "journal emptied");
+        });
+
+        test("import: rejected and malformed rows are reported", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|100.00\n");
+            write(dir, "batch.txt", EXP1 + "\nEXP2|Sand|nope\nEXP3|Sand|10.00|2025-07-02T10:00|active|Cement|ACC009|\n");
+            String output = runIn(dir, "app.Main", "import", "batch.txt");
+            checkContains(output, "line 2: rejected - malformed line", "malformed line");
+            checkContains(output, "line 3: EXP3 rejected", "unknown account");
+            checkContains(output, "exit=1", "exit status");
+        });
+
+        test("import: a failed save exits with status 2", () -> {
+            String dir = dataDir("accounts.txt", "ACC001|Main|1000.00\n");
+            // A directory in place of the temporary file stops accounts.txt from being written
+            Files.createDirectory(Paths.get(dir + "accounts.txt.tmp"));
+            write(dir, "batch.txt", EXP1 + "\n");
+            String output = runIn(dir, "app.Main", "import", "batch.txt");
+            checkContains(output, "Failed to save the imported expenditures", "failure reported");
+            checkContains(output, "exit=2", "exit status");
+        });
+
+        test("startup: an empty data directory starts empty", () -> {
+            String output = probe(dataDir());
+            checkContains(output, "expenditures=0", "no expenditures");
+            checkContains(output, "closed=true", "close");
+        });
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * CaseInsensitiveMapTest.java
+ *
+ * Unit tests for the case-insensitive hash map.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class CaseInsensitiveMapTest {
+    public static void run() {
+        test("case-insensitive map: lookups ignore case", () -> {
+            CaseInsensitiveMap<Integer> map = new CaseInsensitiveMap<>();
+            checkEquals(null, map.put("Cement", 1), "first put");
+            checkEquals(1, map.get("CEMENT"), "upper case");
+            checkEquals(1, map.get("cement"), "lower case");
+            check(map.containsKey("cEmEnT"), "contains");
+            check(!map.containsKey("Sand"), "absent");
+            checkEquals(null, map.get(null), "null key");
+        });
+
+        test("case-insensitive map: a put in another case replaces the value", () -> {
+            CaseInsensitiveMap<Integer> map = new CaseInsensitiveMap<>();
+            map.put("Cement", 1);
+            checkEquals(1, map.put("CEMENT", 2), "previous value");
+            checkEquals(1, map.size(), "one name");
+            checkEquals(2, map.get("cement"), "new value");
+        });
+
+        test("case-insensitive map: keeps every key across resizes", () -> {
+            CaseInsensitiveMap<Integer> map = new CaseInsensitiveMap<>();
+            for (int i = 0; i < 1000; i++) map.put("Category" + i, i);
+            checkEquals(1000, map.size(), "size");
+            for (int i = 0; i < 1000; i++) checkEquals(i, map.get("CATEGORY" + i), "key " + i);
+        });
+
+        test("case-insensitive map: positions follow first insertion", () -> {
+            CaseInsensitiveMap<Integer> map = new CaseInsensitiveMap<>();
+            map.put("Sand", 1);
+            map.put("Cement", 2);
+            map.put("SAND", 3);
+            checkEquals(0, map.indexOf("sand"), "position kept");
+            checkEquals("Sand", map.getKeyAt(0), "first key kept");
+            checkEquals(3, map.getAt(0), "value replaced");
+            checkEquals("Cement", map.getKeyAt(1), "second key");
+            checkEquals(-1, map.indexOf(null), "null key");
+            checkThrows(IndexOutOfBoundsException.class, () -> map.getKeyAt(2), "out of range");
+        });
+
+        test("case-insensitive map: hash agrees with equalsIgnoreCase", () -> {
+            checkEquals(CaseInsensitiveMap.hash("Paint"), CaseInsensitiveMap.hash("pAINT"), "ASCII");
+            checkEquals(CaseInsensitiveMap.hash("İstanbul"), CaseInsensitiveMap.hash("istanbul"), "dotted capital I");
+            check("İstanbul".equalsIgnoreCase("istanbul"), "equalsIgnoreCase agrees");
+        });
+    }
+}
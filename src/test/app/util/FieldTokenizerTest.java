@@ -0,0 +1,86 @@
+/**
+ * FieldTokenizerTest.java
+ *
+ * Unit tests for the zero-copy field tokenizer and the intern table.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+public class FieldTokenizerTest {
+    public static void run() {
+        test("tokenizer: splits a char record into typed fields", () -> {
+            FieldTokenizer f = new FieldTokenizer('|');
+            char[] line = "xxEXP1|Cement|1250.75|2025-07-01T09:30|active||yy".toCharArray();
+            checkEquals(5, f.reset(line, 2, line.length - 2), "trailing empty field dropped");
+            checkEquals("Cement", f.string(1), "string");
+            checkEquals(new BigDecimal("1250.75"), f.decimal(2), "decimal");
+            checkEquals(LocalDateTime.of(2025, 7, 1, 9, 30), f.dateTime(3), "date-time");
+            checkEquals(6, f.length(1), "length");
+        });
+
+        test("tokenizer: decodes byte records with the given charset", () -> {
+            FieldTokenizer f = new FieldTokenizer('|');
+            byte[] line = "EXP2|Café lunch|12.00".getBytes(StandardCharsets.UTF_8);
+            checkEquals(3, f.reset(line, 0, line.length, StandardCharsets.UTF_8), "fields");
+            checkEquals("Café lunch", f.string(1), "non-ASCII text");
+            checkEquals(new BigDecimal("12.00"), f.decimal(2), "decimal");
+        });
+
+        test("tokenizer: blank and comment records", () -> {
+            FieldTokenizer f = new FieldTokenizer('|');
+            char[] blank = " | ".toCharArray();
+            f.reset(blank, 0, blank.length);
+            check(f.isBlankRecord(), "blank record");
+            char[] comment = "#journal|1|2".toCharArray();
+            f.reset(comment, 0, comment.length);
+            check(f.startsWith('#'), "comment");
+            check(!f.isBlankRecord(), "comment is not blank");
+        });
+
+        test("tokenizer: malformed numbers are reported", () -> {
+            FieldTokenizer f = new FieldTokenizer('|');
+            char[] line = "EXP3|twelve|2025-13-01T09:30".toCharArray();
+            f.reset(line, 0, line.length);
+            checkThrows(NumberFormatException.class, () -> f.decimal(1), "decimal");
+            checkThrows(RuntimeException.class, () -> f.dateTime(2), "date-time");
+        });
+
+        test("intern table: one value per distinct key across buffer types", () -> {
+            int[] created = new int[1];
+            InternTable<String> table = new InternTable<>(key -> {
+                created[0]++;
+                return key;
+            });
+            char[] chars = "xSandx".toCharArray();
+            byte[] bytes = "Sand".getBytes(StandardCharsets.US_ASCII);
+            String a = table.intern(chars, 1, 4);
+            String b = table.intern(bytes, 0, 4);
+            String c = table.intern("Sand");
+            check(a == b && b == c, "same instance");
+            checkEquals(1, created[0], "factory calls");
+            for (int i = 0; i < 100; i++) table.intern("key" + i);
+            checkEquals(101, table.size(), "size after growth");
+            check(table.intern("Sand") == a, "kept across resize");
+        });
+
+        test("tokenizer: interns a field through a table", () -> {
+            FieldTokenizer f = new FieldTokenizer('|');
+            InternTable<String> phases = new InternTable<>(key -> key);
+            char[] one = "EXP1|active".toCharArray();
+            char[] two = "EXP2|active".toCharArray();
+            f.reset(one, 0, one.length);
+            String first = f.intern(1, phases);
+            f.reset(two, 0, two.length);
+            check(first == f.intern(1, phases), "interned");
+        });
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * IndexedMinHeapTest.java
+ *
+ * Unit tests for the d-ary IndexedMinHeap with handles.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class IndexedMinHeapTest {
+    static IndexedMinHeap<Integer> heap() {
+        return new IndexedMinHeap<>(Integer::compare);
+    }
+
+    public static void run() {
+        test("indexed heap: removeMin returns elements in priority order", () -> {
+            IndexedMinHeap<Integer> heap = heap();
+            for (int i = 0; i < 100; i++) heap.insert((i * 37) % 100);
+            checkEquals(100, heap.size(), "size");
+            for (int i = 0; i < 100; i++) checkEquals(i, heap.removeMin(), "removeMin " + i);
+            check(heap.isEmpty(), "empty");
+            checkEquals(null, heap.removeMin(), "removeMin when empty");
+            checkEquals(null, heap.peek(), "peek when empty");
+        });
+
+        test("indexed heap: bulk construction heapifies the elements", () -> {
+            for (int arity = 2; arity <= 5; arity++) {
+                SimpleArrayList<Integer> elements = new SimpleArrayList<>();
+                for (int i = 0; i < 50; i++) elements.add((i * 13) % 50);
+                IndexedMinHeap<Integer> heap = new IndexedMinHeap<>(Integer::compare, arity, elements);
+                checkEquals(arity, heap.getArity(), "arity");
+                checkEquals(50, heap.handles().size(), "handles");
+                for (int i = 0; i < 50; i++) checkEquals(i, heap.removeMin(), "arity " + arity + " removeMin " + i);
+            }
+            checkThrows(IllegalArgumentException.class,
+                    () -> new IndexedMinHeap<Integer>(Integer::compare, 1), "arity below 2");
+        });
+
+        test("indexed heap: decreaseKey and remove through handles", () -> {
+            IndexedMinHeap<Integer> heap = heap();
+            IndexedMinHeap.Handle<Integer> ten = heap.insert(10);
+            IndexedMinHeap.Handle<Integer> twenty = heap.insert(20);
+            heap.insert(30);
+            heap.decreaseKey(twenty, 5);
+            checkEquals(5, heap.peek(), "decreased key is first");
+            checkEquals(5, twenty.getValue(), "handle value updated");
+            check(heap.remove(ten), "remove");
+            check(!ten.isActive() && !heap.contains(ten), "removed handle inactive");
+            check(!heap.remove(ten), "second remove is a no-op");
+            checkEquals(5, heap.removeMin(), "first");
+            check(!twenty.isActive(), "removeMin deactivates the handle");
+            checkEquals(30, heap.removeMin(), "second");
+            checkThrows(IllegalArgumentException.class, () -> heap.decreaseKey(ten, 1), "stale handle");
+        });
+
+        test("indexed heap: toSortedList leaves the heap unchanged", () -> {
+            IndexedMinHeap<Integer> heap = heap();
+            for (int i = 20; i > 0; i--) heap.insert(i);
+            SimpleArrayList<Integer> sorted = heap.toSortedList();
+            for (int i = 0; i < 20; i++) checkEquals(i + 1, sorted.get(i), "sorted " + i);
+            checkEquals(20, heap.size(), "size unchanged");
+            SimpleArrayList<IndexedMinHeap.Handle<Integer>> handles = heap.handles();
+            heap.clear();
+            check(heap.isEmpty(), "cleared");
+            check(!handles.get(0).isActive(), "clear deactivates handles");
+        });
+    }
+}
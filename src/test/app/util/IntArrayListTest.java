@@ -0,0 +1,45 @@
+/**
+ * IntArrayListTest.java
+ *
+ * Unit tests for IntArrayList and LongArrayList.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class IntArrayListTest {
+    public static void run() {
+        test("int list: add, set, increment, sum and sort", () -> {
+            IntArrayList list = new IntArrayList(0);
+            for (int i = 0; i < 100; i++) list.add(99 - i);
+            checkEquals(100, list.size(), "size");
+            checkEquals(4950L, list.sum(), "sum");
+            checkEquals(99, list.set(0, 1000), "set returns old value");
+            checkEquals(1005, list.increment(0, 5), "increment");
+            list.sort();
+            checkEquals(0, list.get(0), "sorted first");
+            checkEquals(1005, list.get(99), "sorted last");
+            checkEquals(100, list.toArray().length, "toArray length");
+            checkThrows(IndexOutOfBoundsException.class, () -> list.get(100), "get out of range");
+            checkThrows(IndexOutOfBoundsException.class, () -> list.increment(-1, 1), "increment out of range");
+            checkThrows(IllegalArgumentException.class, () -> new IntArrayList(-1), "negative capacity");
+            list.clear();
+            check(list.isEmpty(), "cleared");
+        });
+
+        test("long list: sums pesewas past the int range", () -> {
+            LongArrayList list = new LongArrayList();
+            for (int i = 0; i < 50; i++) list.add(Integer.MAX_VALUE);
+            checkEquals(50L * Integer.MAX_VALUE, list.sum(), "sum");
+            checkEquals((long) Integer.MAX_VALUE + 1, list.increment(3, 1), "increment");
+            list.set(0, -5);
+            list.sort();
+            checkEquals(-5L, list.get(0), "sorted first");
+            checkEquals((long) Integer.MAX_VALUE + 1, list.get(49), "sorted last");
+        });
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * ObjectIntHashMapTest.java
+ *
+ * Unit tests for ObjectIntHashMap and ObjectLongHashMap, and through them
+ * the shared HashIndex.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class ObjectIntHashMapTest {
+    public static void run() {
+        test("object-int map: counts survive growth in insertion order", () -> {
+            ObjectIntHashMap<String> counts = new ObjectIntHashMap<>();
+            for (int round = 0; round < 3; round++) {
+                for (int i = 0; i < 1000; i++) counts.addTo("k" + i, i);
+            }
+            checkEquals(1000, counts.size(), "size");
+            for (int i = 0; i < 1000; i++) {
+                checkEquals("k" + i, counts.getKeyAt(i), "key order " + i);
+                checkEquals(3 * i, counts.getValueAt(i), "value at " + i);
+                checkEquals(3 * i, counts.get("k" + i), "get " + i);
+            }
+            checkEquals(0, counts.get("missing"), "absent reads as 0");
+            checkEquals(-1, counts.getOrDefault("missing", -1), "default");
+            check(!counts.containsKey("missing"), "absent key");
+            checkThrows(IndexOutOfBoundsException.class, () -> counts.getKeyAt(1000), "key out of range");
+        });
+
+        test("object-int map: put keeps position, null and colliding keys", () -> {
+            ObjectIntHashMap<Object> map = new ObjectIntHashMap<>();
+            map.put("a", 1);
+            map.put(null, 2);
+            // "Aa" and "BB" have the same String hash
+            map.put("Aa", 3);
+            map.put("BB", 4);
+            map.put("a", 5);
+            checkEquals(4, map.size(), "size");
+            checkEquals(0, map.indexOf("a"), "position kept");
+            checkEquals(5, map.get("a"), "value replaced");
+            checkEquals(2, map.get(null), "null key");
+            checkEquals(3, map.get("Aa"), "first colliding key");
+            checkEquals(4, map.get("BB"), "second colliding key");
+        });
+
+        test("object-long map: sums beyond the int range", () -> {
+            ObjectLongHashMap<String> totals = new ObjectLongHashMap<>();
+            for (int i = 0; i < 100; i++) totals.addTo("cat" + (i % 7), 1L << 40);
+            checkEquals(7, totals.size(), "size");
+            checkEquals(15L << 40, totals.get("cat0"), "cat0 total");
+            checkEquals(14L << 40, totals.getValueAt(6), "cat6 total");
+            totals.put("cat0", -1L);
+            checkEquals(-1L, totals.get("cat0"), "put replaces");
+            checkEquals(0L, totals.get("none"), "absent reads as 0");
+        });
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * OrderedIndexTest.java
+ *
+ * Unit tests for the sorted secondary index OrderedIndex.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.util.Comparator;
+
+public class OrderedIndexTest {
+    static String positions(IntArrayList list) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < list.size(); i++) sb.append(i == 0 ? "" : ",").append(list.get(i));
+        return sb.toString();
+    }
+
+    public static void run() {
+        test("ordered index: inclusive, exclusive and open bounds", () -> {
+            OrderedIndex<Integer> index = new OrderedIndex<>(Comparator.naturalOrder());
+            for (int i = 0; i < 10; i++) index.add(i * 10, i);
+            checkEquals("2,3,4", positions(index.range(20, true, 40, true)), "inclusive");
+            checkEquals("3", positions(index.range(20, false, 40, false)), "exclusive");
+            checkEquals("0,1", positions(index.range(null, true, 15, true)), "no lower bound");
+            checkEquals("9", positions(index.range(85, true, null, true)), "no upper bound");
+            checkEquals("", positions(index.range(41, true, 49, true)), "empty range");
+            checkEquals(10, index.count(null, true, null, true), "count all");
+            checkEquals(0, index.count(50, true, 10, true), "reversed bounds");
+        });
+
+        test("ordered index: out-of-order keys are merged before a query", () -> {
+            OrderedIndex<Integer> index = new OrderedIndex<>(Comparator.naturalOrder());
+            int[] keys = {50, 10, 40, 10, 30, 20, 50};
+            for (int i = 0; i < keys.length; i++) index.add(keys[i], i);
+            checkEquals(7, index.size(), "size counts pending entries");
+            // Equal keys are ordered by position
+            checkEquals("1,3,5,4,2,0,6", positions(index.range(null, true, null, true)), "key then position order");
+            index.add(5, 7);
+            checkEquals("7,1,3", positions(index.range(null, true, 10, true)), "second merge");
+        });
+
+        test("ordered index: bulk unordered load matches a sort", () -> {
+            OrderedIndex<Integer> index = new OrderedIndex<>(Comparator.naturalOrder());
+            for (int i = 0; i < 5000; i++) index.add((i * 7919) % 5000, i);
+            IntArrayList all = index.range(null, true, null, true);
+            checkEquals(5000, all.size(), "size");
+            for (int i = 1; i < all.size(); i++) {
+                check((all.get(i - 1) * 7919) % 5000 < (all.get(i) * 7919) % 5000, "key order at " + i);
+            }
+            checkEquals(100, index.count(1000, true, 1100, false), "count");
+            index.clear();
+            checkEquals(0, index.size(), "cleared");
+        });
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * PagerTest.java
+ *
+ * Unit tests for Pager and its continuation tokens.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class PagerTest {
+    static SimpleArrayList<Integer> rows(int n) {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = 0; i < n; i++) list.add(i);
+        return list;
+    }
+
+    public static void run() {
+        test("pager: next and previous tokens walk the listing", () -> {
+            SimpleArrayList<Integer> list = rows(45);
+            Pager<Integer> pager = new Pager<>(list, 20);
+            Page<Integer> page = pager.page((String) null);
+            checkEquals(3, page.getPageCount(), "page count");
+            checkEquals(0, page.getNumber(), "first page");
+            check(!page.hasPrevious() && page.getPreviousToken() == null, "no previous");
+            page = pager.page(page.getNextToken());
+            checkEquals(20, page.getItems().get(0), "second page starts at row 20");
+            page = pager.page(page.getNextToken());
+            checkEquals(2, page.getNumber(), "third page");
+            checkEquals(5, page.getItems().size(), "short last page");
+            check(!page.hasNext() && page.getNextToken() == null, "no next");
+            page = pager.page(page.getPreviousToken());
+            checkEquals(1, page.getNumber(), "back to the second page");
+            checkEquals(0, pager.page(page.getTokenForPage(-3)).getStart(), "clamped to the first page");
+            checkEquals(40, pager.page(page.getTokenForPage(99)).getStart(), "clamped to the last page");
+        });
+
+        test("pager: rows appended later do not join the listing", () -> {
+            SimpleArrayList<Integer> list = rows(25);
+            Page<Integer> first = new Pager<>(list, 10).page((String) null);
+            for (int i = 25; i < 40; i++) list.add(i);
+            Page<Integer> last = new Pager<>(list, 10).page(first.getTokenForPage(2));
+            checkEquals(25, last.getTotal(), "listing size kept");
+            checkEquals(5, last.getItems().size(), "no appended rows");
+            check(!last.hasNext(), "still the last page");
+            checkEquals(4, new Pager<>(list, 10).page((String) null).getPageCount(), "a new listing sees them");
+        });
+
+        test("pager: tokens from another listing or page size are rejected", () -> {
+            SimpleArrayList<Integer> list = rows(50);
+            String token = new Pager<>(list, 10).page(0).getNextToken();
+            checkEquals(10, new Pager<>(list, 10).page(token).getStart(), "same listing");
+            checkThrows(IllegalArgumentException.class, () -> new Pager<>(rows(50), 10).page(token), "other list");
+            checkThrows(IllegalArgumentException.class, () -> new Pager<>(list, 5).page(token), "other page size");
+
+            // Rows are compared by identity, as the expenditure list holds distinct records
+            SimpleArrayList<String> reloaded = new SimpleArrayList<>();
+            for (int i = 0; i < 50; i++) reloaded.add("row " + i);
+            String before = new Pager<>(reloaded, 10).page(0).getNextToken();
+            reloaded.clear();
+            for (int i = 0; i < 60; i++) reloaded.add("row " + i);
+            checkThrows(IllegalArgumentException.class, () -> new Pager<>(reloaded, 10).page(before), "rows replaced");
+        });
+
+        test("pager: malformed and unaligned tokens are rejected", () -> {
+            Pager<Integer> pager = new Pager<>(rows(50), 10);
+            String token = pager.page(0).getNextToken();
+            String[] parts = token.split("\\.");
+            String[] bad = {
+                "", "abc", "1.2", token + ".1", "x." + parts[1] + "." + parts[2],
+                Integer.toString(5, 36) + "." + parts[1] + "." + parts[2],   // not on a page boundary
+                Integer.toString(20, 36) + "." + parts[1] + "." + parts[2],  // fingerprint still matches, start moved
+                parts[0] + "." + Integer.toString(51, 36) + "." + parts[2],  // listing larger than the list
+                parts[0] + "." + parts[1] + ".zzz"
+            };
+            checkEquals(20, pager.page(bad[6]).getStart(), "another aligned start of the same listing is valid");
+            for (int i = 0; i < bad.length; i++) {
+                if (i == 6) continue;
+                String t = bad[i];
+                checkThrows(IllegalArgumentException.class, () -> pager.page(t), "token \"" + t + "\"");
+            }
+        });
+
+        test("pager: an empty list has one empty page", () -> {
+            Pager<Integer> pager = new Pager<>(rows(0), 10);
+            Page<Integer> page = pager.page((String) null);
+            checkEquals(1, page.getPageCount(), "one page");
+            checkEquals(0, page.getItems().size(), "no rows");
+            checkEquals(0, pager.page(page.getTokenForPage(0)).getItems().size(), "token of the empty page");
+            checkThrows(IllegalArgumentException.class, () -> new Pager<>(rows(1), 0), "page size 0");
+        });
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * PostingListTest.java
+ *
+ * Unit tests for the varint-encoded PostingList.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class PostingListTest {
+    public static void run() {
+        test("posting list: entries decode in order across varint widths", () -> {
+            PostingList list = new PostingList();
+            int[] documents = {0, 1, 127, 128, 16_511, 16_512, 2_000_000, Integer.MAX_VALUE};
+            for (int i = 0; i < documents.length; i++) list.add(documents[i], i + 1);
+            checkEquals(documents.length, list.size(), "size");
+            checkEquals(Integer.MAX_VALUE, list.getLastDocument(), "last document");
+            PostingList.Cursor cursor = list.cursor();
+            for (int i = 0; i < documents.length; i++) {
+                check(cursor.next(), "next " + i);
+                checkEquals(documents[i], cursor.document(), "document " + i);
+                checkEquals(i + 1, cursor.frequency(), "frequency " + i);
+            }
+            check(!cursor.next(), "end");
+        });
+
+        test("posting list: small gaps take two bytes per entry", () -> {
+            PostingList list = new PostingList();
+            for (int i = 0; i < 1000; i++) list.add(i * 3, 1);
+            checkEquals(2000, list.byteSize(), "bytes");
+            list.trimToSize();
+            PostingList.Cursor cursor = list.cursor();
+            int count = 0;
+            while (cursor.next()) checkEquals(3 * count++, cursor.document(), "document after trim");
+            checkEquals(1000, count, "entries after trim");
+        });
+
+        test("posting list: rejects out-of-order documents and bad frequencies", () -> {
+            PostingList list = new PostingList();
+            checkEquals(-1, list.getLastDocument(), "empty");
+            check(!list.cursor().next(), "empty cursor");
+            list.add(5, 1);
+            checkThrows(IllegalArgumentException.class, () -> list.add(5, 1), "repeated document");
+            checkThrows(IllegalArgumentException.class, () -> list.add(4, 1), "earlier document");
+            checkThrows(IllegalArgumentException.class, () -> list.add(6, 0), "zero frequency");
+            checkEquals(1, list.size(), "unchanged");
+        });
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * PrimitiveSortTest.java
+ *
+ * Unit tests for the radix sort behind IntArrayList.sort and LongArrayList.sort.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.util.Arrays;
+
+public class PrimitiveSortTest {
+    static long seed = 7;
+
+    static long next() {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        return seed;
+    }
+
+    public static void run() {
+        test("primitive sort: int ranges match a reference sort", () -> {
+            for (int n : new int[] {0, 1, 2, PrimitiveSort.RADIX_THRESHOLD - 1, PrimitiveSort.RADIX_THRESHOLD, 5000}) {
+                int[] a = new int[n + 2];
+                for (int i = 0; i < a.length; i++) a[i] = (int) (next() >>> 32);
+                a[1] = Integer.MIN_VALUE;
+                a[a.length - 1] = Integer.MAX_VALUE;
+                int[] expected = a.clone();
+                Arrays.sort(expected, 1, n + 1);
+                PrimitiveSort.sort(a, 1, n + 1);
+                check(Arrays.equals(expected, a), "sorted " + n + " values, outside the range untouched");
+            }
+        });
+
+        test("primitive sort: long ranges match a reference sort", () -> {
+            for (int n : new int[] {0, 3, PrimitiveSort.RADIX_THRESHOLD, 5000}) {
+                long[] a = new long[n];
+                for (int i = 0; i < n; i++) a[i] = i % 3 == 0 ? -next() : next() >>> 20;
+                if (n > 0) a[0] = Long.MIN_VALUE;
+                long[] expected = a.clone();
+                Arrays.sort(expected);
+                PrimitiveSort.sort(a, 0, n);
+                check(Arrays.equals(expected, a), "sorted " + n + " values");
+            }
+        });
+
+        test("primitive sort: positions, duplicates and presorted input", () -> {
+            IntArrayList positions = new IntArrayList();
+            for (int i = 0; i < 3000; i++) positions.add((int) ((next() >>> 33) % 1000));
+            for (int i = 0; i < 100; i++) positions.add(i);
+            positions.sort();
+            for (int i = 1; i < positions.size(); i++) check(positions.get(i - 1) <= positions.get(i), "order at " + i);
+            checkEquals(3100, positions.size(), "size");
+            positions.sort();
+            checkEquals(0, positions.get(0), "sorted again");
+        });
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * SimpleArrayListTest.java
+ *
+ * Unit tests for SimpleArrayList.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.util.Spliterator;
+
+public class SimpleArrayListTest {
+    static SimpleArrayList<Integer> range(int from, int to) {
+        SimpleArrayList<Integer> list = new SimpleArrayList<>();
+        for (int i = from; i < to; i++) list.add(i);
+        return list;
+    }
+
+    public static void run() {
+        test("array list: addAll appends in order, including to itself", () -> {
+            SimpleArrayList<Integer> list = range(0, 3);
+            check(list.addAll(range(3, 30)), "changed");
+            checkEquals(30, list.size(), "size");
+            checkEquals(29, list.get(29), "last");
+            check(!list.addAll(new SimpleArrayList<>()), "empty addAll");
+            list.addAll(list);
+            checkEquals(60, list.size(), "self append");
+            checkEquals(0, list.get(30), "self append order");
+        });
+
+        test("array list: removeRange and remove shift later elements", () -> {
+            SimpleArrayList<Integer> list = range(0, 10);
+            list.removeRange(2, 5);
+            checkEquals(7, list.size(), "size");
+            checkEquals(5, list.get(2), "shifted");
+            checkEquals(5, list.remove(2), "removed element");
+            checkEquals(6, list.get(2), "shifted again");
+            checkThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 2), "inverted range");
+            checkThrows(IndexOutOfBoundsException.class, () -> list.get(6), "past the end");
+        });
+
+        test("array list: removeIf keeps the order of the rest", () -> {
+            SimpleArrayList<Integer> list = range(0, 10);
+            check(list.removeIf(x -> x % 2 == 0), "removed");
+            checkEquals(5, list.size(), "size");
+            checkEquals(7, list.get(3), "order");
+            check(!list.removeIf(x -> x > 100), "nothing removed");
+        });
+
+        test("array list: sort is in place and stable", () -> {
+            SimpleArrayList<String> list = new SimpleArrayList<>();
+            for (String s : new String[] {"pb", "sa", "pa", "cb", "ca", "sb"}) list.add(s);
+            list.sort((a, b) -> Character.compare(a.charAt(0), b.charAt(0)));
+            checkEquals("cb,ca,pb,pa,sa,sb", String.join(",", list.toArray(new String[0])), "ordered by first letter, ties kept");
+        });
+
+        test("array list: capacity operations and array copies", () -> {
+            SimpleArrayList<String> list = new SimpleArrayList<>(0);
+            list.ensureCapacity(100);
+            list.add("a");
+            list.add("b");
+            list.trimToSize();
+            list.add("c");
+            checkEquals(3, list.toArray().length, "toArray length");
+            String[] small = list.toArray(new String[0]);
+            checkEquals("c", small[2], "typed copy");
+            String[] large = list.toArray(new String[5]);
+            checkEquals(null, large[3], "terminated with null");
+            list.clear();
+            checkEquals(0, list.size(), "cleared");
+            checkThrows(IllegalArgumentException.class, () -> new SimpleArrayList<String>(-1), "negative capacity");
+        });
+
+        test("array list: sequential and parallel streams agree", () -> {
+            SimpleArrayList<Integer> list = range(0, 100_000);
+            long sequential = list.stream().mapToLong(Integer::longValue).sum();
+            long parallel = list.parallelStream().mapToLong(Integer::longValue).sum();
+            checkEquals(4_999_950_000L, sequential, "sequential sum");
+            checkEquals(sequential, parallel, "parallel sum");
+            SimpleArrayList<Integer> evens = list.parallelStream().filter(x -> x % 2 == 0)
+                    .collect(SimpleArrayList.collector());
+            checkEquals(50_000, evens.size(), "collected");
+            for (int i = 0; i < evens.size(); i++) checkEquals(i * 2, evens.get(i), "encounter order at " + i);
+        });
+
+        test("array list: the spliterator splits evenly and reports its size", () -> {
+            SimpleArrayList<Integer> list = range(0, 10);
+            Spliterator<Integer> right = list.spliterator();
+            check(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), "sized");
+            Spliterator<Integer> left = right.trySplit();
+            checkEquals(5L, left.estimateSize(), "left half");
+            checkEquals(5L, right.estimateSize(), "right half");
+            int[] first = new int[1];
+            left.tryAdvance(x -> first[0] = x);
+            checkEquals(0, first[0], "left starts at the front");
+        });
+    }
+}
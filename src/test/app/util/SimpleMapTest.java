@@ -0,0 +1,71 @@
+/**
+ * SimpleMapTest.java
+ *
+ * Unit tests for the open-addressing SimpleMap.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class SimpleMapTest {
+    /** A key whose instances all collide, to exercise probing */
+    private static final class Colliding {
+        private final int id;
+
+        Colliding(int id) { this.id = id; }
+
+        @Override
+        public int hashCode() { return 7; }
+
+        @Override
+        public boolean equals(Object o) { return o instanceof Colliding && ((Colliding) o).id == id; }
+    }
+
+    public static void run() {
+        test("simple map: put, get and replace keep insertion order", () -> {
+            SimpleMap<String, Integer> map = new SimpleMap<>();
+            map.put("b", 1);
+            map.put("a", 2);
+            map.put("b", 3);
+            checkEquals(2, map.size(), "size");
+            checkEquals(3, map.get("b"), "replaced value");
+            checkEquals("b", map.getKeyAt(0), "first key keeps its position");
+            checkEquals(2, map.getAt(1), "second value");
+            checkEquals(1, map.indexOf("a"), "index of");
+            checkEquals(-1, map.indexOf("c"), "missing key");
+            checkEquals(null, map.getAt(5), "position out of range");
+        });
+
+        test("simple map: null keys are supported", () -> {
+            SimpleMap<String, Integer> map = new SimpleMap<>();
+            map.put(null, 1);
+            check(map.containsKey(null), "contains null");
+            checkEquals(1, map.get(null), "value for null");
+        });
+
+        test("simple map: remove shifts later entries", () -> {
+            SimpleMap<String, Integer> map = new SimpleMap<>();
+            for (int i = 0; i < 20; i++) map.put("k" + i, i);
+            map.remove("k3");
+            map.remove("missing");
+            checkEquals(19, map.size(), "size");
+            check(!map.containsKey("k3"), "removed");
+            checkEquals("k4", map.getKeyAt(3), "shifted");
+            for (int i = 4; i < 20; i++) checkEquals(i, map.get("k" + i), "still found " + i);
+        });
+
+        test("simple map: colliding keys are all found after growth", () -> {
+            SimpleMap<Colliding, Integer> map = new SimpleMap<>();
+            for (int i = 0; i < 100; i++) map.put(new Colliding(i), i);
+            checkEquals(100, map.size(), "size");
+            for (int i = 0; i < 100; i++) checkEquals(i, map.get(new Colliding(i)), "key " + i);
+            map.remove(new Colliding(50));
+            checkEquals(null, map.get(new Colliding(50)), "removed");
+            checkEquals(99, map.get(new Colliding(99)), "after removal");
+        });
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * SimpleQueueTest.java
+ *
+ * Unit tests for the ring-buffer SimpleQueue.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class SimpleQueueTest {
+    public static void run() {
+        test("simple queue: FIFO order across wrap-around and growth", () -> {
+            SimpleQueue<Integer> queue = new SimpleQueue<>();
+            int next = 0;
+            int expected = 0;
+            for (int round = 0; round < 10; round++) {
+                for (int i = 0; i < 12; i++) queue.offer(next++);
+                for (int i = 0; i < 9; i++) checkEquals(expected++, queue.poll(), "poll");
+            }
+            checkEquals(30, queue.size(), "size");
+            checkEquals(expected, queue.peek(), "peek");
+            while (!queue.isEmpty()) checkEquals(expected++, queue.poll(), "drain by poll");
+            checkEquals(null, queue.poll(), "empty poll");
+            checkEquals(null, queue.peek(), "empty peek");
+        });
+
+        test("simple queue: rejection policies of a bounded queue", () -> {
+            SimpleQueue<Integer> reject = new SimpleQueue<>(2, SimpleQueue.RejectionPolicy.REJECT);
+            check(reject.offer(1) && reject.offer(2), "fill");
+            check(reject.isFull(), "full");
+            check(!reject.offer(3), "rejected");
+            checkEquals(1, reject.peek(), "unchanged");
+
+            SimpleQueue<Integer> dropOldest = new SimpleQueue<>(2, SimpleQueue.RejectionPolicy.DROP_OLDEST);
+            dropOldest.offer(1);
+            dropOldest.offer(2);
+            check(dropOldest.offer(3), "accepted");
+            checkEquals(2, dropOldest.poll(), "oldest dropped");
+            checkEquals(1L, dropOldest.getRejectedCount(), "drop counted");
+
+            SimpleQueue<Integer> strict = new SimpleQueue<>(1, SimpleQueue.RejectionPolicy.THROW);
+            strict.offer(1);
+            checkThrows(IllegalStateException.class, () -> strict.offer(2), "throws when full");
+        });
+
+        test("simple queue: drainTo moves elements in order", () -> {
+            SimpleQueue<Integer> queue = new SimpleQueue<>();
+            for (int i = 0; i < 20; i++) queue.offer(i);
+            SimpleArrayList<Integer> target = new SimpleArrayList<>();
+            checkEquals(5, queue.drainTo(target, 5), "limited drain");
+            checkEquals(15, queue.drainTo(target), "full drain");
+            checkEquals(20, target.size(), "target size");
+            checkEquals(19, target.get(19), "order");
+            check(queue.isEmpty(), "empty");
+        });
+    }
+}
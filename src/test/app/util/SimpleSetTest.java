@@ -0,0 +1,43 @@
+/**
+ * SimpleSetTest.java
+ *
+ * Unit tests for the hash-based SimpleSet.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class SimpleSetTest {
+    public static void run() {
+        test("simple set: add reports new elements only", () -> {
+            SimpleSet<String> set = new SimpleSet<>();
+            check(set.add("EXP1"), "first add");
+            check(!set.add("EXP1"), "duplicate add");
+            check(set.contains("EXP1"), "contains");
+            check(!set.contains("EXP2"), "absent");
+            checkEquals(1, set.size(), "size");
+        });
+
+        test("simple set: remove and iteration order", () -> {
+            SimpleSet<Integer> set = new SimpleSet<>();
+            for (int i = 0; i < 50; i++) set.add(i);
+            check(set.remove(10), "remove");
+            check(!set.remove(10), "remove again");
+            SimpleArrayList<Integer> list = set.toList();
+            checkEquals(49, list.size(), "list size");
+            checkEquals(11, list.get(10), "insertion order after removal");
+            int count = 0;
+            int previous = -1;
+            for (int value : set) {
+                check(value > previous, "ascending insertion order");
+                previous = value;
+                count++;
+            }
+            checkEquals(49, count, "iterated");
+        });
+    }
+}
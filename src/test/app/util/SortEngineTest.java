@@ -0,0 +1,96 @@
+/**
+ * SortEngineTest.java
+ *
+ * Unit tests for the stable merge sort in SortEngine.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.util.Comparator;
+
+public class SortEngineTest {
+    // Pairs a sort key with its original position, to observe stability
+    static final class Item {
+        final int key;
+        final int position;
+
+        Item(int key, int position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+
+    static SimpleArrayList<Item> items(int n, int distinctKeys) {
+        SimpleArrayList<Item> list = new SimpleArrayList<>(n);
+        long seed = 42;
+        for (int i = 0; i < n; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            list.add(new Item((int) ((seed >>> 33) % distinctKeys), i));
+        }
+        return list;
+    }
+
+    // Fails unless keys ascend and equal keys keep their original order
+    static void checkStableOrder(SimpleArrayList<Item> list, int n) {
+        checkEquals(n, list.size(), "size");
+        for (int i = 1; i < n; i++) {
+            Item a = list.get(i - 1), b = list.get(i);
+            check(a.key < b.key || (a.key == b.key && a.position < b.position), "order at " + i);
+        }
+    }
+
+    public static void run() {
+        test("sort engine: stable for small and mid-sized lists", () -> {
+            for (int n : new int[] {0, 1, 2, 31, 32, 33, 1000}) {
+                SimpleArrayList<Item> list = items(n, 10);
+                SortEngine.sort(list, (a, b) -> Integer.compare(a.key, b.key));
+                checkStableOrder(list, n);
+            }
+        });
+
+        test("sort engine: parallel path above the threshold is stable", () -> {
+            int n = SortEngine.PARALLEL_THRESHOLD * 2;
+            SimpleArrayList<Item> list = items(n, 100);
+            SortEngine.sort(list, (a, b) -> Integer.compare(a.key, b.key));
+            checkStableOrder(list, n);
+        });
+
+        test("sort engine: already sorted and reversed input", () -> {
+            SimpleArrayList<Integer> list = new SimpleArrayList<>();
+            for (int i = 0; i < 500; i++) list.add(i);
+            SortEngine.sort(list, Comparator.naturalOrder());
+            for (int i = 0; i < 500; i++) checkEquals(i, list.get(i), "sorted " + i);
+            SortEngine.sort(list, Comparator.reverseOrder());
+            for (int i = 0; i < 500; i++) checkEquals(499 - i, list.get(i), "reversed " + i);
+        });
+
+        test("sort engine: sortByKey computes each key once", () -> {
+            SimpleArrayList<String> names = new SimpleArrayList<>();
+            for (String name : new String[] {"sand", "Cement", "paint", "cement", "Sand"}) names.add(name);
+            int[] calls = new int[1];
+            SortEngine.sortByKey(names, name -> {
+                calls[0]++;
+                return name.toLowerCase();
+            }, Comparator.naturalOrder());
+            checkEquals(5, calls[0], "one key per element");
+            checkEquals("Cement", names.get(0), "equal keys keep order");
+            checkEquals("cement", names.get(1), "equal keys keep order");
+            checkEquals("paint", names.get(2), "middle");
+            checkEquals("sand", names.get(3), "equal keys keep order");
+
+            SortEngine.sortByKey(names, String::toLowerCase, Comparator.naturalOrder(), Comparator.naturalOrder());
+            checkEquals("Sand", names.get(3), "tie broken by thenBy");
+        });
+
+        test("sort engine: SimpleArrayList.sort delegates to the stable sort", () -> {
+            SimpleArrayList<Item> list = items(2000, 5);
+            list.sort((a, b) -> Integer.compare(a.key, b.key));
+            checkStableOrder(list, 2000);
+        });
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * TopKTest.java
+ *
+ * Unit tests for the bounded selection TopK.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+import java.util.Comparator;
+
+public class TopKTest {
+    public static void run() {
+        test("top k: keeps the largest, largest first", () -> {
+            TopK<Integer> top = new TopK<>(3, Comparator.naturalOrder());
+            for (int i = 0; i < 100; i++) top.offer((i * 37) % 100);
+            checkEquals(3, top.size(), "size");
+            checkEquals(100L, top.getOffered(), "offered");
+            SimpleArrayList<Integer> kept = top.drain();
+            checkEquals(99, kept.get(0), "first");
+            checkEquals(98, kept.get(1), "second");
+            checkEquals(97, kept.get(2), "third");
+            checkEquals(0, top.size(), "drained");
+        });
+
+        test("top k: equal elements keep the earliest offered, in order", () -> {
+            // Compare on the first letter only; the digit records the offer order
+            TopK<String> top = new TopK<>(3, Comparator.comparing((String s) -> s.charAt(0)));
+            for (String s : new String[] {"a1", "b1", "b2", "a2", "b3", "b4", "c1"}) top.offer(s);
+            SimpleArrayList<String> kept = top.drain();
+            checkEquals("c1,b1,b2", String.join(",", kept), "stable selection");
+        });
+
+        test("top k: k of 0 or more than offered", () -> {
+            TopK<Integer> none = new TopK<>(0, Comparator.naturalOrder());
+            check(!none.offer(5), "nothing kept");
+            checkEquals(0, none.drain().size(), "empty");
+            TopK<Integer> all = new TopK<>(10, Comparator.reverseOrder());
+            for (int i = 0; i < 4; i++) all.offer(i);
+            SimpleArrayList<Integer> smallest = all.drain();
+            checkEquals(4, smallest.size(), "all kept");
+            checkEquals(0, smallest.get(0), "reversed order gives the smallest first");
+            checkEquals(3, smallest.get(3), "largest last");
+            checkThrows(IllegalArgumentException.class, () -> new TopK<Integer>(-1, Comparator.naturalOrder()), "negative k");
+        });
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * TrigramIndexTest.java
+ *
+ * Unit tests for the approximate string matcher TrigramIndex.
+ *
+ * @author Group 68, University of Ghana
+ * @version 1.0
+ * @since 2025
+ */
+package app.util;
+
+import static app.TestSupport.*;
+
+public class TrigramIndexTest {
+    static TrigramIndex vocabulary(String... words) {
+        TrigramIndex index = new TrigramIndex();
+        for (String word : words) index.add(word);
+        return index;
+    }
+
+    static String words(SimpleArrayList<TrigramIndex.Match> matches) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < matches.size(); i++) {
+            sb.append(i == 0 ? "" : ",").append(matches.get(i).getWord()).append(':').append(matches.get(i).getDistance());
+        }
+        return sb.toString();
+    }
+
+    public static void run() {
+        test("trigram index: adjacent swaps are found within one edit", () -> {
+            TrigramIndex index = vocabulary("sand", "paint", "cement", "labour", "roofing");
+            checkEquals("sand:1", words(index.search("snad", 1)), "snad");
+            // Shares one of five trigrams with "paint": only the n - 4d bound keeps it
+            checkEquals("paint:1", words(index.search("piant", 1)), "piant");
+            checkEquals("cement:1", words(index.search("cmeent", 1)), "cmeent");
+        });
+
+        test("trigram index: insertions, deletions and substitutions", () -> {
+            TrigramIndex index = vocabulary("cement", "labour", "roofing", "timber");
+            checkEquals("cement:1", words(index.search("cemment", 1)), "insertion");
+            checkEquals("labour:1", words(index.search("labor", 1)), "deletion");
+            checkEquals("timber:1", words(index.search("timmer", 1)), "substitution");
+            checkEquals("roofing:2", words(index.search("rofin", 2)), "two deletions");
+            checkEquals("", words(index.search("rofin", 1)), "beyond the bound");
+            checkEquals("", words(index.search("", 2)), "empty query");
+        });
+
+        test("trigram index: closest first, then in the order added", () -> {
+            TrigramIndex index = vocabulary("cart", "card", "care", "car");
+            checkEquals("card:0,cart:1,care:1,car:1", words(index.search("card", 1)), "order");
+            check(!index.add("card"), "duplicate ignored");
+            checkEquals(4, index.size(), "size");
+        });
+
+        test("trigram index: bounded distance and the default bound", () -> {
+            checkEquals(0, TrigramIndex.distance("paint", "paint", 2), "equal");
+            checkEquals(1, TrigramIndex.distance("paint", "piant", 2), "swap");
+            checkEquals(2, TrigramIndex.distance("kitten", "sitting", 1), "max + 1 past the bound");
+            checkEquals(3, TrigramIndex.distance("kitten", "sitting", 5), "exact distance");
+            checkEquals(0, TrigramIndex.maxDistanceFor(2), "short words are exact");
+            checkEquals(1, TrigramIndex.maxDistanceFor(5), "one edit up to five letters");
+            checkEquals(2, TrigramIndex.maxDistanceFor(6), "two edits beyond");
+        });
+    }
+}